@@ -34,7 +34,7 @@ public class BrandController {
     @RequestMapping(method = RequestMethod.POST, value = "/register")
     public ResponseEntity register(
             @RequestPart(value = "brand") @Valid PostRegisterBrandReq postRegisterBrandReq,
-            @RequestPart(value = "brandImage") @NotNull MultipartFile brandFile) {
+            @RequestPart(value = "brandImage", required = false) MultipartFile brandFile) {
         BaseRes baseRes = brandService.register(postRegisterBrandReq, brandFile);
 
         return ResponseEntity.ok().body(baseRes);
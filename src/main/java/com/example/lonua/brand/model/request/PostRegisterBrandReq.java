@@ -73,4 +73,7 @@ public class PostRegisterBrandReq {
     @ApiModelProperty(value = "반품 택배사", example = "CJ대한통운", required = true)
     private String returnCourier;
 
+    @ApiModelProperty(value = "직접 업로드 후 확인받은 브랜드 이미지 URL (brandImage 파일 대신 사용)")
+    private String brandImage;
+
 }
@@ -0,0 +1,39 @@
+package com.example.lonua.brand.service;
+
+import com.example.lonua.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 브랜드 전체 목록 캐시(CacheConfig.BRAND_CATALOG) 무효화
+// @CacheEvict 는 트랜잭션 어드바이스와 순서가 정해져 있지 않아 커밋 전에 실행될 수 있고,
+// 그 사이 listAll 이 변경 전 데이터를 다시 캐싱하면 TTL 동안 남으므로 커밋 이후에 비운다.
+@Component
+@RequiredArgsConstructor
+public class BrandCatalogCache {
+
+    private final CacheManager cacheManager;
+
+    public void evict() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    private void clear() {
+        Cache cache = cacheManager.getCache(CacheConfig.BRAND_CATALOG);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -10,13 +10,19 @@ import com.example.lonua.brand.model.entity.Brand;
 import com.example.lonua.brand.model.response.*;
 import com.example.lonua.brand.repository.BrandRepository;
 import com.example.lonua.common.BaseRes;
-import com.example.lonua.product.model.entity.Product;
+import com.example.lonua.common.image.ImageVariantService;
+import com.example.lonua.common.storage.S3ObjectCleaner;
+import com.example.lonua.config.CacheConfig;
 import com.example.lonua.product.repository.ProductCountRepository;
 import com.example.lonua.product.repository.ProductImageRepository;
 import com.example.lonua.product.repository.ProductIntrodImageRepository;
 import com.example.lonua.product.repository.ProductRepository;
+import com.example.lonua.product.service.ProductCountBuffer;
+import com.example.lonua.upload.model.UploadTarget;
+import com.example.lonua.upload.service.UploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,7 +37,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,6 +49,10 @@ public class BrandService {
 
     @Value("${cloud.aws.s3.brand-bucket}")
     private String brandBucket;
+    @Value("${cloud.aws.s3.product-bucket}")
+    private String productBucket;
+    @Value("${cloud.aws.s3.productIntrod-bucket}")
+    private String productIntrodBucket;
 
     private final AmazonS3 s3;
     private final BrandRepository brandRepository;
@@ -48,6 +60,11 @@ public class BrandService {
     private final ProductImageRepository productImageRepository;
     private final ProductIntrodImageRepository productIntrodImageRepository;
     private final ProductCountRepository productCountRepository;
+    private final ProductCountBuffer productCountBuffer;
+    private final S3ObjectCleaner s3ObjectCleaner;
+    private final ImageVariantService imageVariantService;
+    private final UploadService uploadService;
+    private final BrandCatalogCache brandCatalogCache;
 
     public String makeFolder(){
         String str = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
@@ -92,7 +109,8 @@ public class BrandService {
 
     public BaseRes register(PostRegisterBrandReq postRegisterBrandReq, MultipartFile brandFile) {
 
-        String saveFileName = saveFile(brandFile);
+        // 이미지 파일 대신 직접 업로드한 URL 을 받을 수 있다.
+        String saveFileName = brandFile != null ? saveFile(brandFile) : uploadService.verifyUploaded(UploadTarget.BRAND, postRegisterBrandReq.getBrandImage());
 
         if(!brandRepository.findByBrandName(postRegisterBrandReq.getBrandName()).isPresent()) {
             Brand brand = Brand.builder()
@@ -114,6 +132,8 @@ public class BrandService {
                     .build();
 
             Brand result = brandRepository.save(brand);
+            brandCatalogCache.evict();
+            imageVariantService.requestVariants(brandBucket, List.of(result.getBrandImage()));
 
             PostRegisterBrandRes response = PostRegisterBrandRes.builder()
                     .brandName(result.getBrandName())
@@ -209,6 +229,7 @@ public class BrandService {
 
     @Transactional
     public BaseRes update(PatchUpdateBrandReq patchUpdateBrandReq, MultipartFile brandFile) {
+        brandCatalogCache.evict();  // 커밋 후 무효화
 
         Optional<Brand> result = brandRepository.findByBrandIdx(patchUpdateBrandReq.getBrandIdx());
 
@@ -225,6 +246,7 @@ public class BrandService {
                 brand.update(patchUpdateBrandReq, saveFileName.replace(File.separator, "/"));
                 brand.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")));
                 brandRepository.save(brand);
+                imageVariantService.requestVariants(brandBucket, List.of(brand.getBrandImage()));
 
 
                 PatchUpdateBrandRes patchUpdateBrandRes = PatchUpdateBrandRes.builder()
@@ -283,36 +305,14 @@ public class BrandService {
         }
     }
 
+    // 브랜드 상품을 상품 단위로 반복하지 않고 테이블별 DELETE 한 번씩으로 삭제한다.
+    // S3 이미지(원본, 썸네일/압축본)는 커밋 후 비동기로 일괄 삭제한다.
     @Transactional
     public BaseRes delete(Integer idx) {
-        List<Product> productList = productRepository.findAllByBrand_BrandIdx(idx);
+        brandCatalogCache.evict();  // 커밋 후 무효화
+        Optional<Brand> brandResult = brandRepository.findByBrandIdx(idx);
 
-        for(Product product : productList) {
-            Integer result1 = productImageRepository.deleteAllByProduct_ProductIdx(product.getProductIdx());
-            Integer result2 = productIntrodImageRepository.deleteAllByProduct_ProductIdx(product.getProductIdx());
-            Integer result3 = productCountRepository.deleteByProduct_ProductIdx(product.getProductIdx());
-            Integer result4 = productRepository.deleteByProductIdx(product.getProductIdx());
-
-            if(result1.equals(0) || result2.equals(0) || result3.equals(0) || result4.equals(0)) {
-                return BaseRes.builder()
-                        .code(400)
-                        .isSuccess(false)
-                        .message("요청 실패")
-                        .result("요청을 수행할 수 없습니다.")
-                        .build();
-            }
-        }
-
-        Integer result = brandRepository.deleteByBrandIdx(idx);
-
-        if(!result.equals(0)) {
-            return BaseRes.builder()
-                    .code(200)
-                    .isSuccess(true)
-                    .message("요청 성공")
-                    .result("브랜드가 삭제되었습니다.")
-                    .build();
-        } else {
+        if(brandResult.isEmpty()) {
             return BaseRes.builder()
                     .code(400)
                     .isSuccess(false)
@@ -320,38 +320,54 @@ public class BrandService {
                     .result("브랜드를 찾을 수 없습니다.")
                     .build();
         }
+
+        List<String> productImageList = productImageRepository.findAllProductImageByBrandIdx(idx);
+        List<String> productIntrodImageList = productIntrodImageRepository.findAllProductIntrodImageByBrandIdx(idx);
+
+        productImageRepository.deleteAllByBrandIdx(idx);
+        productIntrodImageRepository.deleteAllByBrandIdx(idx);
+        productCountRepository.deleteAllByBrandIdx(idx);
+        productRepository.deleteAllByBrandIdx(idx);
+        brandRepository.deleteByBrandIdx(idx);
+
+        s3ObjectCleaner.deleteAfterCommit(productBucket, productImageList);
+        s3ObjectCleaner.deleteAfterCommit(productIntrodBucket, productIntrodImageList);
+        s3ObjectCleaner.deleteAfterCommit(brandBucket, List.of(brandResult.get().getBrandImage()));
+        imageVariantService.deleteVariants(productBucket, productImageList);
+        imageVariantService.deleteVariants(productIntrodBucket, productIntrodImageList);
+        imageVariantService.deleteVariants(brandBucket, List.of(brandResult.get().getBrandImage()));
+
+        return BaseRes.builder()
+                .code(200)
+                .isSuccess(true)
+                .message("요청 성공")
+                .result("브랜드가 삭제되었습니다.")
+                .build();
     }
 
+    // 브랜드 전체 조회 1회 + 브랜드 상품 전체 조회 1회 후 브랜드별로 묶는다.
+    // 결과는 캐시하며 브랜드/상품 등록, 수정, 삭제 시 무효화된다. (좋아요 수는 캐시 만료 시간만큼 늦게 반영될 수 있음)
+    @Cacheable(value = CacheConfig.BRAND_CATALOG, key = "'all'")
+    @Transactional(readOnly = true)
     public BaseRes listAll() {
 
-//        Pageable pageable = PageRequest.of(page-1, size);
         List<Brand> brandList = brandRepository.findAll();
 
+        Map<Integer, List<GetBrandProductRes>> brandProductMap = new HashMap<>();
+        for (GetBrandProductRes getBrandProductRes : productRepository.findBrandProductList()) {
+            getBrandProductRes.setLikeCount(productCountBuffer.getLikeCount(getBrandProductRes.getProductIdx(), getBrandProductRes.getLikeCount()));
+            brandProductMap.computeIfAbsent(getBrandProductRes.getBrandIdx(), brandIdx -> new ArrayList<>()).add(getBrandProductRes);
+        }
+
         List<GetListAllBrandRes> getListAllBrandResList = new ArrayList<>();
         for (Brand brand : brandList) {
-            List<Product> productList = productRepository.findAllByBrand_BrandIdx(brand.getBrandIdx());
-
-            List<GetBrandProductRes> getBrandProductResList = new ArrayList<>();
-            for(Product product : productList) {
-                GetBrandProductRes getBrandProductRes = GetBrandProductRes.builder()
-                        .productIdx(product.getProductIdx())
-                        .brandIdx(product.getBrand().getBrandIdx())
-                        .productName(product.getProductName())
-                        .productImage(product.getProductImageList().get(0).getProductImage())
-                        .price(product.getPrice())
-                        .salePrice(product.getSalePrice())
-                        .likeCount(product.getProductCount().getLikeCount())
-                        .build();
-
-                getBrandProductResList.add(getBrandProductRes);
-            }
             GetListAllBrandRes getListAllBrandRes = GetListAllBrandRes.builder()
                     .brandIdx(brand.getBrandIdx())
                     .brandName(brand.getBrandName())
                     .brandImage(brand.getBrandImage())
                     .brandIntroduction(brand.getBrandIntroduction())
                     .brandStyle(brand.getBrandStyle())
-                    .getBrandProductResList(getBrandProductResList)
+                    .getBrandProductResList(brandProductMap.getOrDefault(brand.getBrandIdx(), new ArrayList<>()))
                     .build();
 
             getListAllBrandResList.add(getListAllBrandRes);
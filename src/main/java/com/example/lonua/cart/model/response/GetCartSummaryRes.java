@@ -0,0 +1,17 @@
+package com.example.lonua.cart.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class GetCartSummaryRes {
+    private Long cartCount;
+    private Long priceTotal;
+    private Long salePriceTotal;
+    private Long discountTotal;
+}
@@ -0,0 +1,18 @@
+package com.example.lonua.cart.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class GetPageCartRes {
+    private List<GetCartListRes> cartList;
+    private Long totalCount;  // 장바구니 전체 상품 수
+    private Boolean hasNext;
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+
 
 public interface CartRepository extends JpaRepository<Cart, Integer>, CartRepositoryCustom {
 
@@ -14,4 +16,8 @@ public interface CartRepository extends JpaRepository<Cart, Integer>, CartReposi
     void deleteAllByUserIdx(Integer userIdx);
 
     public Integer deleteByCartIdx(Integer idx);
+
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.user.userIdx = :userIdx AND c.cartIdx IN :cartIdxList")
+    Integer deleteAllByUserIdxAndCartIdxIn(Integer userIdx, Collection<Integer> cartIdxList);
 }
@@ -1,14 +1,12 @@
 package com.example.lonua.cart.repository.querydsl;
 
-import com.example.lonua.cart.model.entity.Cart;
-import com.example.lonua.common.BaseRes;
-import com.querydsl.core.Tuple;
+import com.example.lonua.cart.model.response.GetCartListRes;
+import com.example.lonua.cart.model.response.GetCartSummaryRes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
-
 public interface CartRepositoryCustom {
-    public Page<Cart> findList(Pageable pageable, Integer userIdx);
+    public Page<GetCartListRes> findList(Pageable pageable, Integer userIdx);
 
+    public GetCartSummaryRes findSummary(Integer userIdx);
 }
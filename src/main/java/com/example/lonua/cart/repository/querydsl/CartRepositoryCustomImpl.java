@@ -4,21 +4,18 @@ import com.example.lonua.brand.model.entity.QBrand;
 import com.example.lonua.cart.model.entity.Cart;
 import com.example.lonua.cart.model.entity.QCart;
 
-import com.example.lonua.orders.model.entity.QOrders;
-import com.example.lonua.orders.model.entity.QOrdersProduct;
+import com.example.lonua.cart.model.response.GetCartListRes;
+import com.example.lonua.cart.model.response.GetCartSummaryRes;
 import com.example.lonua.product.model.entity.QProduct;
-import com.example.lonua.product.model.entity.QProductCount;
-import com.example.lonua.user.model.entity.QUser;
 
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class CartRepositoryCustomImpl extends QuerydslRepositorySupport implements CartRepositoryCustom {
 
@@ -26,28 +23,63 @@ public class CartRepositoryCustomImpl extends QuerydslRepositorySupport implemen
         super(Cart.class);
     }
 
-
+    // 장바구니 상품 카드를 DTO 로 바로 조회 (컬렉션 조인이 없으므로 offset/limit 을 DB 에서 처리)
+    // 대표 이미지는 Product 에 비정규화된 컬럼을 사용하고, 전체 개수는 별도의 count 쿼리로 조회한다.
     @Override
-    public Page<Cart> findList(Pageable pageable, Integer userIdx) {
+    public Page<GetCartListRes> findList(Pageable pageable, Integer userIdx) {
         QCart cart = new QCart("cart");
         QProduct product = new QProduct("product");
-        QProductCount productCount = new QProductCount("productCount");
-        QUser user = new QUser("user");
         QBrand brand = new QBrand("brand");
 
-        List<Cart> result = from(cart)
-                .leftJoin(cart.product, product).fetchJoin()
-                .leftJoin(cart.user, user).fetchJoin()
-                .leftJoin(product.productCount, productCount).fetchJoin()
-                .leftJoin(product.brand, brand).fetchJoin()
-                .leftJoin(user.ordersList).fetchJoin()
-                .where(user.userIdx.eq(userIdx))
-                .distinct()
+        List<GetCartListRes> result = from(cart)
+                .join(cart.product, product)
+                .leftJoin(product.brand, brand)
+                .where(cart.user.userIdx.eq(userIdx))
+                .orderBy(cart.cartIdx.desc())
+                .select(Projections.constructor(GetCartListRes.class,
+                        cart.cartIdx,
+                        brand.brandName,
+                        product.productIdx,
+                        product.productName,
+                        product.thumbnailImage.coalesce(product.primaryImage),
+                        product.price,
+                        product.salePrice))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch().stream().distinct().collect(Collectors.toList());
+                .fetch();
+
+        return PageableExecutionUtils.getPage(result, pageable, () -> from(cart)
+                .where(cart.user.userIdx.eq(userIdx))
+                .select(cart.count())
+                .fetchOne());
+    }
+
+    // 장바구니 배지/합계용 집계 (상품 수와 금액 합계를 DB 에서 계산)
+    @Override
+    public GetCartSummaryRes findSummary(Integer userIdx) {
+        QCart cart = new QCart("cart");
+        QProduct product = new QProduct("product");
+
+        Tuple result = from(cart)
+                .join(cart.product, product)
+                .where(cart.user.userIdx.eq(userIdx))
+                .select(cart.count(), product.price.sum(), product.salePrice.sum())
+                .fetchOne();
 
-        return new PageImpl<>(result, pageable, result.size());
+        // SUM 결과 타입은 DB/Hibernate 에 따라 달라지므로 Number 로 받아서 변환 (장바구니가 비어 있으면 null)
+        long cartCount = toLong(result == null ? null : result.get(0, Number.class));
+        long priceTotal = toLong(result == null ? null : result.get(1, Number.class));
+        long salePriceTotal = toLong(result == null ? null : result.get(2, Number.class));
+
+        return GetCartSummaryRes.builder()
+                .cartCount(cartCount)
+                .priceTotal(priceTotal)
+                .salePriceTotal(salePriceTotal)
+                .discountTotal(priceTotal - salePriceTotal)
+                .build();
     }
 
+    private static long toLong(Number value) {
+        return value == null ? 0L : value.longValue();
+    }
 }
@@ -4,13 +4,13 @@ import com.example.lonua.cart.model.entity.Cart;
 import com.example.lonua.cart.model.request.DeleteCartRemoveReq;
 import com.example.lonua.cart.model.request.PostCartRegisterReq;
 import com.example.lonua.cart.model.response.GetCartListRes;
+import com.example.lonua.cart.model.response.GetCartSummaryRes;
+import com.example.lonua.cart.model.response.GetPageCartRes;
 import com.example.lonua.cart.model.response.PostCartRegisterRes;
 import com.example.lonua.cart.repository.CartRepository;
 import com.example.lonua.common.BaseRes;
 import com.example.lonua.product.model.entity.Product;
-import com.example.lonua.product.model.entity.QProduct;
 import com.example.lonua.user.model.entity.User;
-import com.querydsl.core.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -20,8 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -62,28 +60,29 @@ public class CartService {
     public BaseRes list(User user, Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page-1, size);
 
-        Page<Cart> cartList = cartRepository.findList(pageable, user.getUserIdx());
-//        Page<Cart> cartList = cartRepository.findAll(pageable);
-        List<GetCartListRes> getListResCartList = new ArrayList<>();
-
-        for (Cart cart : cartList) {
-            GetCartListRes build = GetCartListRes.builder()
-                    .cartIdx(cart.getCartIdx())
-                    .brandName(cart.getProduct().getBrand().getBrandName())
-                    .productIdx(cart.getProduct().getProductIdx())
-                    .productName(cart.getProduct().getProductName())
-                    .productImage(cart.getProduct().getProductImageList().get(0).getProductImage())
-                    .price(cart.getProduct().getPrice())
-                    .salePrice(cart.getProduct().getSalePrice())
-                    .build();
-            getListResCartList.add(build);
-        }
+        Page<GetCartListRes> cartList = cartRepository.findList(pageable, user.getUserIdx());
+
+        return BaseRes.builder()
+                .code(200)
+                .isSuccess(true)
+                .message("요청 성공")
+                .result(GetPageCartRes.builder()
+                        .cartList(cartList.getContent())
+                        .totalCount(cartList.getTotalElements())
+                        .hasNext(cartList.hasNext())
+                        .build())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public BaseRes summary(User user) {
+        GetCartSummaryRes getCartSummaryRes = cartRepository.findSummary(user.getUserIdx());
 
         return BaseRes.builder()
                 .code(200)
                 .isSuccess(true)
                 .message("요청 성공")
-                .result(getListResCartList)
+                .result(getCartSummaryRes)
                 .build();
     }
 
@@ -44,9 +44,24 @@ public enum ErrorCode {
 
     // 상품
     PRODUCT_NOT_EXISTS(HttpStatus.NOT_FOUND, "PRDOCUT-001", "상품을 찾을 수 없는 경우"),
+    INVALID_PRODUCT_CURSOR(HttpStatus.BAD_REQUEST, "PRODUCT-002", "상품 목록 조회 커서가 유효하지 않은 경우"),
+    PRODUCT_OUT_OF_STOCK(HttpStatus.CONFLICT, "PRODUCT-003", "상품 재고가 부족한 경우"),
 
     // 주문
     ORDERS_NOT_EXISTS(HttpStatus.NOT_FOUND, "ORDERS-001", "주문번호를 찾을 수 없는 경우"),
+    PAYMENT_GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "ORDERS-002", "결제 대행사 응답이 제한 시간을 초과한 경우"),
+    PAYMENT_GATEWAY_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "ORDERS-003", "결제 대행사 호출 대기열이 가득 찬 경우"),
+    DUPLICATE_ORDERS_REQUEST(HttpStatus.CONFLICT, "ORDERS-004", "같은 결제로 주문 요청이 처리 중이거나 다른 회원의 결제인 경우"),
+
+    // 파일 저장소
+    STORAGE_UPLOAD_FAILED(HttpStatus.BAD_GATEWAY, "STORAGE-001", "파일 저장소(S3) 업로드에 실패하거나 제한 시간을 초과한 경우"),
+    STORAGE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "STORAGE-002", "파일 업로드 대기열이 가득 찬 경우"),
+
+    // 직접 업로드 (Presigned URL)
+    UPLOAD_NOT_EXISTS(HttpStatus.NOT_FOUND, "UPLOAD-001", "업로드 완료를 확인할 파일이 저장소에 없는 경우"),
+    INVALID_UPLOAD_FILE(HttpStatus.BAD_REQUEST, "UPLOAD-002", "업로드 파일의 형식, 크기 또는 위치가 허용되지 않는 경우"),
+    FORBIDDEN_UPLOAD_TARGET(HttpStatus.FORBIDDEN, "UPLOAD-003", "업로드 대상에 대한 권한이 없는 경우"),
+    FOREIGN_UPLOAD_KEY(HttpStatus.FORBIDDEN, "UPLOAD-004", "다른 사용자에게 발급된 업로드 key(URL)를 사용한 경우"),
 
     // 스타일
     DUPLICATE_STYLE_TYPE(HttpStatus.BAD_REQUEST, "STYLE-001", "스타일 유형이 중복된 경우"),
@@ -0,0 +1,23 @@
+package com.example.lonua.common.error.exception;
+
+import com.example.lonua.common.error.ErrorCode;
+
+public class StorageUploadException extends BusinessException {
+    public StorageUploadException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static StorageUploadException forFailed(String bucket, Throwable cause) {
+        StorageUploadException exception = new StorageUploadException(ErrorCode.STORAGE_UPLOAD_FAILED, String.format("Upload to bucket [ %s ] failed.", bucket));
+        exception.initCause(cause);
+        return exception;
+    }
+
+    public static StorageUploadException forTimeout(String bucket) {
+        return new StorageUploadException(ErrorCode.STORAGE_UPLOAD_FAILED, String.format("Upload to bucket [ %s ] timed out.", bucket));
+    }
+
+    public static StorageUploadException forBusy(String bucket) {
+        return new StorageUploadException(ErrorCode.STORAGE_BUSY, String.format("Upload to bucket [ %s ] was rejected.", bucket));
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.lonua.common.image;
+
+import com.example.lonua.common.image.model.entity.ImageVariant;
+import com.example.lonua.common.image.repository.ImageVariantRepository;
+import com.example.lonua.common.storage.ImageStorage;
+import com.example.lonua.common.storage.S3ObjectCleaner;
+import com.example.lonua.config.ExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 업로드된 이미지의 썸네일(목록 카드용)과 압축본(상세 화면용)을 만들어 원본과 같은 버킷에 저장한다.
+// 원본 업로드 요청은 변환을 기다리지 않고, 커밋 이후 파생본 전용 스레드 풀(imageExecutor)에서 처리한다.
+// 변환에 실패해도 화면은 원본 이미지로 대체되므로 로그만 남긴다.
+// 원본을 삭제할 때는 deleteVariants 로 파생본 행과 객체도 함께 정리한다.
+@Slf4j
+@Component
+public class ImageVariantService {
+
+    private static final String THUMBNAIL_PREFIX = "thumbnail/";
+    private static final String COMPRESSED_PREFIX = "compressed/";
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final ImageStorage imageStorage;
+    private final ImageVariantRepository imageVariantRepository;
+    private final S3ObjectCleaner s3ObjectCleaner;
+    private final ThreadPoolTaskExecutor imageExecutor;
+    private final Integer thumbnailSize;
+    private final Integer compressedMaxSize;
+    private final Float jpegQuality;
+    private final Long maxPixels;
+    private final Long maxBytes;
+
+    public ImageVariantService(ImageStorage imageStorage,
+                               ImageVariantRepository imageVariantRepository,
+                               S3ObjectCleaner s3ObjectCleaner,
+                               @Qualifier(ExecutorConfig.IMAGE_EXECUTOR) ThreadPoolTaskExecutor imageExecutor,
+                               @Value("${storage.image.variant.thumbnail-size:300}") Integer thumbnailSize,
+                               @Value("${storage.image.variant.compressed-max-size:1080}") Integer compressedMaxSize,
+                               @Value("${storage.image.variant.jpeg-quality:0.8}") Float jpegQuality,
+                               @Value("${storage.image.variant.max-pixels:40000000}") Long maxPixels,
+                               @Value("${upload.max-size-bytes:20971520}") Long maxBytes) {
+        this.imageStorage = imageStorage;
+        this.imageVariantRepository = imageVariantRepository;
+        this.s3ObjectCleaner = s3ObjectCleaner;
+        this.imageExecutor = imageExecutor;
+        this.thumbnailSize = thumbnailSize;
+        this.compressedMaxSize = compressedMaxSize;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.maxBytes = maxBytes;
+    }
+
+    public void requestVariants(String bucket, List<String> urls) {
+        requestVariants(bucket, urls, variant -> { });
+    }
+
+    // 트랜잭션이 커밋된 뒤에 변환을 시작하고, 파생본이 저장되면 onCreated 를 호출한다. (예: 상품 썸네일 컬럼 갱신)
+    public void requestVariants(String bucket, List<String> urls, Consumer<ImageVariant> onCreated) {
+        if (urls == null || urls.isEmpty()) {
+            return;
+        }
+
+        List<String> targets = new ArrayList<>(urls);
+        Runnable task = () -> {
+            for (String url : targets) {
+                try {
+                    imageExecutor.execute(() -> process(bucket, url, onCreated));
+                } catch (TaskRejectedException e) {
+                    log.warn("Image variant request rejected. bucket={}, url={}", bucket, url);
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 원본을 읽어 썸네일/압축본을 저장하고 결과 URL 을 기록한다.
+    public ImageVariant createVariants(String bucket, String url) throws IOException {
+        String key = imageStorage.keyOf(bucket, url);
+        BufferedImage original = ImageResizer.decode(imageStorage.read(bucket, url, maxBytes), Math.max(thumbnailSize, compressedMaxSize), maxPixels);
+
+        BufferedImage thumbnail = ImageResizer.resize(original, thumbnailSize);
+        String thumbnailImage = imageStorage.write(bucket, THUMBNAIL_PREFIX + toJpegKey(key),
+                ImageResizer.toJpeg(thumbnail, jpegQuality), "image/jpeg");
+
+        BufferedImage compressed = ImageResizer.resize(original, compressedMaxSize);
+        String compressedImage = imageStorage.write(bucket, COMPRESSED_PREFIX + toJpegKey(key),
+                ImageResizer.toJpeg(compressed, jpegQuality), "image/jpeg");
+
+        return imageVariantRepository.save(ImageVariant.builder()
+                .originalImage(url)
+                .thumbnailImage(thumbnailImage)
+                .compressedImage(compressedImage)
+                .createdAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")))
+                .build());
+    }
+
+    // 원본 삭제 트랜잭션 안에서 호출, 파생본 행을 지우고 파생본 객체는 커밋 후 S3ObjectCleaner 로 삭제한다.
+    public void deleteVariants(String bucket, List<String> urls) {
+        if (urls == null || urls.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < urls.size(); from += DELETE_CHUNK_SIZE) {
+            List<String> chunk = urls.subList(from, Math.min(from + DELETE_CHUNK_SIZE, urls.size()));
+            List<String> variantUrls = new ArrayList<>();
+            for (ImageVariant variant : imageVariantRepository.findAllByOriginalImageIn(chunk)) {
+                variantUrls.add(variant.getThumbnailImage());
+                variantUrls.add(variant.getCompressedImage());
+            }
+
+            if (!variantUrls.isEmpty()) {
+                imageVariantRepository.deleteAllByOriginalImageIn(chunk);
+                s3ObjectCleaner.deleteAfterCommit(bucket, variantUrls);
+            }
+        }
+    }
+
+    private void process(String bucket, String url, Consumer<ImageVariant> onCreated) {
+        try {
+            onCreated.accept(createVariants(bucket, url));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image variant creation failed. bucket={}, url={}", bucket, url, e);
+        }
+    }
+
+    // 2024/01/14/uuid_name.png -> 2024/01/14/uuid_name.jpg
+    private static String toJpegKey(String key) {
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        return (dot > slash ? key.substring(0, dot) : key) + ".jpg";
+    }
+}
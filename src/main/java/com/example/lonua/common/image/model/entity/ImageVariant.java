@@ -0,0 +1,28 @@
+package com.example.lonua.common.image.model.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// 업로드된 원본 이미지(URL)별 파생본 URL
+// 상품/상세/브랜드/리뷰 이미지 모두 원본 URL 을 키로 기록한다.
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ImageVariant {
+    @Id
+    @Column(length = 500)
+    private String originalImage;
+
+    @Column(nullable = false, length = 500)
+    private String thumbnailImage;
+
+    @Column(nullable = false, length = 500)
+    private String compressedImage;
+
+    @Column(nullable = false)
+    private String createdAt;
+}
@@ -0,0 +1,20 @@
+package com.example.lonua.common.image.repository;
+
+import com.example.lonua.common.image.model.entity.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, String> {
+
+    List<ImageVariant> findAllByOriginalImageIn(Collection<String> originalImageList);
+
+    @Modifying
+    @Query("DELETE FROM ImageVariant iv WHERE iv.originalImage IN :originalImageList")
+    Integer deleteAllByOriginalImageIn(Collection<String> originalImageList);
+}
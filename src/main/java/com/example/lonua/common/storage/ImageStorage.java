@@ -0,0 +1,17 @@
+package com.example.lonua.common.storage;
+
+import java.io.IOException;
+
+// 이미지 파생본(썸네일/압축본) 생성 시 원본을 읽고 결과를 저장하는 저장소
+// 운영은 S3, 로컬 개발/테스트는 파일 시스템 구현을 사용한다. (storage.image.type)
+public interface ImageStorage {
+
+    // 저장된 값(URL)으로 원본을 읽는다. maxBytes 보다 큰 객체는 메모리에 올리기 전에 IOException 으로 거절한다.
+    byte[] read(String bucket, String url, long maxBytes) throws IOException;
+
+    // key 위치에 저장하고 DB 에 기록할 URL 을 반환한다.
+    String write(String bucket, String key, byte[] content, String contentType) throws IOException;
+
+    // 저장된 값(URL)에서 객체 key 를 꺼낸다.
+    String keyOf(String bucket, String url);
+}
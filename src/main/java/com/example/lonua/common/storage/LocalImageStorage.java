@@ -0,0 +1,51 @@
+package com.example.lonua.common.storage;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// 로컬 개발/테스트용 파일 시스템 저장소 ({root}/{bucket}/{key}, URL 은 file: URI)
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+
+    public LocalImageStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public byte[] read(String bucket, String url, long maxBytes) throws IOException {
+        Path path = resolve(bucket, keyOf(bucket, url));
+        long size = Files.size(path);
+        if (size > maxBytes) {
+            throw new IOException("Image is too large : " + size + " bytes");
+        }
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public String write(String bucket, String key, byte[] content, String contentType) throws IOException {
+        Path path = resolve(bucket, key);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content);
+
+        return path.toUri().toString();
+    }
+
+    @Override
+    public String keyOf(String bucket, String url) {
+        Path path = url.startsWith("file:") ? Paths.get(URI.create(url)) : root.resolve(bucket).resolve(url);
+        return root.resolve(bucket).relativize(path.normalize()).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private Path resolve(String bucket, String key) {
+        Path bucketPath = root.resolve(bucket);
+        Path path = bucketPath.resolve(key).normalize();
+        if (!path.startsWith(bucketPath)) {
+            throw new IllegalArgumentException("Invalid key : " + key);
+        }
+        return path;
+    }
+}
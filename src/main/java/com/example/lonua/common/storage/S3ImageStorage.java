@@ -0,0 +1,54 @@
+package com.example.lonua.common.storage;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+public class S3ImageStorage implements ImageStorage {
+
+    private final AmazonS3 s3;
+
+    public S3ImageStorage(AmazonS3 s3) {
+        this.s3 = s3;
+    }
+
+    // presigned URL 은 확인 이후에도 만료 전까지 같은 key 에 다시 PUT 할 수 있으므로 읽는 시점에 크기를 다시 확인하고,
+    // 응답 헤더와 실제 길이가 다를 수 있으니 maxBytes 까지만 읽는다.
+    @Override
+    public byte[] read(String bucket, String url, long maxBytes) throws IOException {
+        try (S3Object object = s3.getObject(bucket, keyOf(bucket, url));
+             S3ObjectInputStream inputStream = object.getObjectContent()) {
+            long contentLength = object.getObjectMetadata().getContentLength();
+            if (contentLength > maxBytes) {
+                inputStream.abort();  // 남은 본문을 끝까지 받지 않고 연결을 끊는다.
+                throw new IOException("Image is too large : " + contentLength + " bytes");
+            }
+
+            byte[] content = inputStream.readNBytes(Math.toIntExact(maxBytes) + 1);
+            if (content.length > maxBytes) {
+                inputStream.abort();
+                throw new IOException("Image is too large : over " + maxBytes + " bytes");
+            }
+            return content;
+        }
+    }
+
+    @Override
+    public String write(String bucket, String key, byte[] content, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+
+        s3.putObject(bucket, key, new ByteArrayInputStream(content), metadata);
+        return s3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public String keyOf(String bucket, String url) {
+        return S3ObjectCleaner.toKey(s3.getUrl(bucket, "").toString(), url);
+    }
+}
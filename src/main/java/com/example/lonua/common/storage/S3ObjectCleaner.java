@@ -0,0 +1,91 @@
+package com.example.lonua.common.storage;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.example.lonua.config.ExecutorConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// DB 에서 삭제된 이미지의 S3 객체를 트랜잭션 커밋 후 비동기로 일괄 삭제한다.
+// DeleteObjects 한 번에 최대 1,000 개까지 삭제할 수 있으므로 1,000 개씩 나누어 요청한다.
+// 삭제에 실패하거나 작업 큐가 가득 차 거절된 객체는 로그만 남긴다. (DB 는 이미 삭제되었으므로 고아 객체로 남음)
+@Slf4j
+@Component
+public class S3ObjectCleaner {
+
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final AmazonS3 s3;
+    private final ThreadPoolTaskExecutor storageExecutor;
+
+    public S3ObjectCleaner(AmazonS3 s3, @Qualifier(ExecutorConfig.STORAGE_EXECUTOR) ThreadPoolTaskExecutor storageExecutor) {
+        this.s3 = s3;
+        this.storageExecutor = storageExecutor;
+    }
+
+    // 저장된 값(S3 URL 또는 key) 목록을 커밋 후 삭제
+    public void deleteAfterCommit(String bucket, List<String> urls) {
+        if (urls == null || urls.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(urls.size());
+        String bucketUrl = s3.getUrl(bucket, "").toString();
+        for (String url : urls) {
+            if (url != null && !url.isBlank()) {
+                keys.add(toKey(bucketUrl, url));
+            }
+        }
+
+        // 커밋 이후에는 요청을 실패시키지 않도록, 작업 큐가 가득 차 거절되면 로그만 남긴다.
+        Runnable task = () -> {
+            try {
+                storageExecutor.execute(() -> delete(bucket, keys));
+            } catch (TaskRejectedException e) {
+                log.warn("S3 delete request rejected. bucket={}, keys={}", bucket, keys.size());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void delete(String bucket, List<String> keys) {
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_REQUEST) {
+            List<String> batch = keys.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, keys.size()));
+            try {
+                s3.deleteObjects(new DeleteObjectsRequest(bucket)
+                        .withKeys(batch.toArray(new String[0]))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                log.warn("S3 delete partially failed. bucket={}, failed={}", bucket, e.getErrors().size(), e);
+            } catch (RuntimeException e) {
+                log.warn("S3 delete failed. bucket={}, keys={}", bucket, batch.size(), e);
+            }
+        }
+    }
+
+    // https://{bucket}.s3.{region}.amazonaws.com/2024/01/14/uuid_name.jpg -> 2024/01/14/uuid_name.jpg
+    static String toKey(String bucketUrl, String url) {
+        String key = url.startsWith(bucketUrl) ? url.substring(bucketUrl.length()) : url;
+        return URLDecoder.decode(key, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.lonua.common.storage;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.example.lonua.common.error.exception.StorageUploadException;
+import com.example.lonua.config.ExecutorConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 여러 파일을 스토리지 스레드 풀에서 동시에 S3 에 올린다.
+// DB 트랜잭션을 열기 전에 호출해서 업로드하는 동안 커넥션을 점유하지 않도록 하고,
+// 이후 DB 저장이 실패하면 S3ObjectCleaner 로 올린 객체를 지운다.
+// 크기가 multipart-threshold 이상인 파일은 TransferManager 가 멀티파트로 나누어 올린다.
+@Component
+public class S3Uploader {
+
+    private final AmazonS3 s3;
+    private final ThreadPoolTaskExecutor storageExecutor;
+    private final S3ObjectCleaner s3ObjectCleaner;
+    private final TransferManager transferManager;
+    private final Long timeoutMs;
+
+    public S3Uploader(AmazonS3 s3,
+                      @Qualifier(ExecutorConfig.STORAGE_EXECUTOR) ThreadPoolTaskExecutor storageExecutor,
+                      S3ObjectCleaner s3ObjectCleaner,
+                      @Value("${storage.upload.multipart-threshold-bytes:8388608}") Long multipartThreshold,
+                      @Value("${storage.upload.timeout-ms:30000}") Long timeoutMs) {
+        this.s3 = s3;
+        this.storageExecutor = storageExecutor;
+        this.s3ObjectCleaner = s3ObjectCleaner;
+        this.timeoutMs = timeoutMs;
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(s3)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withShutDownThreadPools(true)
+                .build();
+    }
+
+    // 모든 파일의 업로드를 시작만 하고 바로 반환 (결과 URL 은 입력 순서와 같다)
+    public CompletableFuture<List<String>> uploadAsync(String bucket, MultipartFile[] files) {
+        if (files == null || files.length == 0) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                futures.add(CompletableFuture.supplyAsync(() -> upload(bucket, file), storageExecutor));
+            }
+        } catch (TaskRejectedException e) {
+            cleanUp(bucket, futures);
+            throw StorageUploadException.forBusy(bucket);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((ignored, throwable) -> {
+                    if (throwable != null) {
+                        cleanUp(bucket, futures);
+                        throw StorageUploadException.forFailed(bucket, throwable);
+                    }
+
+                    List<String> urls = new ArrayList<>(futures.size());
+                    futures.forEach(future -> urls.add(future.join()));
+                    return urls;
+                });
+    }
+
+    // 업로드가 끝날 때까지 기다린다. (실패/시간 초과 시 이미 올라간 객체 정리는 호출한 쪽에서 discard 로 처리)
+    public List<String> await(String bucket, CompletableFuture<List<String>> upload) {
+        try {
+            return upload.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw StorageUploadException.forTimeout(bucket);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw StorageUploadException.forTimeout(bucket);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof StorageUploadException) {
+                throw (StorageUploadException) e.getCause();
+            }
+            throw StorageUploadException.forFailed(bucket, e.getCause());
+        }
+    }
+
+    // 업로드 이후 단계(DB 저장 등)가 실패했을 때 올린 객체를 지운다. (아직 진행 중이면 끝나는 대로 지움)
+    public void discard(String bucket, CompletableFuture<List<String>> upload) {
+        if (upload != null) {
+            upload.thenAccept(urls -> s3ObjectCleaner.deleteAfterCommit(bucket, urls));
+        }
+    }
+
+    private String upload(String bucket, MultipartFile file) {
+        String key = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd")) + "/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        metadata.setContentType(file.getContentType());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            transferManager.upload(bucket, key, inputStream, metadata).waitForCompletion();
+        } catch (IOException e) {
+            throw StorageUploadException.forFailed(bucket, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw StorageUploadException.forTimeout(bucket);
+        }
+
+        return s3.getUrl(bucket, key).toString();
+    }
+
+    // 일부 파일만 올라간 경우 성공한 객체를 지운다. (아직 진행 중인 업로드는 끝나는 대로 지움)
+    private void cleanUp(String bucket, List<CompletableFuture<String>> futures) {
+        for (CompletableFuture<String> future : futures) {
+            future.thenAccept(url -> s3ObjectCleaner.deleteAfterCommit(bucket, List.of(url)));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // AmazonS3 클라이언트는 다른 빈도 사용하므로 TransferManager 스레드 풀만 종료
+        transferManager.shutdownNow(false);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.lonua.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// spring.cache.caffeine.spec 과 다른 만료 정책이 필요한 캐시 등록
+@Configuration
+public class CacheConfig {
+
+    // 브랜드 전체 목록(브랜드별 상품 포함), 브랜드/상품 변경 시 전체 무효화
+    public static final String BRAND_CATALOG = "brandCatalog";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> brandCatalogCacheCustomizer(
+            @Value("${brand.catalog-cache.ttl-seconds:60}") Long ttlSeconds) {
+        return cacheManager -> cacheManager.registerCustomCache(BRAND_CATALOG, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build());
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.lonua.config;
 
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,13 +17,17 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
 public class DataSourceConfig {
 
     public static final String MASTER_DATASOURCE = "masterDataSource";
-    public static final String SLAVE_DATASOURCE = "slaveDataSource";
+    public static final String REPLICA_SELECTOR = "replicaSelector";
 
     @Bean(MASTER_DATASOURCE)
     @ConfigurationProperties(prefix = "spring.datasource.master.hikari")
@@ -27,25 +37,51 @@ public class DataSourceConfig {
                 .build();
     }
 
-    @Bean(SLAVE_DATASOURCE)
-    @ConfigurationProperties(prefix = "spring.datasource.slave.hikari")
-    public DataSource slaveDataSource() {
-        return DataSourceBuilder.create()
-                .type(HikariDataSource.class)
-                .build();
+    // 복제본 커넥션 풀은 선택기가 소유하고 종료 시 함께 닫는다.
+    @Bean(REPLICA_SELECTOR)
+    public ReplicaSelector replicaSelector(ReplicaDataSourceProperties replicaDataSourceProperties,
+                                           @Value("${replica.strategy:ROUND_ROBIN}") ReplicaSelector.Strategy strategy,
+                                           @Value("${replica.max-lag-seconds:5}") Long maxLagSeconds,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, HikariDataSource> replicaDataSources = new LinkedHashMap<>();
+        List<HikariConfig> replicas = replicaDataSourceProperties.getReplicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            HikariConfig config = replicas.get(i);
+            if (config.getPoolName() == null) {
+                config.setPoolName(key);
+            }
+
+            HikariDataSource dataSource = new HikariDataSource();
+            config.copyStateTo(dataSource);
+            // 빈이 아니라 자동 설정의 Hikari 메트릭 대상이 아니므로 직접 연결 (hikaricp.connections.* , pool 태그)
+            meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+            replicaDataSources.put(key, dataSource);
+        }
+
+        return new ReplicaSelector(replicaDataSources, strategy, maxLagSeconds);
     }
 
     @Bean
     @Primary
-    @DependsOn({MASTER_DATASOURCE, SLAVE_DATASOURCE})
+    @DependsOn({MASTER_DATASOURCE, REPLICA_SELECTOR})
     public DataSource routingDataSource(
             @Qualifier(MASTER_DATASOURCE) DataSource masterDataSource,
-            @Qualifier(SLAVE_DATASOURCE) DataSource slaveDataSource) {
+            ReplicaSelector replicaSelector,
+            @Value("${replica.read-your-writes-ms:3000}") Long readYourWritesMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(RoutingDataSource.MASTER, masterDataSource);
+        replicaSelector.forEachDataSource(targetDataSources::put);
 
         RoutingDataSource routingDataSource = new RoutingDataSource(
-                Map.of("master", masterDataSource, "slave", slaveDataSource),
-                masterDataSource
+                targetDataSources,
+                masterDataSource,
+                replicaSelector,
+                new ReadYourWritesWindow(readYourWritesMs),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
         );
         return new LazyConnectionDataSourceProxy(routingDataSource);
     }
-}
\ No newline at end of file
+}
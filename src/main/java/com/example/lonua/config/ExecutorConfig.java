@@ -0,0 +1,73 @@
+package com.example.lonua.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    public static final String PAYMENT_EXECUTOR = "paymentExecutor";
+    public static final String STORAGE_EXECUTOR = "storageExecutor";
+    public static final String IMAGE_EXECUTOR = "imageExecutor";
+
+    // 결제 대행사(Iamport) 호출 전용 스레드 풀
+    // 대기열이 가득 차면 즉시 거절하여 PG 지연이 요청 스레드와 DB 커넥션 풀로 번지지 않게 한다.
+    @Bean(name = PAYMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor paymentExecutor(
+            @Value("${payment.executor.core-size}") Integer coreSize,
+            @Value("${payment.executor.max-size}") Integer maxSize,
+            @Value("${payment.executor.queue-capacity}") Integer queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        return executor;
+    }
+
+    // S3 업로드/삭제 등 스토리지 작업용 스레드 풀
+    @Bean(name = STORAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor storageExecutor(
+            @Value("${storage.executor.core-size}") Integer coreSize,
+            @Value("${storage.executor.max-size}") Integer maxSize,
+            @Value("${storage.executor.queue-capacity}") Integer queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("storage-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 이미지 파생본(썸네일/압축본) 생성 전용 스레드 풀
+    // 디코딩/리사이즈는 CPU 를 오래 쓰므로, 요청 경로의 업로드가 쓰는 storageExecutor 대기열 앞을 막지 않도록 분리한다.
+    @Bean(name = IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${storage.image.variant.executor.core-size}") Integer coreSize,
+            @Value("${storage.image.variant.executor.max-size}") Integer maxSize,
+            @Value("${storage.image.variant.executor.queue-capacity}") Integer queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.lonua.config;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.example.lonua.common.storage.ImageStorage;
+import com.example.lonua.common.storage.LocalImageStorage;
+import com.example.lonua.common.storage.S3ImageStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class ImageStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "storage.image.type", havingValue = "s3", matchIfMissing = true)
+    public ImageStorage s3ImageStorage(AmazonS3 s3) {
+        return new S3ImageStorage(s3);
+    }
+
+    // 로컬 개발/테스트용 (S3 없이 파일 시스템에 파생본 저장)
+    @Bean
+    @ConditionalOnProperty(name = "storage.image.type", havingValue = "local")
+    public ImageStorage localImageStorage(@Value("${storage.image.local-root}") String localRoot) {
+        return new LocalImageStorage(Paths.get(localRoot));
+    }
+}
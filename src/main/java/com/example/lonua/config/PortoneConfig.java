@@ -4,6 +4,7 @@ import com.siot.IamportRestClient.IamportClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
 public class PortoneConfig {
@@ -14,7 +15,15 @@ public class PortoneConfig {
     private String apiSecretKey;
 
     @Bean
+    @Profile("!loadtest")
     public IamportClient iamportClient() {
         return new IamportClient(apiKey, apiSecretKey);
     }
+
+    // 부하 테스트 시 실제 PG 대신 사용하는 스텁
+    @Bean
+    @Profile("loadtest")
+    public IamportClient stubIamportClient(@Value("${payment.stub.latency-ms:50}") Long latencyMs) {
+        return new StubIamportClient(latencyMs);
+    }
 }
@@ -0,0 +1,129 @@
+package com.example.lonua.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+
+// 쓰기 트랜잭션을 커밋한 사용자는 일정 시간 동안 읽기도 master 에서 하도록 고정한다.
+// 쓰기 여부는 트랜잭션의 readOnly 속성이 아니라 커넥션에서 실제로 실행한 SQL(INSERT/UPDATE/DELETE 등)로 판단한다.
+// (예: 장바구니 추가 직후 목록 조회 시 복제 지연으로 빈 장바구니가 보이는 문제 방지)
+public class ReadYourWritesWindow {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(Long windowMs) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMs))
+                .build();
+    }
+
+    // 현재 트랜잭션이 커밋되면 로그인한 사용자를 기록
+    public void markWrite() {
+        String principal = currentPrincipal();
+        if (principal == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(principal, Boolean.TRUE);
+            }
+        });
+    }
+
+    // 커넥션을 감싸서 DML 이 처음 실행될 때 한 번만 markWrite 를 호출한다. (Hibernate, JdbcTemplate 모두 이 커넥션을 사용)
+    public Connection track(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    public boolean isPinned() {
+        String principal = currentPrincipal();
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    static boolean isWrite(String sql) {
+        String statement = sql.stripLeading();
+        // Hibernate 주석(/* insert ... */) 등 앞에 붙은 주석은 건너뛴다.
+        while (statement.startsWith("/*")) {
+            int end = statement.indexOf("*/");
+            if (end < 0) {
+                return false;
+            }
+            statement = statement.substring(end + 2).stripLeading();
+        }
+
+        String keyword = statement.length() > 7 ? statement.substring(0, 7) : statement;
+        keyword = keyword.toLowerCase(Locale.ROOT);
+        return keyword.startsWith("insert") || keyword.startsWith("update") || keyword.startsWith("delete")
+                || keyword.startsWith("replace") || keyword.startsWith("merge");
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private boolean marked;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            String name = method.getName();
+
+            // prepareStatement/prepareCall 은 SQL 을 바로 알 수 있고, createStatement 는 실행할 때 SQL 을 확인한다.
+            if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args != null && args[0] instanceof String) {
+                check((String) args[0]);
+            } else if (name.equals("createStatement") && result instanceof Statement) {
+                Statement statement = (Statement) result;
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                        (statementProxy, statementMethod, statementArgs) -> {
+                            if ((statementMethod.getName().startsWith("execute") || statementMethod.getName().equals("addBatch"))
+                                    && statementArgs != null && statementArgs.length > 0 && statementArgs[0] instanceof String) {
+                                check((String) statementArgs[0]);
+                            }
+                            return invokeTarget(statement, statementMethod, statementArgs);
+                        });
+            }
+            return result;
+        }
+
+        private void check(String sql) {
+            if (!marked && isWrite(sql)) {
+                marked = true;
+                markWrite();
+            }
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
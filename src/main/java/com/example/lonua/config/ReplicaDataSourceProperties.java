@@ -0,0 +1,18 @@
+package com.example.lonua.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// spring.datasource.replicas[n] : 읽기 전용 복제본(slave) 커넥션 풀 설정 목록
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<HikariConfig> replicas = new ArrayList<>();
+}
@@ -0,0 +1,124 @@
+package com.example.lonua.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+// 읽기 트랜잭션을 보낼 복제본 선택
+// 주기적으로 각 복제본의 복제 지연(Seconds_Behind_Source)을 확인해 지연이 크거나 복제가 멈춘 복제본은 제외하고,
+// 남은 복제본 중에서 라운드 로빈 또는 사용 중인 커넥션이 가장 적은 복제본을 고른다.
+// 선택할 수 있는 복제본이 없으면 null 을 반환하고, RoutingDataSource 는 master 로 보낸다.
+@Slf4j
+public class ReplicaSelector implements AutoCloseable {
+
+    public enum Strategy { ROUND_ROBIN, LEAST_CONNECTIONS }
+
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final Long maxLagSeconds;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaSelector(Map<String, HikariDataSource> replicaDataSources, Strategy strategy, Long maxLagSeconds) {
+        this.replicas = new ArrayList<>();
+        replicaDataSources.forEach((key, dataSource) -> this.replicas.add(new Replica(key, dataSource)));
+        this.strategy = strategy;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public String select() {
+        List<Replica> healthyReplicas = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthyReplicas.add(replica);
+            }
+        }
+        if (healthyReplicas.isEmpty()) {
+            return null;
+        }
+
+        if (strategy == Strategy.LEAST_CONNECTIONS) {
+            return healthyReplicas.stream()
+                    .min(Comparator.comparingInt(Replica::activeConnections))
+                    .get().key;
+        }
+        return healthyReplicas.get(Math.floorMod(cursor.getAndIncrement(), healthyReplicas.size())).key;
+    }
+
+    // 복제 지연 확인 (복제 상태 조회에는 REPLICATION CLIENT 권한이 필요)
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try {
+                Long lagSeconds = replica.readLagSeconds();
+                healthy = lagSeconds != null && lagSeconds <= maxLagSeconds;
+                replica.lagSeconds = lagSeconds;
+            } catch (RuntimeException e) {
+                log.warn("Replica lag check failed. replica={}", replica.key, e);
+                healthy = false;
+            }
+
+            if (replica.healthy != healthy) {
+                log.warn("Replica {} is now {}. lag={}s", replica.key, healthy ? "in rotation" : "out of rotation", replica.lagSeconds);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    public void forEachDataSource(BiConsumer<String, DataSource> consumer) {
+        replicas.forEach(replica -> consumer.accept(replica.key, replica.dataSource));
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static class Replica {
+        private final String key;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile boolean healthy = true;
+        private volatile Long lagSeconds;
+
+        private Replica(String key, HikariDataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+
+        // 복제가 멈췄으면 null, 복제본으로 설정되지 않은 서버(로컬 등)는 0
+        private Long readLagSeconds() {
+            List<Map<String, Object>> status;
+            try {
+                status = jdbcTemplate.queryForList("SHOW REPLICA STATUS");
+            } catch (BadSqlGrammarException e) {
+                // MySQL 8.0.22 이전 버전
+                status = jdbcTemplate.queryForList("SHOW SLAVE STATUS");
+            }
+            if (status.isEmpty()) {
+                return 0L;
+            }
+
+            Map<String, Object> row = status.get(0);
+            Object lag = row.containsKey("Seconds_Behind_Source") ? row.get("Seconds_Behind_Source") : row.get("Seconds_Behind_Master");
+            return lag == null ? null : ((Number) lag).longValue();
+        }
+    }
+}
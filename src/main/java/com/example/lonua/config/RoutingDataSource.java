@@ -1,17 +1,72 @@
 package com.example.lonua.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 public class RoutingDataSource extends AbstractRoutingDataSource {
-    public RoutingDataSource(Map<Object, Object> targetDataSources, Object defaultTargetDataSource) {
+    public static final String MASTER = "master";
+
+    private final ReplicaSelector replicaSelector;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final MeterRegistry meterRegistry;
+
+    public RoutingDataSource(Map<Object, Object> targetDataSources, Object defaultTargetDataSource,
+                             ReplicaSelector replicaSelector, ReadYourWritesWindow readYourWritesWindow,
+                             MeterRegistry meterRegistry) {
+        this.replicaSelector = replicaSelector;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.meterRegistry = meterRegistry;
         super.setTargetDataSources(targetDataSources);
         super.setDefaultTargetDataSource(defaultTargetDataSource);
         afterPropertiesSet(); // InitializingBean을 구현하므로 스프링이 빈을 초기화할 때 호출됨
     }
+    // 어느 풀로 라우팅되었는지와 선택에 걸린 시간 기록 (datasource.routing{target=master|replica-n})
     @Override
     protected Object determineCurrentLookupKey() {
-        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? "slave" : "master";
+        long start = System.nanoTime();
+        String target = route();
+        Timer.builder("datasource.routing")
+                .description("RoutingDataSource lookup")
+                .tag("target", target)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return target;
+    }
+
+    // 읽기 전용이 아닌 트랜잭션의 커넥션은 실제로 INSERT/UPDATE/DELETE 를 실행하는지 추적한다.
+    // (readOnly 를 붙이지 않은 조회 트랜잭션까지 쓰기로 보고 사용자를 master 에 고정하지 않도록)
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? connection : readYourWritesWindow.track(connection);
+    }
+
+    // 쓰기 트랜잭션 -> master (DML 을 실행했으면 커밋 후 read-your-writes 구간 시작)
+    // 읽기 트랜잭션 -> 최근에 쓰기를 한 사용자면 master, 아니면 정상 복제본 중 하나 (없으면 master)
+    private String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return MASTER;
+        }
+        if (readYourWritesWindow.isPinned()) {
+            return MASTER;
+        }
+
+        String replicaKey = replicaSelector.select();
+        return replicaKey == null ? MASTER : replicaKey;
     }
 }
@@ -0,0 +1,47 @@
+package com.example.lonua.config;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+
+import java.lang.reflect.Type;
+
+// 부하 테스트용 Iamport 클라이언트 (loadtest 프로필)
+// 실제 PG 를 호출하지 않고 설정한 지연 시간 후 결제 완료/취소 응답을 돌려준다.
+public class StubIamportClient extends IamportClient {
+
+    private static final Type PAYMENT_RESPONSE_TYPE = new TypeToken<IamportResponse<Payment>>() {}.getType();
+    private static final Gson GSON = new Gson();
+
+    private final Long latencyMs;
+
+    public StubIamportClient(Long latencyMs) {
+        super("stub", "stub");
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public IamportResponse<Payment> paymentByImpUid(String impUid) {
+        return response(impUid, "paid");
+    }
+
+    @Override
+    public IamportResponse<Payment> cancelPaymentByImpUid(CancelData cancelData) {
+        return response(null, "cancelled");
+    }
+
+    private IamportResponse<Payment> response(String impUid, String status) {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String json = String.format("{\"code\":0,\"message\":null,\"response\":{\"imp_uid\":%s,\"status\":\"%s\"}}",
+                impUid == null ? "null" : "\"" + impUid + "\"", status);
+        return GSON.fromJson(json, PAYMENT_RESPONSE_TYPE);
+    }
+}
@@ -3,7 +3,10 @@ package com.example.lonua.coupon.repository;
 import com.example.lonua.coupon.model.entity.Coupon;
 import com.example.lonua.user.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +16,10 @@ public interface CouponRepository extends JpaRepository<Coupon, Integer> {
     Optional<Coupon> findByCouponIdx(Integer couponIdx);
 
     Integer deleteByCouponIdx(Integer couponIdx);
+
+    List<Coupon> findAllByCouponIdxInAndUser_UserIdx(Collection<Integer> couponIdxList, Integer userIdx);
+
+    @Modifying
+    @Query("DELETE FROM Coupon c WHERE c.user.userIdx = :userIdx AND c.couponIdx IN :couponIdxList")
+    Integer deleteAllByUserIdxAndCouponIdxIn(Integer userIdx, Collection<Integer> couponIdxList);
 }
@@ -25,6 +25,6 @@ public class Grade {
     @Column(nullable = false)
     private Integer discountRate;
 
-    @OneToMany(mappedBy = "grade", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "grade", fetch = FetchType.LAZY)
     private List<User> userList = new ArrayList<>();
 }
@@ -0,0 +1,38 @@
+package com.example.lonua.grade.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 등급 할인율 캐시(GradeService.GRADE_DISCOUNT_RATE_CACHE) 무효화
+// 커밋 전에 비우면 그 사이 getDiscountRate 가 (replica 에서) 변경 전 할인율을 다시 캐싱하고,
+// 주문 금액 조회와 주문 생성의 할인율이 달라져 결제가 금액 불일치로 취소될 수 있으므로 커밋 이후에 비운다.
+@Component
+@RequiredArgsConstructor
+public class GradeDiscountRateCache {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Integer gradeIdx) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear(gradeIdx);
+                }
+            });
+        } else {
+            clear(gradeIdx);
+        }
+    }
+
+    private void clear(Integer gradeIdx) {
+        Cache cache = cacheManager.getCache(GradeService.GRADE_DISCOUNT_RATE_CACHE);
+        if (cache != null) {
+            cache.evict(gradeIdx);
+        }
+    }
+}
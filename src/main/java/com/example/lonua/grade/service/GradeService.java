@@ -9,6 +9,7 @@ import com.example.lonua.grade.model.response.PatchGradeUpdateRes;
 import com.example.lonua.grade.model.response.PostGradeCreateRes;
 import com.example.lonua.grade.repository.GradeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +21,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class GradeService {
 
+    public static final String GRADE_DISCOUNT_RATE_CACHE = "gradeDiscountRate";
+
     private final GradeRepository gradeRepository;
+    private final GradeDiscountRateCache gradeDiscountRateCache;
 
     @Transactional(readOnly = false)
     public BaseRes create(PostGradeCreateReq postGradeCreateReq) {
@@ -29,6 +33,8 @@ public class GradeService {
                 .gradeType(postGradeCreateReq.getGradeType())
                 .discountRate(postGradeCreateReq.getDiscountRate())
                 .build());
+        // 없는 등급으로 조회되어 할인율 0 이 캐싱되어 있을 수 있으므로 함께 비운다.
+        gradeDiscountRateCache.evict(grade.getGradeIdx());
 
         return BaseRes.builder()
                 .code(200)
@@ -81,6 +87,13 @@ public class GradeService {
 //        return null;
 //    }
 
+    // 주문 금액 계산 시 사용하는 등급 할인율 (등급이 없으면 0)
+    @Cacheable(value = GRADE_DISCOUNT_RATE_CACHE, key = "#gradeIdx")
+    @Transactional(readOnly = true)
+    public Integer getDiscountRate(Integer gradeIdx) {
+        return gradeRepository.findById(gradeIdx).map(Grade::getDiscountRate).orElse(0);
+    }
+
     @Transactional(readOnly = false)
     public BaseRes update(PatchGradeUpdateReq request) {
         Optional<Grade> byId = gradeRepository.findById(request.getGradeIdx());
@@ -90,6 +103,7 @@ public class GradeService {
             grade.setGradeType(request.getGradeType());
             grade.setDiscountRate(request.getDiscountRate());
             Grade result = gradeRepository.save(grade);
+            gradeDiscountRateCache.evict(result.getGradeIdx());
 
             return BaseRes.builder()
                     .code(200)
@@ -43,13 +43,13 @@ public class LikesController {
         }
     }
 
-    @ApiOperation(value = "좋아요 목록 조회", response = BaseRes.class, notes = "회원이 좋아요를 등록한 상품의 전체 목록을 조회한다.")
+    @ApiOperation(value = "좋아요 목록 조회", response = BaseRes.class, notes = "회원이 좋아요를 등록한 상품의 목록을 최신순으로 페이지 단위로 조회한다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
-    @RequestMapping(method = RequestMethod.GET, value = "/list")
-    public ResponseEntity list() {
+    @RequestMapping(method = RequestMethod.GET, value = "/list/{page}/{size}")
+    public ResponseEntity list(@PathVariable @NotNull @Positive Integer page, @PathVariable @NotNull @Positive Integer size) {
         User user = ((User)SecurityContextHolder.getContext().getAuthentication().getPrincipal());
-        BaseRes baseRes = likesService.list(user);
+        BaseRes baseRes = likesService.list(user, page, size);
 
         return ResponseEntity.ok().body(baseRes);
     }
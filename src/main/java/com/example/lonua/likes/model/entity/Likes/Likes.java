@@ -13,6 +13,7 @@ import java.util.Date;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_likes_user_created_at", columnList = "User_idx, createdAt"))
 public class Likes {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,16 @@
+package com.example.lonua.likes.model.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GetPageLikesRes {
+
+    private List<GetListLikesRes> likesList;
+    private Boolean hasNext;  // 다음 페이지 존재 여부 (전체 개수는 조회하지 않는다)
+}
@@ -1,16 +1,22 @@
 package com.example.lonua.likes.repository;
 
 import com.example.lonua.likes.model.entity.Likes.Likes;
+import com.example.lonua.likes.repository.querydsl.LikesRepositoryCustom;
 import com.example.lonua.product.model.entity.Product;
 import com.example.lonua.user.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface LikesRepository extends JpaRepository<Likes, Integer> {
+public interface LikesRepository extends JpaRepository<Likes, Integer>, LikesRepositoryCustom {
     public List<Likes> findAllByUser(User user);
     public Integer deleteByProduct_productIdxAndUser(Integer idx, User user);
 
     public Optional<Likes>findByUserAndProduct(User user, Product product);
+
+    // 상품 목록의 좋아요 여부 표시용 (회원이 좋아요한 상품 번호만 조회)
+    @Query("SELECT l.product.productIdx FROM Likes l WHERE l.user.userIdx = :userIdx")
+    List<Integer> findProductIdxListByUserIdx(Integer userIdx);
 }
@@ -0,0 +1,9 @@
+package com.example.lonua.likes.repository.querydsl;
+
+import com.example.lonua.likes.model.response.GetListLikesRes;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface LikesRepositoryCustom {
+    public Slice<GetListLikesRes> findLikesList(Pageable pageable, Integer userIdx);
+}
@@ -0,0 +1,55 @@
+package com.example.lonua.likes.repository.querydsl;
+
+import com.example.lonua.brand.model.entity.QBrand;
+import com.example.lonua.likes.model.entity.Likes.Likes;
+import com.example.lonua.likes.model.entity.Likes.QLikes;
+import com.example.lonua.likes.model.response.GetListLikesRes;
+import com.example.lonua.product.model.entity.QProduct;
+import com.querydsl.core.types.Projections;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+
+public class LikesRepositoryCustomImpl extends QuerydslRepositorySupport implements LikesRepositoryCustom {
+
+    public LikesRepositoryCustomImpl() {
+        super(Likes.class);
+    }
+
+    // 회원의 좋아요 목록을 상품 카드 DTO 로 바로 조회한다.
+    // (User_idx, createdAt) 인덱스로 회원 범위만 최신순으로 읽는다.
+    // 전체 개수는 쓰지 않으므로 count 쿼리 대신 한 건을 더 읽어서 다음 페이지 여부만 확인한다.
+    @Override
+    public Slice<GetListLikesRes> findLikesList(Pageable pageable, Integer userIdx) {
+        QLikes likes = new QLikes("likes");
+        QProduct product = new QProduct("product");
+        QBrand brand = new QBrand("brand");
+
+        List<GetListLikesRes> result = from(likes)
+                .join(likes.product, product)
+                .leftJoin(product.brand, brand)
+                .where(likes.user.userIdx.eq(userIdx))
+                .orderBy(likes.createdAt.desc(), likes.likesIdx.desc())
+                .select(Projections.constructor(GetListLikesRes.class,
+                        likes.likesIdx,
+                        brand.brandName,
+                        product.productIdx,
+                        product.productName,
+                        product.thumbnailImage.coalesce(product.primaryImage),
+                        product.price,
+                        product.salePrice))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > pageable.getPageSize();
+        if (hasNext) {
+            result = result.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(result, pageable, hasNext);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.lonua.likes.service;
+
+import com.example.lonua.likes.repository.LikesRepository;
+import com.example.lonua.product.model.response.GetListProductRes;
+import com.example.lonua.user.model.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// 회원별로 좋아요한 상품 번호를 정렬된 int 배열로 메모리에 들고 있다가
+// 상품 목록 조회 시 카드마다 liked 여부를 추가 쿼리 없이 채운다.
+// 배열은 처음 조회할 때 DB 에서 읽고, 이후에는 좋아요 등록/취소 커밋 시점에 갱신한다.
+// 캐시는 서버(pod)별이며 갱신은 요청을 처리한 서버에만 반영되므로, 다른 서버의 liked 표시는 최대 TTL 만큼 늦을 수 있다. (최종 일관성)
+// 자주 조회하는 회원도 값이 계속 남지 않도록 마지막 접근/갱신이 아니라 DB 에서 읽은 시점 기준으로 짧게 만료시킨다.
+@Component
+public class LikedProductCache {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final LikesRepository likesRepository;
+    private final Cache<Integer, int[]> likedProducts;
+
+    public LikedProductCache(LikesRepository likesRepository,
+                             @Value("${likes.liked-cache.expire-after-write-seconds:60}") Long expireSeconds,
+                             @Value("${likes.liked-cache.max-size:100000}") Long maxSize) {
+        this.likesRepository = likesRepository;
+        this.likedProducts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(loadedAtExpiry(Duration.ofSeconds(expireSeconds).toNanos()))
+                .build();
+    }
+
+    // 같은 서버에서의 좋아요 등록/취소(갱신)로 만료 시간이 늘어나지 않도록 DB 에서 읽은 시점 기준으로만 만료
+    private static Expiry<Integer, int[]> loadedAtExpiry(long expireNanos) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Integer userIdx, int[] liked, long currentTime) {
+                return expireNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Integer userIdx, int[] liked, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(Integer userIdx, int[] liked, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    // 로그인한 회원이면 목록의 각 상품에 좋아요 여부를 표시 (비로그인은 모두 false)
+    public List<GetListProductRes> markLiked(List<GetListProductRes> productList) {
+        User user = currentUser();
+        int[] liked = (user == null || productList.isEmpty()) ? EMPTY : get(user.getUserIdx());
+
+        for (GetListProductRes product : productList) {
+            product.setLiked(Arrays.binarySearch(liked, product.getProductIdx()) >= 0);
+        }
+
+        return productList;
+    }
+
+    // 좋아요 등록/취소 트랜잭션이 롤백되면 반영되지 않도록 커밋 이후에 갱신한다.
+    // 아직 캐시에 없는 회원은 다음 조회 때 DB 에서 읽으므로 건드리지 않는다.
+    public void add(Integer userIdx, Integer productIdx) {
+        afterCommit(() -> likedProducts.asMap().computeIfPresent(userIdx, (idx, liked) -> insert(liked, productIdx)));
+    }
+
+    public void remove(Integer userIdx, Integer productIdx) {
+        afterCommit(() -> likedProducts.asMap().computeIfPresent(userIdx, (idx, liked) -> delete(liked, productIdx)));
+    }
+
+    private int[] get(Integer userIdx) {
+        return likedProducts.get(userIdx, idx -> likesRepository.findProductIdxListByUserIdx(idx).stream()
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .distinct()
+                .toArray());
+    }
+
+    // 배열은 여러 스레드가 동시에 읽으므로 제자리에서 고치지 않고 새 배열로 교체한다.
+    private static int[] insert(int[] liked, int productIdx) {
+        int position = Arrays.binarySearch(liked, productIdx);
+        if (position >= 0) {
+            return liked;
+        }
+
+        position = -position - 1;
+        int[] result = new int[liked.length + 1];
+        System.arraycopy(liked, 0, result, 0, position);
+        result[position] = productIdx;
+        System.arraycopy(liked, position, result, position + 1, liked.length - position);
+        return result;
+    }
+
+    private static int[] delete(int[] liked, int productIdx) {
+        int position = Arrays.binarySearch(liked, productIdx);
+        if (position < 0) {
+            return liked;
+        }
+
+        int[] result = new int[liked.length - 1];
+        System.arraycopy(liked, 0, result, 0, position);
+        System.arraycopy(liked, position + 1, result, position, liked.length - position - 1);
+        return result;
+    }
+
+    private static User currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User) {
+            return (User) authentication.getPrincipal();
+        }
+        return null;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
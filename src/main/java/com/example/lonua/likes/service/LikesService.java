@@ -6,28 +6,30 @@ import com.example.lonua.likes.exception.LikesNotFoundException;
 import com.example.lonua.likes.model.entity.Likes.Likes;
 import com.example.lonua.likes.model.request.PostCancelLikesReq;
 import com.example.lonua.likes.model.response.GetListLikesRes;
+import com.example.lonua.likes.model.response.GetPageLikesRes;
 import com.example.lonua.likes.repository.LikesRepository;
 import com.example.lonua.product.model.entity.Product;
-import com.example.lonua.product.model.entity.ProductCount;
-import com.example.lonua.product.repository.ProductCountRepository;
 import com.example.lonua.product.repository.ProductRepository;
+import com.example.lonua.product.service.ProductCountBuffer;
 import com.example.lonua.user.model.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class LikesService {
     private final ProductRepository productRepository;
-    private final ProductCountRepository productCountRepository;
+    private final ProductCountBuffer productCountBuffer;
     private final LikesRepository likesRepository;
+    private final LikedProductCache likedProductCache;
 
     @Transactional(readOnly = false)
     public BaseRes createLikes(User user, Integer productIdx) {
@@ -44,9 +46,8 @@ public class LikesService {
                         .result("이미 좋아요를 누른 상품입니다.")
                         .build();
             } else {
-                ProductCount productCount = product.getProductCount();
-                productCount.increaseLikeCount();
-                productCountRepository.save(productCount);
+                productCountBuffer.increaseLikeCount(productIdx);
+                likedProductCache.add(user.getUserIdx(), productIdx);
 
                 likesRepository.save(Likes.builder()
                         .product(product)
@@ -67,39 +68,20 @@ public class LikesService {
     }
 
     @Transactional(readOnly = true)
-    public BaseRes list(User user) {
-        List<Likes> likesList = likesRepository.findAll();
+    public BaseRes list(User user, Integer page, Integer size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
 
-        List<GetListLikesRes> getListLikesResList = new ArrayList<>();
-        if(likesList != null) {
-            for (Likes likes : likesList) {
-                if (likes.getUser().getUserIdx().equals(user.getUserIdx())) {
-                    GetListLikesRes getListLikesRes = GetListLikesRes.builder()
-                            .likesIdx(likes.getLikesIdx())
-                            .brandName(likes.getProduct().getBrand().getBrandName())
-                            .productIdx(likes.getProduct().getProductIdx())
-                            .productName(likes.getProduct().getProductName())
-                            .productImage(likes.getProduct().getProductImageList().get(0).getProductImage())
-                            .price(likes.getProduct().getPrice())
-                            .salePrice(likes.getProduct().getSalePrice())
-                            .build();
-                    getListLikesResList.add(getListLikesRes);
-                }
-            }
-            return BaseRes.builder()
-                    .code(200)
-                    .isSuccess(true)
-                    .message("요청 성공")
-                    .result(getListLikesResList)
-                    .build();
-        } else {
-            return BaseRes.builder()
-                    .code(400)
-                    .isSuccess(false)
-                    .message("요청 실패")
-                    .result("좋아요 목록을 찾을 수 없습니다.")
-                    .build();
-        }
+        Slice<GetListLikesRes> likesList = likesRepository.findLikesList(pageable, user.getUserIdx());
+
+        return BaseRes.builder()
+                .code(200)
+                .isSuccess(true)
+                .message("요청 성공")
+                .result(GetPageLikesRes.builder()
+                        .likesList(likesList.getContent())
+                        .hasNext(likesList.hasNext())
+                        .build())
+                .build();
     }
 
     @Transactional(readOnly = false)
@@ -108,12 +90,8 @@ public class LikesService {
         Integer result = likesRepository.deleteByProduct_productIdxAndUser(productIdx, user);
 
         if (!result.equals(0)) {
-            Optional<Product> product = productRepository.findByProductIdx(productIdx);
-
-            Product cancelProduct = product.get();
-            ProductCount productCount = cancelProduct.getProductCount();
-            productCount.decreaseLikeCount();
-            productCountRepository.save(productCount);
+            productCountBuffer.decreaseLikeCount(productIdx);
+            likedProductCache.remove(user.getUserIdx(), productIdx);
 
             return BaseRes.builder()
                     .code(200)
@@ -4,6 +4,7 @@ package com.example.lonua.orders.controller;
 import com.example.lonua.common.BaseRes;
 import com.example.lonua.orders.model.request.PatchUpdateOrdersReq;
 import com.example.lonua.orders.model.request.PostCreateOrdersReq;
+import com.example.lonua.orders.model.request.PostPriceOrdersReq;
 import com.example.lonua.orders.service.OrdersService;
 import com.example.lonua.user.model.entity.User;
 import com.siot.IamportRestClient.exception.IamportResponseException;
@@ -88,6 +89,17 @@ public class OrdersController {
         return ResponseEntity.ok().body(baseRes);
     }
 
+    @ApiOperation(value = "주문 금액 미리보기", response = BaseRes.class, notes = "회원이 결제 전에 쿠폰, 등급 할인이 적용된 주문 금액을 조회한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
+    @RequestMapping(method = RequestMethod.POST, value = "/price")
+    public ResponseEntity price(@RequestBody @Valid PostPriceOrdersReq postPriceOrdersReq) {
+        User user = ((User)SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        BaseRes baseRes = ordersService.price(user, postPriceOrdersReq);
+
+        return ResponseEntity.ok().body(baseRes);
+    }
+
     // ---------------------카카오페이 결제를 통한 주문-----------------------------
     @RequestMapping(method = RequestMethod.POST, value = "/kakaopay")
     public ResponseEntity create(@RequestBody PostCreateOrdersReq postCreateOrdersReq) throws IamportResponseException, IOException {
@@ -0,0 +1,14 @@
+package com.example.lonua.orders.exception;
+
+import com.example.lonua.common.error.ErrorCode;
+import com.example.lonua.common.error.exception.BusinessException;
+
+public class OrdersDuplicateException extends BusinessException {
+    public OrdersDuplicateException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static OrdersDuplicateException forImpUid(String impUid) {
+        return new OrdersDuplicateException(ErrorCode.DUPLICATE_ORDERS_REQUEST, String.format("Payment [ %s ] is already being processed.", impUid));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.lonua.orders.exception;
+
+import com.example.lonua.common.error.ErrorCode;
+import com.example.lonua.common.error.exception.BusinessException;
+
+public class PaymentGatewayException extends BusinessException {
+    public PaymentGatewayException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static PaymentGatewayException forTimeout(String impUid) {
+        return new PaymentGatewayException(ErrorCode.PAYMENT_GATEWAY_TIMEOUT, String.format("Payment gateway call for impUid [ %s ] timed out.", impUid));
+    }
+
+    public static PaymentGatewayException forBusy(String impUid) {
+        return new PaymentGatewayException(ErrorCode.PAYMENT_GATEWAY_BUSY, String.format("Payment gateway call for impUid [ %s ] was rejected.", impUid));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.lonua.orders.model.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// 결제(impUid)별 주문 생성 결과
+// 같은 결제로 다시 요청하면 검증을 다시 하지 않고 저장된 응답을 그대로 돌려준다.
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrdersIdempotency {
+    @Id
+    @Column(length = 50)
+    private String impUid;
+
+    @Column(nullable = false)
+    private Integer userIdx;
+
+    // PostCreateOrdersRes JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String response;
+
+    @Column(nullable = false)
+    private String createdAt;
+}
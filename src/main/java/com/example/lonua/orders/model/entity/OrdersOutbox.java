@@ -0,0 +1,77 @@
+package com.example.lonua.orders.model.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// 주문 생성 후 처리할 부가 작업(장바구니 정리, 이후 알림 등)과 실패한 결제 취소
+// 부가 작업은 주문과 같은 트랜잭션에서 저장되고 OrdersOutboxDispatcher 가 비동기로 처리한다.
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "UK_OrdersOutbox_impUid_type", columnNames = {"impUid", "type"}),
+        indexes = {
+                @Index(name = "IDX_OrdersOutbox_status_nextAttemptAt", columnList = "status, nextAttemptAt"),
+                @Index(name = "IDX_OrdersOutbox_status_updatedAt", columnList = "status, updatedAt")
+        })
+public class OrdersOutbox {
+    public static final String PENDING = "PENDING";
+    // 한 서버가 처리 중 (조건부 UPDATE 로 PENDING -> PROCESSING 에 성공한 서버만 처리)
+    public static final String PROCESSING = "PROCESSING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    // 주문 후 부가 작업
+    public static final String ORDER_PLACED = "ORDER_PLACED";
+    // 결제 취소 재시도 (PG 취소 호출이 실패/시간 초과된 경우)
+    public static final String PAYMENT_CANCEL = "PAYMENT_CANCEL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer outboxIdx;
+
+    // 멱등 키 (결제 한 건당 종류별로 하나의 작업만 등록)
+    @Column(nullable = false, length = 50)
+    private String impUid;
+
+    @Column(nullable = false, length = 20)
+    private String type;
+
+    @Column(nullable = false)
+    private Integer userIdx;
+
+    // 주문 후 삭제할 장바구니 번호 (콤마 구분, 장바구니 크기에 제한이 없으므로 TEXT)
+    @Column(columnDefinition = "TEXT")
+    private String cartIdxList;
+
+    @Column(nullable = false, length = 10)
+    private String status;
+
+    @Column(nullable = false)
+    private Integer retryCount;
+
+    // 이 시각 이후에 처리 (실패하면 재시도 횟수에 따라 점점 늦춘다)
+    @Column(nullable = false)
+    private String nextAttemptAt;
+
+    @Column(nullable = false)
+    private String createdAt;
+
+    @Column(nullable = false)
+    private String updatedAt;
+
+    public void done(String updatedAt) {
+        this.status = DONE;
+        this.updatedAt = updatedAt;
+    }
+
+    public void fail(Integer maxRetry, String nextAttemptAt, String updatedAt) {
+        this.retryCount = this.retryCount + 1;
+        this.status = this.retryCount >= maxRetry ? FAILED : PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.updatedAt = updatedAt;
+    }
+}
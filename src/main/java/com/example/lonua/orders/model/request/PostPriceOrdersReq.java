@@ -0,0 +1,23 @@
+package com.example.lonua.orders.model.request;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostPriceOrdersReq {
+
+    @NotEmpty(message = "주문 상품 리스트는 필수 입력 항목입니다.")
+    @ApiModelProperty(value = "주문 상품 리스트", example = "[1, 2, 3]", required = true)
+    private List<Integer> productIdxList;
+
+    @ApiModelProperty(value = "적용할 상품과 쿠폰 맵", example = "{1:2}")
+    private Map<Integer, Integer> productCouponMap;
+}
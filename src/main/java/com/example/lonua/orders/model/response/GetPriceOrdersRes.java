@@ -0,0 +1,18 @@
+package com.example.lonua.orders.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetPriceOrdersRes {
+
+    private Integer productIdx;
+    private Integer salePrice;
+    private Integer couponIdx;
+    private Integer couponDiscount;
+    private Integer gradeDiscount;
+    private Integer price;
+}
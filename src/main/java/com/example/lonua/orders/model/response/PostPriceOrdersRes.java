@@ -0,0 +1,20 @@
+package com.example.lonua.orders.model.response;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostPriceOrdersRes {
+
+    private List<GetPriceOrdersRes> productList = new ArrayList<>();
+    private Integer salePriceTotal;
+    private Integer couponDiscountTotal;
+    private Integer gradeDiscountTotal;
+    private Integer totalPrice;
+}
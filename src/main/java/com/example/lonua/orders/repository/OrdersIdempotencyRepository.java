@@ -0,0 +1,9 @@
+package com.example.lonua.orders.repository;
+
+import com.example.lonua.orders.model.entity.OrdersIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrdersIdempotencyRepository extends JpaRepository<OrdersIdempotency, String> {
+}
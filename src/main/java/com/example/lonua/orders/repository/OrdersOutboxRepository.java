@@ -0,0 +1,32 @@
+package com.example.lonua.orders.repository;
+
+import com.example.lonua.orders.model.entity.OrdersOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrdersOutboxRepository extends JpaRepository<OrdersOutbox, Integer> {
+    // 처리할 시각이 된 작업 (재시도 대기 중인 작업은 제외)
+    List<OrdersOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(String status, String now, Pageable pageable);
+
+    boolean existsByImpUidAndType(String impUid, String type);
+
+    // 작업 선점 (여러 서버가 같은 행을 조회해도 상태 변경에 성공한 한 서버만 처리)
+    @Modifying
+    @Query("UPDATE OrdersOutbox o SET o.status = :to, o.updatedAt = :updatedAt WHERE o.outboxIdx = :outboxIdx AND o.status = :from")
+    int updateStatus(Integer outboxIdx, String from, String to, String updatedAt);
+
+    // 처리 중에 서버가 종료되어 남은 작업을 다시 대기 상태로 되돌린다.
+    @Modifying
+    @Query("UPDATE OrdersOutbox o SET o.status = :to, o.updatedAt = :updatedAt WHERE o.status = :from AND o.updatedAt < :before")
+    int updateStatusBefore(String from, String to, String before, String updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM OrdersOutbox o WHERE o.status = :status AND o.updatedAt < :before")
+    int deleteByStatusBefore(String status, String before);
+}
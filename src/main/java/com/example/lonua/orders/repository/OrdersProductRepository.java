@@ -4,11 +4,17 @@ import com.example.lonua.orders.model.entity.OrdersProduct;
 import com.example.lonua.orders.repository.querydsl.OrdersProductRepositoryCustom;
 import com.example.lonua.orders.repository.querydsl.OrdersRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrdersProductRepository extends JpaRepository<OrdersProduct, Integer>, OrdersProductRepositoryCustom {
     public Integer deleteByOrders_OrdersIdx(Integer idx);
+
+    // 주문 취소 시 재고 복구를 위한 주문 상품 번호 목록
+    @Query("SELECT op.product.productIdx FROM OrdersProduct op WHERE op.orders.ordersIdx = :ordersIdx")
+    List<Integer> findProductIdxListByOrdersIdx(Integer ordersIdx);
 }
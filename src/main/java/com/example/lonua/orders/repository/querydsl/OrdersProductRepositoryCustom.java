@@ -2,8 +2,12 @@ package com.example.lonua.orders.repository.querydsl;
 
 import com.example.lonua.orders.model.entity.OrdersProduct;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrdersProductRepositoryCustom {
     Optional<OrdersProduct> findOrdersProduct(Integer userIdx, Integer ordersIdx, Integer productIdx);
+
+    // 주문 상품들을 JDBC 배치 INSERT 로 한 번에 저장 (IDENTITY 키라 JPA 로는 배치 INSERT 가 되지 않음)
+    void saveAllInBatch(Integer ordersIdx, List<Integer> productIdxList);
 }
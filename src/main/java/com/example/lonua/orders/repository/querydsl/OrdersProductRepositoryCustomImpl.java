@@ -6,15 +6,20 @@ import com.example.lonua.orders.model.entity.QOrders;
 import com.example.lonua.orders.model.entity.QOrdersProduct;
 import com.example.lonua.product.model.entity.QProduct;
 import com.example.lonua.product.model.entity.QProductCount;
-import com.example.lonua.product.model.entity.QProductImage;
 import com.example.lonua.user.model.entity.QUser;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public class OrdersProductRepositoryCustomImpl extends QuerydslRepositorySupport implements OrdersProductRepositoryCustom {
-    public OrdersProductRepositoryCustomImpl() {
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrdersProductRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
         super(OrdersProduct.class);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -24,17 +29,25 @@ public class OrdersProductRepositoryCustomImpl extends QuerydslRepositorySupport
         QProduct product = new QProduct("product");
         QProductCount productCount = new QProductCount("productCount");
         QUser user = new QUser("user");
-        QProductImage productImage = new QProductImage("productImage");
 
         Optional<OrdersProduct> result = Optional.ofNullable(from(ordersProduct)
                 .leftJoin(ordersProduct.orders, orders).fetchJoin()
                 .leftJoin(ordersProduct.product, product).fetchJoin()
                 .leftJoin(product.productCount, productCount).fetchJoin()
                 .leftJoin(orders.user, user).fetchJoin()
-                .leftJoin(product.productImageList, productImage)
                 .where(user.userIdx.eq(userIdx), orders.ordersIdx.eq(ordersIdx), product.productIdx.eq(productIdx))
                 .fetchOne()
         );
         return result;
     }
+
+    @Override
+    @Transactional
+    public void saveAllInBatch(Integer ordersIdx, List<Integer> productIdxList) {
+        jdbcTemplate.batchUpdate("INSERT INTO OrdersProduct (Orders_idx, Product_idx) VALUES (?, ?)",
+                productIdxList, productIdxList.size(), (ps, productIdx) -> {
+                    ps.setInt(1, ordersIdx);
+                    ps.setInt(2, productIdx);
+                });
+    }
 }
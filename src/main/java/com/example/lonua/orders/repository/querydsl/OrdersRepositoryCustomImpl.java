@@ -7,7 +7,6 @@ import com.example.lonua.orders.model.entity.QOrdersProduct;
 import com.example.lonua.product.model.entity.Product;
 import com.example.lonua.product.model.entity.QProduct;
 import com.example.lonua.product.model.entity.QProductCount;
-import com.example.lonua.product.model.entity.QProductImage;
 import com.example.lonua.user.model.entity.QUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,7 +32,6 @@ public class OrdersRepositoryCustomImpl extends QuerydslRepositorySupport implem
         QUser user = new QUser("user");
         QProduct product = new QProduct("product");
         QProductCount productCount = new QProductCount("productCount");
-        QProductImage productImage = new QProductImage("productImage");
         QBrand brand = new QBrand("brand");
 
 
@@ -59,20 +57,16 @@ public class OrdersRepositoryCustomImpl extends QuerydslRepositorySupport implem
         QProduct product = new QProduct("product");
         QProductCount productCount = new QProductCount("productCount");
         QUser user = new QUser("user");
-        QProductImage productImage = new QProductImage("productImage");
 
         Optional<Orders> result = Optional.ofNullable(from(orders)
                 .leftJoin(orders.ordersProductList, ordersProduct).fetchJoin()
                 .leftJoin(ordersProduct.product, product).fetchJoin()
                 .leftJoin(product.productCount, productCount).fetchJoin()
                 .leftJoin(orders.user, user).fetchJoin()
-                .leftJoin(product.productImageList, productImage)
                 .where(user.userIdx.eq(userIdx), orders.ordersIdx.eq(orderIdx), product.productIdx.eq(productIdx))
                 .fetchOne()
         );
 
-        // TODO : MultiBag 에러 해결을 통한 상품 이미지 테이블도 조인
-
         return result;
     }
 }
@@ -0,0 +1,115 @@
+package com.example.lonua.orders.service;
+
+import com.example.lonua.orders.exception.OrdersDuplicateException;
+import com.example.lonua.orders.model.entity.OrdersIdempotency;
+import com.example.lonua.orders.model.response.PostCreateOrdersRes;
+import com.example.lonua.orders.repository.OrdersIdempotencyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// impUid 기준 주문 멱등성 처리
+// 1. 완료된 주문 응답은 메모리(Caffeine) -> DB(OrdersIdempotency) 순으로 찾아 그대로 돌려준다.
+// 2. 같은 impUid 요청이 동시에 들어오면 먼저 들어온 요청만 처리하고 나머지는 바로 거절한다.
+@Component
+public class OrdersIdempotencyService {
+
+    private final OrdersIdempotencyRepository ordersIdempotencyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, OrdersIdempotency> completedCache;
+    private final Map<String, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    public OrdersIdempotencyService(OrdersIdempotencyRepository ordersIdempotencyRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${orders.idempotency.ttl-seconds:600}") Long ttlSeconds,
+                                    @Value("${orders.idempotency.max-size:10000}") Long maxSize) {
+        this.ordersIdempotencyRepository = ordersIdempotencyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.completedCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 이미 완료된 결제면 원래 응답을 반환
+    public Optional<PostCreateOrdersRes> findCompleted(String impUid, Integer userIdx) {
+        OrdersIdempotency record = completedCache.getIfPresent(impUid);
+        if (record == null) {
+            // 재시도는 주문 직후에 몰리므로 복제 지연이 없는 master 에서 조회
+            record = transactionTemplate.execute(status -> ordersIdempotencyRepository.findById(impUid).orElse(null));
+            if (record == null) {
+                return Optional.empty();
+            }
+            completedCache.put(impUid, record);
+        }
+
+        if (!record.getUserIdx().equals(userIdx)) {
+            throw OrdersDuplicateException.forImpUid(impUid);
+        }
+
+        return Optional.of(readResponse(record));
+    }
+
+    // 처리 시작 (같은 impUid 가 이미 처리 중이면 예외)
+    public void acquire(String impUid) {
+        if (inFlight.putIfAbsent(impUid, Boolean.TRUE) != null) {
+            throw OrdersDuplicateException.forImpUid(impUid);
+        }
+    }
+
+    public void release(String impUid) {
+        inFlight.remove(impUid);
+    }
+
+    // 주문 트랜잭션 안에서 호출, 커밋된 뒤에 메모리 캐시에 올린다.
+    public void save(Integer userIdx, PostCreateOrdersRes postCreateOrdersRes) {
+        OrdersIdempotency record = ordersIdempotencyRepository.save(OrdersIdempotency.builder()
+                .impUid(postCreateOrdersRes.getImpUid())
+                .userIdx(userIdx)
+                .response(writeResponse(postCreateOrdersRes))
+                .createdAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")))
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    completedCache.put(record.getImpUid(), record);
+                }
+            });
+        }
+    }
+
+    private String writeResponse(PostCreateOrdersRes postCreateOrdersRes) {
+        try {
+            return objectMapper.writeValueAsString(postCreateOrdersRes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PostCreateOrdersRes readResponse(OrdersIdempotency record) {
+        try {
+            return objectMapper.readValue(record.getResponse(), PostCreateOrdersRes.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
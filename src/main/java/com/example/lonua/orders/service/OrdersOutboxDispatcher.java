@@ -0,0 +1,184 @@
+package com.example.lonua.orders.service;
+
+import com.example.lonua.cart.repository.CartRepository;
+import com.example.lonua.orders.model.entity.OrdersOutbox;
+import com.example.lonua.orders.repository.OrdersOutboxRepository;
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 주문 outbox 에 쌓인 부가 작업을 주기적으로 묶어서 처리한다.
+// 모든 서버가 같은 PENDING 행을 조회하므로 처리 전에 조건부 UPDATE 로 PROCESSING 상태로 선점하고, 선점에 성공한 서버만 처리한다.
+// 작업은 건별 트랜잭션으로 처리하고, 실패하면 retryCount 를 올려 대기 시간(retryBackoffSeconds 부터 두 배씩, 최대 retryBackoffMaxSeconds)이 지난 뒤 다시 시도한다.
+// PG 장애가 길어져도 환불이 바로 포기되지 않도록 결제 취소는 더 많이(paymentCancelMaxRetry) 재시도한다.
+// 처리 중 서버가 종료되어 PROCESSING 으로 남은 작업은 일정 시간 후 다시 PENDING 으로 되돌리고, 완료된 작업은 보관 기간이 지나면 삭제한다.
+// 처리 내용(본인 장바구니 일괄 삭제)은 여러 번 실행해도 결과가 같으므로 중복 처리되어도 안전하다.
+// 결제 취소 재시도는 커넥션을 점유하지 않도록 트랜잭션 밖에서 PG 를 호출하고, 결제 상태를 먼저 확인해 이미 취소된 결제는 다시 취소하지 않는다.
+// PG 장애 시 한 주기가 길어지지 않도록 maxCycleMs 가 지나면 새 작업을 시작하지 않고 남은 작업은 다음 주기로 넘긴다. (선점 전이라 PENDING 그대로 남는다.)
+@Slf4j
+@Component
+public class OrdersOutboxDispatcher {
+
+    private static final String CANCELLED = "cancelled";
+
+    private final OrdersOutboxRepository ordersOutboxRepository;
+    private final CartRepository cartRepository;
+    private final PaymentGateway paymentGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final Integer batchSize;
+    private final Integer maxRetry;
+    private final Integer paymentCancelMaxRetry;
+    private final Long retryBackoffSeconds;
+    private final Long retryBackoffMaxSeconds;
+    private final Long processingTimeoutSeconds;
+    private final Long retentionDays;
+    private final Long maxCycleMs;
+
+    public OrdersOutboxDispatcher(OrdersOutboxRepository ordersOutboxRepository,
+                                  CartRepository cartRepository,
+                                  PaymentGateway paymentGateway,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${orders.outbox.batch-size:100}") Integer batchSize,
+                                  @Value("${orders.outbox.max-retry:5}") Integer maxRetry,
+                                  @Value("${orders.outbox.payment-cancel-max-retry:20}") Integer paymentCancelMaxRetry,
+                                  @Value("${orders.outbox.retry-backoff-seconds:5}") Long retryBackoffSeconds,
+                                  @Value("${orders.outbox.retry-backoff-max-seconds:600}") Long retryBackoffMaxSeconds,
+                                  @Value("${orders.outbox.processing-timeout-seconds:300}") Long processingTimeoutSeconds,
+                                  @Value("${orders.outbox.retention-days:7}") Long retentionDays,
+                                  @Value("${orders.outbox.max-cycle-ms:10000}") Long maxCycleMs) {
+        this.ordersOutboxRepository = ordersOutboxRepository;
+        this.cartRepository = cartRepository;
+        this.paymentGateway = paymentGateway;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxRetry = maxRetry;
+        this.paymentCancelMaxRetry = paymentCancelMaxRetry;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.retryBackoffMaxSeconds = retryBackoffMaxSeconds;
+        this.processingTimeoutSeconds = processingTimeoutSeconds;
+        this.retentionDays = retentionDays;
+        this.maxCycleMs = maxCycleMs;
+    }
+
+    @Scheduled(fixedDelayString = "${orders.outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        long deadline = System.currentTimeMillis() + maxCycleMs;
+        // 방금 커밋된 작업을 놓치지 않도록 읽기 전용이 아닌 트랜잭션(master)에서 조회
+        List<OrdersOutbox> outboxList = transactionTemplate.execute(status ->
+                ordersOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(OrdersOutbox.PENDING, now(), PageRequest.of(0, batchSize)));
+
+        for (OrdersOutbox outbox : outboxList) {
+            if (System.currentTimeMillis() >= deadline) {
+                break;
+            }
+            if (!claim(outbox)) {
+                continue;  // 다른 서버가 먼저 선점
+            }
+
+            try {
+                if (OrdersOutbox.PAYMENT_CANCEL.equals(outbox.getType())) {
+                    cancelPayment(outbox);
+                    transactionTemplate.executeWithoutResult(status ->
+                            ordersOutboxRepository.findById(outbox.getOutboxIdx()).ifPresent(o -> o.done(now())));
+                } else {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        process(outbox);
+                        ordersOutboxRepository.findById(outbox.getOutboxIdx()).ifPresent(o -> o.done(now()));
+                    });
+                }
+            } catch (RuntimeException | IamportResponseException | IOException e) {
+                log.warn("Orders outbox dispatch failed. impUid={}, type={}", outbox.getImpUid(), outbox.getType(), e);
+                transactionTemplate.executeWithoutResult(status ->
+                        ordersOutboxRepository.findById(outbox.getOutboxIdx()).ifPresent(o -> {
+                            boolean paymentCancel = OrdersOutbox.PAYMENT_CANCEL.equals(o.getType());
+                            o.fail(paymentCancel ? paymentCancelMaxRetry : maxRetry, nextAttemptAt(o.getRetryCount()), now());
+                            if (OrdersOutbox.FAILED.equals(o.getStatus()) && paymentCancel) {
+                                log.error("Payment cancel gave up after {} retries, manual refund required. impUid={}", o.getRetryCount(), o.getImpUid());
+                            }
+                        }));
+            }
+        }
+    }
+
+    // 처리 중 서버가 종료되어 PROCESSING 으로 남은 작업을 다시 처리 대상으로 되돌린다.
+    @Scheduled(fixedDelayString = "${orders.outbox.recover-interval-ms:60000}")
+    public void recover() {
+        String before = LocalDateTime.now().minusSeconds(processingTimeoutSeconds).format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
+        Integer recovered = transactionTemplate.execute(status ->
+                ordersOutboxRepository.updateStatusBefore(OrdersOutbox.PROCESSING, OrdersOutbox.PENDING, before, now()));
+        if (recovered != null && recovered > 0) {
+            log.warn("Recovered {} stale orders outbox rows.", recovered);
+        }
+    }
+
+    // 완료된 작업은 보관 기간이 지나면 삭제 (실패한 작업은 수동 처리를 위해 남겨 둔다)
+    @Scheduled(fixedDelayString = "${orders.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        String before = LocalDateTime.now().minusDays(retentionDays).format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
+        transactionTemplate.executeWithoutResult(status -> ordersOutboxRepository.deleteByStatusBefore(OrdersOutbox.DONE, before));
+    }
+
+    private boolean claim(OrdersOutbox outbox) {
+        Integer claimed = transactionTemplate.execute(status ->
+                ordersOutboxRepository.updateStatus(outbox.getOutboxIdx(), OrdersOutbox.PENDING, OrdersOutbox.PROCESSING, now()));
+        return claimed != null && claimed == 1;
+    }
+
+    private void cancelPayment(OrdersOutbox outbox) throws IamportResponseException, IOException {
+        // 앞선 취소 요청이 시간 초과 후 PG 에서는 처리되었을 수 있으므로 결제 상태를 먼저 확인
+        IamportResponse<Payment> payment = paymentGateway.getPaymentInfo(outbox.getImpUid());
+        if (payment.getResponse() != null && CANCELLED.equals(payment.getResponse().getStatus())) {
+            return;
+        }
+
+        IamportResponse<Payment> response = paymentGateway.cancelPayment(outbox.getImpUid());
+        if (response.getCode() != 0) {
+            throw new IllegalStateException("Payment cancel was refused : " + response.getMessage());
+        }
+    }
+
+    private void process(OrdersOutbox outbox) {
+        // 장바구니에서 주문한 상품 제거
+        List<Integer> cartIdxList = parseIdxList(outbox.getCartIdxList());
+        if (!cartIdxList.isEmpty()) {
+            cartRepository.deleteAllByUserIdxAndCartIdxIn(outbox.getUserIdx(), cartIdxList);
+        }
+    }
+
+    public static String joinIdxList(List<Integer> idxList) {
+        if (idxList == null || idxList.isEmpty()) {
+            return null;
+        }
+        return idxList.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static List<Integer> parseIdxList(String idxList) {
+        if (idxList == null || idxList.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(idxList.split(",")).map(Integer::valueOf).collect(Collectors.toList());
+    }
+
+    // 지금까지 실패한 횟수만큼 대기 시간을 두 배로 늘린다. (retryCount 0 -> retryBackoffSeconds)
+    private String nextAttemptAt(Integer retryCount) {
+        long backoff = retryBackoffSeconds << Math.min(retryCount, 20);
+        return LocalDateTime.now().plusSeconds(Math.min(backoff, retryBackoffMaxSeconds)).format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
+    }
+}
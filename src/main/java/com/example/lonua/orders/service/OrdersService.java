@@ -1,63 +1,78 @@
 package com.example.lonua.orders.service;
 
 
-import com.example.lonua.cart.repository.CartRepository;
 import com.example.lonua.common.BaseRes;
-import com.example.lonua.coupon.model.entity.Coupon;
 import com.example.lonua.coupon.repository.CouponRepository;
 import com.example.lonua.orders.exception.OrdersNotFoundException;
 import com.example.lonua.orders.model.entity.Orders;
+import com.example.lonua.orders.model.entity.OrdersOutbox;
 import com.example.lonua.orders.model.entity.OrdersProduct;
 import com.example.lonua.orders.model.request.PatchUpdateOrdersReq;
 import com.example.lonua.orders.model.request.PostCreateOrdersReq;
+import com.example.lonua.orders.model.request.PostPriceOrdersReq;
 import com.example.lonua.orders.model.response.GetCreateOrdersRes;
 import com.example.lonua.orders.model.response.GetListOrdersRes;
 import com.example.lonua.orders.model.response.GetReadOrdersRes;
 import com.example.lonua.orders.model.response.PostCreateOrdersRes;
+import com.example.lonua.orders.model.response.PostPriceOrdersRes;
+import com.example.lonua.orders.repository.OrdersOutboxRepository;
 import com.example.lonua.orders.repository.OrdersProductRepository;
 import com.example.lonua.orders.repository.OrdersRepository;
 import com.example.lonua.product.exception.ProductNotFoundException;
+import com.example.lonua.product.exception.ProductStockException;
 import com.example.lonua.product.model.entity.Product;
-import com.example.lonua.product.model.entity.ProductCount;
-import com.example.lonua.product.repository.ProductCountRepository;
-import com.example.lonua.product.repository.ProductRepository;
+import com.example.lonua.product.service.ProductCountBuffer;
+import com.example.lonua.product.service.ProductStockService;
+import com.example.lonua.user.config.PrincipalCache;
+import com.example.lonua.user.exception.UserNotFoundException;
 import com.example.lonua.user.model.entity.User;
 import com.example.lonua.user.repository.UserRepository;
-import com.siot.IamportRestClient.IamportClient;
 import com.siot.IamportRestClient.exception.IamportResponseException;
-import com.siot.IamportRestClient.request.CancelData;
 import com.siot.IamportRestClient.response.IamportResponse;
 import com.siot.IamportRestClient.response.Payment;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrdersService {
 
-    private final IamportClient iamportClient;
-    private final ProductRepository productRepository;
+    private final PaymentGateway paymentGateway;
+    private final TransactionTemplate transactionTemplate;
     private final OrdersRepository ordersRepository;
     private final OrdersProductRepository ordersProductRepository;
-    private final ProductCountRepository productCountRepository;
+    private final ProductCountBuffer productCountBuffer;
+    private final ProductStockService productStockService;
+    private final PricingEngine pricingEngine;
     private final UserRepository userRepository;
     private final CouponRepository couponRepository;
-    private final CartRepository cartRepository;
+    private final PrincipalCache principalCache;
+    private final OrdersOutboxRepository ordersOutboxRepository;
+    private final OrdersIdempotencyService ordersIdempotencyService;
 
 
     @Transactional
-    public BaseRes createOrder(User user, PostCreateOrdersReq postCreateOrdersReq) {
+    public BaseRes createOrder(User principal, PostCreateOrdersReq postCreateOrdersReq, Map<Integer, Product> productMap) {
+        // 인증 주체는 캐시된 스냅샷이므로 트랜잭션 안에서 회원을 다시 조회해서 사용한다.
+        User user = userRepository.findByUserIdx(principal.getUserIdx())
+                .orElseThrow(() -> UserNotFoundException.forIdx(principal.getUserIdx()));
+
         Orders orders = Orders.builder()
                 .user(user)
                 .impUid(postCreateOrdersReq.getImpUid())
@@ -69,49 +84,34 @@ public class OrdersService {
         orders = ordersRepository.save(orders);
 
         // 마일리지 적립
-        user.increaseMileage(postCreateOrdersReq.getMileage());
-        userRepository.save(user);
-
-        // 주문한 상품 장바구니에서 제거
-
-
-        // 사용한 쿠폰 삭제
-
+        if (postCreateOrdersReq.getMileage() != null) {
+            userRepository.increaseMileage(user.getUserIdx(), postCreateOrdersReq.getMileage());
+        }
+        principalCache.evictUser(user.getUserEmail());
 
         List<GetCreateOrdersRes> getCreateOrdersResList = new ArrayList<>();
 
         for (Integer idx : postCreateOrdersReq.getProductIdxList()) {
-            Optional<Product> productIdx = productRepository.findByProductIdx(idx);
-
-            if(productIdx.isPresent()) {
-                // 주문 상품 DB에 추가
-                OrdersProduct ordersProduct = OrdersProduct.builder()
-                        .orders(orders)
-                        .product(Product.builder().productIdx(idx).build())
-                        .build();
+            Product product = productMap.get(idx);
 
-                ordersProductRepository.save(ordersProduct);
+            if(product == null) {
+                throw ProductNotFoundException.forIdx(idx);
+            }
 
-                // 회원 상, 하체 유형에 따라 상품의 카운트 수 증가
-                Optional<ProductCount> result = productCountRepository.findByProduct_ProductIdx(idx);
-                ProductCount productCount = result.get();
-                productCount.increaseUpperCount(user.getUpperType());
-                productCount.increaseLowerCount(user.getLowerType());
+            GetCreateOrdersRes getCreateOrdersRes = GetCreateOrdersRes.builder()
+                    .brandName(product.getBrand().getBrandName())
+                    .productName(product.getProductName())
+                    .salePrice(product.getSalePrice())
+                    .build();
 
-                Optional<Product> product = productRepository.findByProductIdx(idx);
-                Product userProduct = product.get();
+            getCreateOrdersResList.add(getCreateOrdersRes);
+        }
 
-                GetCreateOrdersRes getCreateOrdersRes = GetCreateOrdersRes.builder()
-                        .brandName(userProduct.getBrand().getBrandName())
-                        .productName(userProduct.getProductName())
-                        .salePrice(userProduct.getSalePrice())
-                        .build();
+        // 주문 상품 DB에 추가 (배치 INSERT)
+        ordersProductRepository.saveAllInBatch(orders.getOrdersIdx(), postCreateOrdersReq.getProductIdxList());
 
-                getCreateOrdersResList.add(getCreateOrdersRes);
-            } else {
-                throw ProductNotFoundException.forIdx(idx);
-            }
-        }
+        // 회원 상, 하체 유형에 따라 주문한 상품들의 카운트 수를 한 번에 증가
+        productCountBuffer.increaseTypeCount(postCreateOrdersReq.getProductIdxList(), user.getUpperType(), user.getLowerType());
 
         PostCreateOrdersRes postCreateOrdersRes = PostCreateOrdersRes.builder()
                 .userName(user.getName())
@@ -123,6 +123,12 @@ public class OrdersService {
                 .productList(getCreateOrdersResList)
                 .build();
 
+        ordersIdempotencyService.save(user.getUserIdx(), postCreateOrdersRes);
+
+        return orderResponse(postCreateOrdersRes);
+    }
+
+    private BaseRes orderResponse(PostCreateOrdersRes postCreateOrdersRes) {
         return BaseRes.builder()
                 .code(200)
                 .isSuccess(true)
@@ -149,7 +155,7 @@ public class OrdersService {
                             .impUid(ordersProduct.getOrders().getImpUid())
                             .brandName(ordersProduct.getProduct().getBrand().getBrandName())
                             .productName(ordersProduct.getProduct().getProductName())
-                            .productImage(ordersProduct.getProduct().getProductImageList().get(0).getProductImage())
+                            .productImage(ordersProduct.getProduct().getPrimaryImage())
                             .price(ordersProduct.getProduct().getPrice())
                             .salePrice(ordersProduct.getProduct().getSalePrice())
                             .createdAt(ordersProduct.getOrders().getCreatedAt())
@@ -181,7 +187,7 @@ public class OrdersService {
             GetReadOrdersRes getReadOrdersRes = GetReadOrdersRes.builder()
                     .brandName(ordersProduct.getProduct().getProductName())
                     .productName(ordersProduct.getProduct().getProductName())
-                    .productImage(ordersProduct.getProduct().getProductImageList().get(0).getProductImage())
+                    .productImage(ordersProduct.getProduct().getPrimaryImage())
                     .price(ordersProduct.getProduct().getPrice())
                     .salePrice(ordersProduct.getProduct().getSalePrice())
                     .userName(ordersProduct.getOrders().getUser().getName())
@@ -225,6 +231,9 @@ public class OrdersService {
         if(ordersStauts.isPresent()) {
             Orders orders = ordersStauts.get();
             if(orders.getStatus().equals("주문접수") || orders.getStatus().equals("결제완료")|| orders.getStatus().equals("상품준비중")) {
+                // 주문한 상품 재고 복구
+                productStockService.release(ordersProductRepository.findProductIdxListByOrdersIdx(idx));
+
                 Integer result1 = ordersProductRepository.deleteByOrders_OrdersIdx(idx);
                 Integer result2 = ordersRepository.deleteByOrdersIdx(idx);
 
@@ -251,132 +260,148 @@ public class OrdersService {
         }
     }
 
-    // 쿠폰 적용 시 가격 계산
-    public Integer calculateDiscountedPrice(Integer originalPrice, Coupon coupon) {
-        // 쿠폰의 할인율을 가져옵니다. (예: 할인율이 20%일 경우 0.2)
-        double discountRate = coupon.getCouponDiscountRate() / 100.0;
-        double discountedPrice = originalPrice - (originalPrice * discountRate);
-
-        return (int) discountedPrice;
-    }
-
-    // 사용한 쿠폰 삭제
+    // 사용한 쿠폰 삭제 (본인 쿠폰만, 한 번의 DELETE)
     @Transactional
-    public void deleteCoupon(PostCreateOrdersReq postCreateOrdersReq) {
-        if(postCreateOrdersReq.getCouponIdxList() != null) {
-            for(Integer idx : postCreateOrdersReq.getCouponIdxList()) {
-                couponRepository.deleteByCouponIdx(idx);
-            }
+    public void deleteCoupon(User user, PostCreateOrdersReq postCreateOrdersReq) {
+        if(postCreateOrdersReq.getCouponIdxList() != null && !postCreateOrdersReq.getCouponIdxList().isEmpty()) {
+            couponRepository.deleteAllByUserIdxAndCouponIdxIn(user.getUserIdx(), postCreateOrdersReq.getCouponIdxList());
         }
     }
 
-    // 장바구니에서 제거
-    @Transactional
-    public void deleteCart(PostCreateOrdersReq postCreateOrdersReq) {
-        if(postCreateOrdersReq.getOrdersCartIdxList() != null) {
-            for(Integer idx: postCreateOrdersReq.getOrdersCartIdxList()) {
-                cartRepository.deleteByCartIdx(idx);
-            }
-        }
+    // 주문 후 부가 작업(장바구니 정리 등)을 outbox 에 등록
+    // 주문과 같은 트랜잭션에 INSERT 한 건만 추가하고, 실제 처리는 OrdersOutboxDispatcher 가 비동기로 수행한다.
+    // 쿠폰 삭제는 중복 사용을 막기 위해 주문 트랜잭션 안에서 바로 처리한다.
+    private void enqueueOrderSideEffects(User user, PostCreateOrdersReq postCreateOrdersReq) {
+        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
+
+        ordersOutboxRepository.save(OrdersOutbox.builder()
+                .impUid(postCreateOrdersReq.getImpUid())
+                .type(OrdersOutbox.ORDER_PLACED)
+                .userIdx(user.getUserIdx())
+                .cartIdxList(OrdersOutboxDispatcher.joinIdxList(postCreateOrdersReq.getOrdersCartIdxList()))
+                .status(OrdersOutbox.PENDING)
+                .retryCount(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
     }
 
-    @Transactional
-    public BaseRes paymentValidation(User user, PostCreateOrdersReq postCreateOrdersReq) throws IamportResponseException, IOException {
+    // 주문 금액 미리보기 (결제 검증과 같은 계산)
+    @Transactional(readOnly = true)
+    public BaseRes price(User user, PostPriceOrdersReq postPriceOrdersReq) {
+        PostPriceOrdersRes postPriceOrdersRes = pricingEngine.calculate(user, postPriceOrdersReq.getProductIdxList(), postPriceOrdersReq.getProductCouponMap());
 
-        Integer totalPrice = 0;
-        Boolean isSuccess = false;
-        if(postCreateOrdersReq.getCouponIdxList() == null) {
-            for(Integer idx : postCreateOrdersReq.getProductIdxList()) {
-                Optional<Product> result = productRepository.findByProductIdx(idx);
-                if(result.isPresent()) {
-                    Product product = result.get();
-                    totalPrice += product.getSalePrice();
-                }
+        return BaseRes.builder()
+                .code(200)
+                .isSuccess(true)
+                .message("요청 성공")
+                .result(postPriceOrdersRes)
+                .build();
+    }
 
-                if(postCreateOrdersReq.getAmount().equals(totalPrice)) {
-                    isSuccess = true;
-                }
-            }
-        } else {
-            // 쿠폰이 적용된 경우
-            for (Integer idx : postCreateOrdersReq.getProductIdxList()) {
-                Optional<Product> result = productRepository.findByProductIdx(idx);
-                if (result.isPresent()) {
-                    Product product = result.get();
-                    // 여기서 쿠폰 적용 로직 추가
-                    Integer couponIdx = postCreateOrdersReq.getProductCouponMap().get(idx);
-                    if (couponIdx != null && !couponIdx.equals(0)) {
-                        Optional<Coupon> couponResult = couponRepository.findByCouponIdx(couponIdx);
-                        if (couponResult.isPresent()) {
-                            Coupon coupon = couponResult.get();
-                            // 쿠폰 적용 가격 계산
-                            // 가격 계산 로직에 쿠폰의 할인율 등을 반영해야 합니다.
-                            totalPrice += calculateDiscountedPrice(product.getSalePrice(), coupon);
-                        }
-                    } else {
-                        totalPrice += product.getSalePrice();
-                    }
-                }
+    // 결제 검증 및 주문 생성
+    // PG 호출(결제 취소)은 트랜잭션이 끝난 뒤 PaymentGateway 에서 수행하여
+    // 외부 HTTP 응답을 기다리는 동안 DB 커넥션을 점유하지 않는다.
+    // 같은 impUid 로 이미 주문이 완료되었으면 검증 없이 원래 응답을 돌려주고, 처리 중이면 바로 거절한다.
+    // 완료 여부는 선점 전(빠른 응답)과 선점 후(그 사이 커밋된 요청) 두 번 확인한다.
+    public BaseRes paymentValidation(User user, PostCreateOrdersReq postCreateOrdersReq) throws IamportResponseException, IOException {
+        Optional<PostCreateOrdersRes> completed = ordersIdempotencyService.findCompleted(postCreateOrdersReq.getImpUid(), user.getUserIdx());
+        if (completed.isPresent()) {
+            return orderResponse(completed.get());
+        }
 
-                if(postCreateOrdersReq.getAmount().equals(totalPrice)) {
-                    isSuccess = true;
-                }
+        BaseRes baseRes;
+        ordersIdempotencyService.acquire(postCreateOrdersReq.getImpUid());
+        try {
+            // 처음 확인한 뒤 선점하기 전에 앞선 요청이 커밋되었을 수 있으므로 선점 후 다시 확인
+            completed = ordersIdempotencyService.findCompleted(postCreateOrdersReq.getImpUid(), user.getUserIdx());
+            if (completed.isPresent()) {
+                return orderResponse(completed.get());
             }
+
+            baseRes = transactionTemplate.execute(status -> placeOrder(status, user, postCreateOrdersReq));
+        } catch (DataIntegrityViolationException e) {
+            // 선점은 서버별이므로 다른 서버에서 같은 impUid 주문이 먼저 커밋되면 유니크 제약에 걸린다. 이때도 원래 응답을 돌려준다.
+            return orderResponse(ordersIdempotencyService.findCompleted(postCreateOrdersReq.getImpUid(), user.getUserIdx()).orElseThrow(() -> e));
+        } catch (ProductStockException | ProductNotFoundException e) {
+            cancelPayment(user, postCreateOrdersReq.getImpUid());  // 재고 부족, 없는 상품 주문 시 결제 취소
+            throw e;
+        } finally {
+            ordersIdempotencyService.release(postCreateOrdersReq.getImpUid());
         }
 
-        if(isSuccess) {
-            createOrder(user, postCreateOrdersReq);  // 주문 생성
-            deleteCoupon(postCreateOrdersReq);  // 쿠폰 삭제
-            deleteCart(postCreateOrdersReq); // 장바구니 삭제
+        if (baseRes == null) {
+            cancelPayment(user, postCreateOrdersReq.getImpUid());  // 금액 불일치 시 결제 취소
+        }
 
-            List<GetCreateOrdersRes> getListOrdersResList = new ArrayList<>();
-            for(Integer idx : postCreateOrdersReq.getProductIdxList()) {
-                Optional<Product> result = productRepository.findByProductIdx(idx);
+        return baseRes;
+    }
 
-                Product product = result.get();
-                GetCreateOrdersRes getListOrdersRes = GetCreateOrdersRes.builder()
-                        .brandName(product.getBrand().getBrandName())
-                        .productName(product.getProductName())
-                        .salePrice(product.getSalePrice())
-                        .build();
+    // 상품, 쿠폰을 한 번씩만 조회하고 주문 상품은 배치 INSERT, 쿠폰/장바구니는 일괄 DELETE 하므로
+    // 장바구니 크기와 관계없이 DB 왕복 횟수가 일정하다.
+    // 금액이 맞지 않으면 트랜잭션을 롤백(선점한 재고 포함)하고 null 을 반환한다.
+    private BaseRes placeOrder(TransactionStatus status, User user, PostCreateOrdersReq postCreateOrdersReq) {
 
-                getListOrdersResList.add(getListOrdersRes);
-            }
+        Map<Integer, Product> productMap = pricingEngine.findProducts(postCreateOrdersReq.getProductIdxList());
+        Map<Integer, Integer> productCouponMap = postCreateOrdersReq.getCouponIdxList() == null ? null : postCreateOrdersReq.getProductCouponMap();
+        Integer totalPrice = pricingEngine.calculate(user, postCreateOrdersReq.getProductIdxList(), productCouponMap, productMap).getTotalPrice();
 
-            PostCreateOrdersRes postCreateOrdersRes = PostCreateOrdersRes.builder()
-                    .userName(user.getName())
-                    .userAddr(user.getUserAddr())
-                    .userPhoneNumber(user.getUserPhoneNumber())
-                    .totalAmount(postCreateOrdersReq.getAmount())
-                    .impUid(postCreateOrdersReq.getImpUid())
-                    .payMethod(postCreateOrdersReq.getPayMethod())
-                    .productList(getListOrdersResList)
-                    .build();
+        // 재고 선점 (부족하면 ProductStockException 으로 트랜잭션 롤백)
+        productStockService.reserve(postCreateOrdersReq.getProductIdxList());
 
-            BaseRes baseRes = BaseRes.builder()
-                    .code(200)
-                    .isSuccess(true)
-                    .message("상품 주문 성공")
-                    .result(postCreateOrdersRes)
-                    .build();
+        if(postCreateOrdersReq.getAmount().equals(totalPrice)) {
+            BaseRes baseRes = createOrder(user, postCreateOrdersReq, productMap);  // 주문 생성
+            deleteCoupon(user, postCreateOrdersReq);  // 쿠폰 삭제
+            enqueueOrderSideEffects(user, postCreateOrdersReq); // 장바구니 삭제 등 부가 작업 등록
 
             return baseRes;
         } else{
-            cancelPayment(postCreateOrdersReq.getImpUid());  // 취소 기능
+            status.setRollbackOnly();  // 선점한 재고 반환
             return null;
         }
     }
 
 
-    public IamportResponse getPaymentInfo(String impUid) throws IamportResponseException, IOException {
-        IamportResponse<Payment> response = iamportClient.paymentByImpUid(impUid);
+    public IamportResponse<Payment> getPaymentInfo(String impUid) throws IamportResponseException, IOException {
+        return paymentGateway.getPaymentInfo(impUid);
+    }
 
-        return response;
+    // 결제 취소
+    // PG 취소 호출이 실패하거나 시간 초과되면 결제된 금액이 환불되지 않은 채 남지 않도록
+    // 취소 작업을 outbox 에 기록하고, OrdersOutboxDispatcher 가 결제 상태를 확인하며 다시 시도한다.
+    public void cancelPayment(User user, String impUid) {
+        try {
+            IamportResponse<Payment> response = paymentGateway.cancelPayment(impUid);
+            if (response != null && response.getCode() == 0) {
+                return;
+            }
+            log.warn("Payment cancel was refused, retrying later. impUid={}, message={}", impUid, response == null ? null : response.getMessage());
+        } catch (RuntimeException | IamportResponseException | IOException e) {
+            // 시간 초과(PaymentGatewayException) 포함, 취소 여부를 알 수 없는 경우도 모두 재시도 대상
+            log.warn("Payment cancel failed, retrying later. impUid={}", impUid, e);
+        }
+
+        enqueuePaymentCancel(user, impUid);
     }
 
-    public void cancelPayment(String impUid) throws IamportResponseException, IOException {
-        CancelData cancelData = new CancelData(impUid,true);
-        iamportClient.cancelPaymentByImpUid(cancelData);
+    private void enqueuePaymentCancel(User user, String impUid) {
+        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!ordersOutboxRepository.existsByImpUidAndType(impUid, OrdersOutbox.PAYMENT_CANCEL)) {
+                ordersOutboxRepository.save(OrdersOutbox.builder()
+                        .impUid(impUid)
+                        .type(OrdersOutbox.PAYMENT_CANCEL)
+                        .userIdx(user.getUserIdx())
+                        .status(OrdersOutbox.PENDING)
+                        .retryCount(0)
+                        .nextAttemptAt(now)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+            }
+        });
     }
     //--------------------------------------------여기까지---------------------------------------------------------
 }
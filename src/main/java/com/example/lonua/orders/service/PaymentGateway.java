@@ -0,0 +1,80 @@
+package com.example.lonua.orders.service;
+
+import com.example.lonua.config.ExecutorConfig;
+import com.example.lonua.orders.exception.PaymentGatewayException;
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.IamportResponse;
+import com.siot.IamportRestClient.response.Payment;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 결제 대행사(Iamport) 호출을 전용 스레드 풀에서 제한 시간 안에 수행한다.
+// DB 트랜잭션 밖에서만 호출해야 하며, 응답을 기다리는 동안 커넥션을 점유하지 않는다.
+@Component
+public class PaymentGateway {
+
+    private final IamportClient iamportClient;
+    private final ThreadPoolTaskExecutor paymentExecutor;
+    private final Long timeoutMs;
+
+    public PaymentGateway(IamportClient iamportClient,
+                          @Qualifier(ExecutorConfig.PAYMENT_EXECUTOR) ThreadPoolTaskExecutor paymentExecutor,
+                          @Value("${payment.timeout-ms}") Long timeoutMs) {
+        this.iamportClient = iamportClient;
+        this.paymentExecutor = paymentExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public IamportResponse<Payment> getPaymentInfo(String impUid) throws IamportResponseException, IOException {
+        return call(impUid, () -> iamportClient.paymentByImpUid(impUid));
+    }
+
+    public IamportResponse<Payment> cancelPayment(String impUid) throws IamportResponseException, IOException {
+        CancelData cancelData = new CancelData(impUid, true);
+        return call(impUid, () -> iamportClient.cancelPaymentByImpUid(cancelData));
+    }
+
+    private <T> T call(String impUid, Callable<T> task) throws IamportResponseException, IOException {
+        Future<T> future;
+        try {
+            future = paymentExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            throw PaymentGatewayException.forBusy(impUid);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw PaymentGatewayException.forTimeout(impUid);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw PaymentGatewayException.forTimeout(impUid);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IamportResponseException) {
+                throw (IamportResponseException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.lonua.orders.service;
+
+import com.example.lonua.coupon.model.entity.Coupon;
+import com.example.lonua.coupon.repository.CouponRepository;
+import com.example.lonua.grade.service.GradeService;
+import com.example.lonua.orders.model.response.GetPriceOrdersRes;
+import com.example.lonua.orders.model.response.PostPriceOrdersRes;
+import com.example.lonua.product.model.entity.Product;
+import com.example.lonua.product.repository.ProductRepository;
+import com.example.lonua.user.model.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 주문 금액 계산 (결제 검증과 금액 미리보기에서 함께 사용)
+// 모든 금액은 원 단위 정수로 계산하며, 할인은 상품별로 쿠폰 -> 회원 등급 순서로 적용하고 원 미만은 버린다.
+@Component
+@RequiredArgsConstructor
+public class PricingEngine {
+
+    private final ProductRepository productRepository;
+    private final CouponRepository couponRepository;
+    private final GradeService gradeService;
+
+    // 주문 상품 전체를 브랜드, 카운트와 함께 IN 쿼리 한 번으로 조회
+    public Map<Integer, Product> findProducts(List<Integer> productIdxList) {
+        Map<Integer, Product> productMap = new HashMap<>();
+        for (Product product : productRepository.findAllWithBrandAndCount(new HashSet<>(productIdxList))) {
+            productMap.put(product.getProductIdx(), product);
+        }
+
+        return productMap;
+    }
+
+    public PostPriceOrdersRes calculate(User user, List<Integer> productIdxList, Map<Integer, Integer> productCouponMap) {
+        return calculate(user, productIdxList, productCouponMap, findProducts(productIdxList));
+    }
+
+    // 존재하지 않는 상품은 금액에서 제외한다.
+    // 쿠폰은 본인 소유인 경우에만, 한 주문에서 한 번만 적용된다.
+    public PostPriceOrdersRes calculate(User user, List<Integer> productIdxList, Map<Integer, Integer> productCouponMap,
+                                        Map<Integer, Product> productMap) {
+        Map<Integer, Coupon> couponMap = findCoupons(user, productCouponMap);
+        Integer gradeDiscountRate = user.getGrade() == null ? 0 : gradeService.getDiscountRate(user.getGrade().getGradeIdx());
+
+        Set<Integer> usedCouponIdxSet = new HashSet<>();
+        List<GetPriceOrdersRes> lineList = new ArrayList<>();
+        long salePriceTotal = 0;
+        long couponDiscountTotal = 0;
+        long gradeDiscountTotal = 0;
+        long totalPrice = 0;
+
+        for (Integer productIdx : productIdxList) {
+            Product product = productMap.get(productIdx);
+            if (product == null) {
+                continue;
+            }
+
+            long salePrice = product.getSalePrice();
+
+            Integer couponIdx = productCouponMap == null ? null : productCouponMap.get(productIdx);
+            Coupon coupon = couponIdx == null ? null : couponMap.get(couponIdx);
+            long couponDiscount = 0;
+            if (coupon != null && usedCouponIdxSet.add(couponIdx)) {
+                couponDiscount = discount(salePrice, coupon.getCouponDiscountRate());
+            } else {
+                couponIdx = null;
+            }
+
+            long gradeDiscount = discount(salePrice - couponDiscount, gradeDiscountRate);
+            long price = salePrice - couponDiscount - gradeDiscount;
+
+            lineList.add(GetPriceOrdersRes.builder()
+                    .productIdx(productIdx)
+                    .salePrice(Math.toIntExact(salePrice))
+                    .couponIdx(couponIdx)
+                    .couponDiscount(Math.toIntExact(couponDiscount))
+                    .gradeDiscount(Math.toIntExact(gradeDiscount))
+                    .price(Math.toIntExact(price))
+                    .build());
+
+            salePriceTotal += salePrice;
+            couponDiscountTotal += couponDiscount;
+            gradeDiscountTotal += gradeDiscount;
+            totalPrice += price;
+        }
+
+        return PostPriceOrdersRes.builder()
+                .productList(lineList)
+                .salePriceTotal(Math.toIntExact(salePriceTotal))
+                .couponDiscountTotal(Math.toIntExact(couponDiscountTotal))
+                .gradeDiscountTotal(Math.toIntExact(gradeDiscountTotal))
+                .totalPrice(Math.toIntExact(totalPrice))
+                .build();
+    }
+
+    // 할인 금액 (원 미만 버림)
+    private static long discount(long price, Integer discountRate) {
+        if (discountRate == null || discountRate <= 0) {
+            return 0;
+        }
+        return price * Math.min(discountRate, 100) / 100;
+    }
+
+    // 주문에 사용한 쿠폰 전체를 IN 쿼리 한 번으로 조회 (본인 쿠폰만)
+    private Map<Integer, Coupon> findCoupons(User user, Map<Integer, Integer> productCouponMap) {
+        Map<Integer, Coupon> couponMap = new HashMap<>();
+        if (productCouponMap == null) {
+            return couponMap;
+        }
+
+        Set<Integer> couponIdxSet = new HashSet<>(productCouponMap.values());
+        couponIdxSet.remove(0);
+        couponIdxSet.remove(null);
+        if (couponIdxSet.isEmpty()) {
+            return couponMap;
+        }
+
+        for (Coupon coupon : couponRepository.findAllByCouponIdxInAndUser_UserIdx(couponIdxSet, user.getUserIdx())) {
+            couponMap.put(coupon.getCouponIdx(), coupon);
+        }
+
+        return couponMap;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.lonua.product.controller;
 import com.example.lonua.common.BaseRes;
 import com.example.lonua.product.model.request.PatchUpdateProductReq;
 import com.example.lonua.product.model.request.PostRegisterProductReq;
+import com.example.lonua.product.model.request.ProductSortType;
 import com.example.lonua.product.service.ProductService;
 import com.example.lonua.user.model.entity.User;
 import io.swagger.annotations.Api;
@@ -14,14 +15,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/product")
 @Api(value="상품 컨트롤러 v1", tags="상품 API")
@@ -36,8 +40,8 @@ public class ProductController {
     @RequestMapping(method = RequestMethod.POST, value = "/register")
     public ResponseEntity register(
             @RequestPart(value = "product") @Valid PostRegisterProductReq postRegisterProductReq,
-            @RequestPart(value = "productImage") @NotNull MultipartFile[] productFiles,
-            @RequestPart(value = "productIntrodImage") @NotNull MultipartFile[] productIntrodFiles
+            @RequestPart(value = "productImage", required = false) MultipartFile[] productFiles,
+            @RequestPart(value = "productIntrodImage", required = false) MultipartFile[] productIntrodFiles
     ) {
         BaseRes baseRes = productService.register(postRegisterProductReq, productFiles, productIntrodFiles);
 
@@ -130,4 +134,62 @@ public class ProductController {
         BaseRes baseRes = productService.brandProductList(brandIdx, page, size);
         return ResponseEntity.ok().body(baseRes);
     }
+
+    //----------------------커서 기반 조회(무한 스크롤)-------------------------
+    // 첫 요청은 cursor 없이 호출하고, 이후에는 응답의 nextCursor 를 그대로 전달한다.
+    // size 는 최대 100 으로 제한한다. (다음 페이지 확인용으로 size + 1 개를 조회)
+    @ApiOperation(value = "상품 목록 커서 조회", response = BaseRes.class, notes = "회원이 커서(nextCursor) 기준으로 다음 상품 목록을 조회한다. (sort : LATEST, LIKE)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
+    @RequestMapping(method = RequestMethod.GET, value = "/cursor/list")
+    public ResponseEntity cursorList(
+            @RequestParam(defaultValue = "LATEST") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive @Max(100) Integer size) {
+
+        BaseRes baseRes = productService.cursorList(sort, cursor, size);
+        return ResponseEntity.ok().body(baseRes);
+    }
+
+    @ApiOperation(value = "카테고리 별 상품 목록 커서 조회", response = BaseRes.class, notes = "회원이 카테고리에 해당하는 상품의 목록을 커서 기준으로 조회한다. (sort : LATEST, LIKE)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
+    @RequestMapping(method = RequestMethod.GET, value = "/cursor/categorylist/{categoryIdx}")
+    public ResponseEntity categoryProductCursorList(
+            @PathVariable @NotNull @Positive Integer categoryIdx,
+            @RequestParam(defaultValue = "LATEST") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive @Max(100) Integer size) {
+
+        BaseRes baseRes = productService.categoryProductCursorList(categoryIdx, sort, cursor, size);
+        return ResponseEntity.ok().body(baseRes);
+    }
+
+    @ApiOperation(value = "스타일 별 상품 목록 커서 조회", response = BaseRes.class, notes = "회원이 스타일에 해당하는 상품의 목록을 커서 기준으로 조회한다. (sort : LATEST, LIKE)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
+    @RequestMapping(method = RequestMethod.GET, value = "/cursor/stylelist/{styleIdx}")
+    public ResponseEntity styleProductCursorList(
+            @PathVariable @NotNull @Positive Integer styleIdx,
+            @RequestParam(defaultValue = "LATEST") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive @Max(100) Integer size) {
+
+        BaseRes baseRes = productService.styleProductCursorList(styleIdx, sort, cursor, size);
+        return ResponseEntity.ok().body(baseRes);
+    }
+
+    @ApiOperation(value = "브랜드 별 상품 목록 커서 조회", response = BaseRes.class, notes = "회원/판매자가 브랜드 별 상품의 목록을 커서 기준으로 조회한다. (sort : LATEST, LIKE)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
+    @RequestMapping(method = RequestMethod.GET, value = "/cursor/brand/{brandIdx}")
+    public ResponseEntity brandProductCursorList(
+            @PathVariable @NotNull @Positive Integer brandIdx,
+            @RequestParam(defaultValue = "LATEST") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Positive @Max(100) Integer size) {
+
+        BaseRes baseRes = productService.brandProductCursorList(brandIdx, sort, cursor, size);
+        return ResponseEntity.ok().body(baseRes);
+    }
 }
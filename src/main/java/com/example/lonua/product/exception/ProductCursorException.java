@@ -0,0 +1,14 @@
+package com.example.lonua.product.exception;
+
+import com.example.lonua.common.error.ErrorCode;
+import com.example.lonua.common.error.exception.BusinessException;
+
+public class ProductCursorException extends BusinessException {
+    public ProductCursorException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static ProductCursorException forInvalidCursor(String cursor) {
+        return new ProductCursorException(ErrorCode.INVALID_PRODUCT_CURSOR, String.format("Cursor [ %s ] is invalid.", cursor));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.lonua.product.exception;
+
+import com.example.lonua.common.error.ErrorCode;
+import com.example.lonua.common.error.exception.BusinessException;
+
+public class ProductStockException extends BusinessException {
+    public ProductStockException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static ProductStockException forOutOfStock(Integer productIdx) {
+        return new ProductStockException(ErrorCode.PRODUCT_OUT_OF_STOCK, String.format("Product [ %s ] is out of stock.", productIdx));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.lonua.product.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 아직 DB 에 반영되지 않은 상품 카운트 증감분 (ProductCountBuffer -> ProductCountRepository)
+@Getter
+@AllArgsConstructor
+public class ProductCountDelta {
+
+    private Integer productIdx;
+    private long likeCount;
+    private long[] upperTypeCount;  // 상체 유형 1~3
+    private long[] lowerTypeCount;  // 하체 유형 1~3
+}
@@ -25,6 +25,13 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Table(indexes = {
+        // 커서 기반 목록 조회(최신 순)의 seek 조건을 인덱스로 처리하기 위한 인덱스
+        @Index(name = "idx_product_created_at", columnList = "createdAt, productIdx"),
+        @Index(name = "idx_product_category_created_at", columnList = "Category_idx, createdAt, productIdx"),
+        @Index(name = "idx_product_style_created_at", columnList = "Style_idx, createdAt, productIdx"),
+        @Index(name = "idx_product_brand_created_at", columnList = "Brand_idx, createdAt, productIdx")
+})
 public class Product {
 
     @Id
@@ -91,6 +98,12 @@ public class Product {
     private Float hemLength;  // 밑단 길이
     private Float totalBottomLength;  // 하의 총 길이
 
+    @Column(length = 500)
+    private String primaryImage;  // 대표 이미지 (가장 먼저 등록된 상품 이미지, 목록 카드에서 사용)
+
+    @Column(length = 500)
+    private String thumbnailImage;  // 대표 이미지의 썸네일 (생성 전에는 null 이므로 primaryImage 로 대체)
+
     private String createdAt;
     private String updatedAt;
 
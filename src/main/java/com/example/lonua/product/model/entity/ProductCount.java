@@ -10,6 +10,10 @@ import javax.persistence.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Table(indexes = {
+        // 커서 기반 목록 조회(좋아요 순)를 위한 인덱스
+        @Index(name = "idx_product_count_like", columnList = "likeCount, Product_idx")
+})
 public class ProductCount {
 
     @Id
@@ -29,45 +33,4 @@ public class ProductCount {
     private Integer lowerType1Count;  // 하체 마름 회원이 구매한 수
     private Integer lowerType2Count;  // 하체 보통 회원이 구매한 수
     private Integer lowerType3Count;  // 하체 비만 회원이 구매한 수
-
-    public void increaseLikeCount() {
-        this.likeCount = this.likeCount + 1;
-    }
-
-    public void decreaseLikeCount() {
-        this.likeCount = this.likeCount - 1;
-    }
-
-    public void increaseUpperCount(Integer upperType) {
-        switch (upperType) {
-            case 1:
-                this.upperType1Count = this.upperType1Count + 1;
-                break;
-            case 2:
-                this.upperType2Count = this.upperType2Count + 1;
-                break;
-            case 3:
-                this.upperType3Count = this.upperType3Count + 1;
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid upperType : " + upperType);
-        }
-    }
-
-    public void increaseLowerCount(Integer lowerType) {
-        switch (lowerType) {
-            case 1:
-                this.lowerType1Count = this.lowerType1Count + 1;
-                break;
-            case 2:
-                this.lowerType2Count = this.lowerType2Count + 1;
-                break;
-            case 3:
-                this.lowerType3Count = this.lowerType3Count + 1;
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid lowerType : " + lowerType);
-        }
-    }
-
 }
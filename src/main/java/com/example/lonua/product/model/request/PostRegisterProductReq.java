@@ -108,4 +108,10 @@ public class PostRegisterProductReq {
     @Min(0)
     @ApiModelProperty(value = "하의 총 길이", example = "15.0", required = true)
     private Float totalBottomLength;
+
+    @ApiModelProperty(value = "직접 업로드 후 확인받은 상품 이미지 URL 목록 (productImage 파일 대신 사용)")
+    private List<String> productImageList;
+
+    @ApiModelProperty(value = "직접 업로드 후 확인받은 상품 상세 이미지 URL 목록 (productIntrodImage 파일 대신 사용)")
+    private List<String> productIntrodImageList;
 }
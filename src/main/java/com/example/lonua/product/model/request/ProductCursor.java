@@ -0,0 +1,58 @@
+package com.example.lonua.product.model.request;
+
+import com.example.lonua.product.exception.ProductCursorException;
+import com.example.lonua.product.model.response.GetListProductRes;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 마지막으로 조회한 상품의 정렬 키를 담는 커서
+// 클라이언트에는 Base64 로 인코딩한 문자열(불투명 토큰)로만 전달한다.
+@Getter
+@AllArgsConstructor
+public class ProductCursor {
+
+    private static final String DELIMITER = "|";
+
+    private ProductSortType sortType;
+    private Integer productIdx;
+    private String value;   // LATEST : createdAt, LIKE : likeCount
+
+    public static ProductCursor of(ProductSortType sortType, GetListProductRes product) {
+        String value = sortType == ProductSortType.LIKE
+                ? String.valueOf(product.getLikeCount())
+                : product.getCreatedAt();
+
+        return new ProductCursor(sortType, product.getProductIdx(), value);
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + productIdx + DELIMITER + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰이 없으면 첫 페이지 조회로 판단하여 null 을 반환
+    public static ProductCursor decode(ProductSortType sortType, String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+
+            if (parts.length != 3 || ProductSortType.valueOf(parts[0]) != sortType) {
+                throw ProductCursorException.forInvalidCursor(token);
+            }
+            if (sortType == ProductSortType.LIKE) {
+                Integer.parseInt(parts[2]);
+            }
+
+            return new ProductCursor(sortType, Integer.valueOf(parts[1]), parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw ProductCursorException.forInvalidCursor(token);
+        }
+    }
+}
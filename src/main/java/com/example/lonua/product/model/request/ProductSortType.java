@@ -0,0 +1,7 @@
+package com.example.lonua.product.model.request;
+
+// 커서 기반 상품 목록 조회 시 사용하는 정렬 기준
+public enum ProductSortType {
+    LATEST,  // 최신 등록 순 (createdAt, productIdx)
+    LIKE     // 좋아요 많은 순 (likeCount, productIdx)
+}
@@ -0,0 +1,17 @@
+package com.example.lonua.product.model.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetCursorListProductRes {
+
+    private List<GetListProductRes> productList;
+    private String nextCursor;  // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+    private Boolean hasNext;
+}
@@ -1,6 +1,6 @@
 package com.example.lonua.product.model.response;
 
-import com.example.lonua.brand.model.entity.Brand;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 @Getter
@@ -17,4 +17,21 @@ public class GetListProductRes {
     private Integer price;
     private Integer salePrice;
     private Integer likeCount;
+    private Boolean liked;      // 로그인한 회원의 좋아요 여부
+
+    @JsonIgnore
+    private String createdAt;   // 커서(최신 순) 생성용, 응답에는 포함하지 않음
+
+    // QueryDSL 프로젝션용 (liked 는 조회 후 LikedProductCache 에서 채운다)
+    public GetListProductRes(Integer productIdx, String brandName, String productName, String productImage,
+                             Integer price, Integer salePrice, Integer likeCount, String createdAt) {
+        this.productIdx = productIdx;
+        this.brandName = brandName;
+        this.productName = productName;
+        this.productImage = productImage;
+        this.price = price;
+        this.salePrice = salePrice;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+    }
 }
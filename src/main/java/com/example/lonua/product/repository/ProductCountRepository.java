@@ -1,16 +1,22 @@
 package com.example.lonua.product.repository;
 
 import com.example.lonua.product.model.entity.ProductCount;
+import com.example.lonua.product.repository.querydsl.ProductCountRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface ProductCountRepository extends JpaRepository<ProductCount, Integer> {
+public interface ProductCountRepository extends JpaRepository<ProductCount, Integer>, ProductCountRepositoryCustom {
 
     public Integer deleteByProduct_ProductIdx(Integer idx);
 
     Optional<ProductCount> findByProduct_ProductIdx(Integer idx);
 
+    @Modifying
+    @Query("DELETE FROM ProductCount pc WHERE pc.product.productIdx IN (SELECT p.productIdx FROM Product p WHERE p.brand.brandIdx = :brandIdx)")
+    public Integer deleteAllByBrandIdx(Integer brandIdx);
 }
@@ -1,10 +1,27 @@
 package com.example.lonua.product.repository;
 
 import com.example.lonua.product.model.entity.ProductImage;
+import com.example.lonua.product.repository.querydsl.ProductImageRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface ProductImageRepository extends JpaRepository<ProductImage, Integer> {
+public interface ProductImageRepository extends JpaRepository<ProductImage, Integer>, ProductImageRepositoryCustom {
     public Integer deleteAllByProduct_ProductIdx(Integer idx);
+
+    // 상품 삭제 시 S3 정리용 이미지 URL 조회
+    @Query("SELECT pi.productImage FROM ProductImage pi WHERE pi.product.productIdx = :productIdx")
+    public List<String> findAllProductImageByProductIdx(Integer productIdx);
+
+    // 브랜드 일괄 삭제 (S3 정리용 이미지 URL 조회 후 한 번의 DELETE)
+    @Query("SELECT pi.productImage FROM ProductImage pi WHERE pi.product.brand.brandIdx = :brandIdx")
+    public List<String> findAllProductImageByBrandIdx(Integer brandIdx);
+
+    @Modifying
+    @Query("DELETE FROM ProductImage pi WHERE pi.product.productIdx IN (SELECT p.productIdx FROM Product p WHERE p.brand.brandIdx = :brandIdx)")
+    public Integer deleteAllByBrandIdx(Integer brandIdx);
 }
@@ -1,11 +1,28 @@
 package com.example.lonua.product.repository;
 
 import com.example.lonua.product.model.entity.ProductIntrodImage;
+import com.example.lonua.product.repository.querydsl.ProductIntrodImageRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface ProductIntrodImageRepository extends JpaRepository<ProductIntrodImage, Integer> {
+public interface ProductIntrodImageRepository extends JpaRepository<ProductIntrodImage, Integer>, ProductIntrodImageRepositoryCustom {
 
     public Integer deleteAllByProduct_ProductIdx(Integer idx);
+
+    // 상품 삭제 시 S3 정리용 이미지 URL 조회
+    @Query("SELECT pi.productIntrodImage FROM ProductIntrodImage pi WHERE pi.product.productIdx = :productIdx")
+    public List<String> findAllProductIntrodImageByProductIdx(Integer productIdx);
+
+    // 브랜드 일괄 삭제 (S3 정리용 이미지 URL 조회 후 한 번의 DELETE)
+    @Query("SELECT pi.productIntrodImage FROM ProductIntrodImage pi WHERE pi.product.brand.brandIdx = :brandIdx")
+    public List<String> findAllProductIntrodImageByBrandIdx(Integer brandIdx);
+
+    @Modifying
+    @Query("DELETE FROM ProductIntrodImage pi WHERE pi.product.productIdx IN (SELECT p.productIdx FROM Product p WHERE p.brand.brandIdx = :brandIdx)")
+    public Integer deleteAllByBrandIdx(Integer brandIdx);
 }
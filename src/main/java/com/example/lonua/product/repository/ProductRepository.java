@@ -4,6 +4,10 @@ import com.example.lonua.product.model.entity.Product;
 import com.example.lonua.product.repository.querydsl.ProductRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.LockModeType;
@@ -19,4 +23,35 @@ public interface ProductRepository extends JpaRepository<Product, Integer>, Prod
     public Integer deleteByProductIdx(Integer idx);
 
     public List<Product> findAllByBrand_BrandIdx(Integer idx);
+
+    // 상품 이미지가 변경된 뒤 대표 이미지(primaryImage)를 가장 먼저 등록된 이미지로 다시 맞춘다.
+    // 썸네일은 이전 대표 이미지 기준이므로 비운다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.thumbnailImage = NULL, p.primaryImage = " +
+            "(SELECT pi.productImage FROM ProductImage pi WHERE pi.productImageIdx = " +
+            "(SELECT MIN(pi2.productImageIdx) FROM ProductImage pi2 WHERE pi2.product = p)) " +
+            "WHERE p.productIdx = :productIdx")
+    public Integer refreshPrimaryImage(@Param("productIdx") Integer productIdx);
+
+    // 대표 이미지가 비어있는 기존 상품을 productIdx 구간 단위로 채운다. (백필용, 구간마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.primaryImage = " +
+            "(SELECT pi.productImage FROM ProductImage pi WHERE pi.productImageIdx = " +
+            "(SELECT MIN(pi2.productImageIdx) FROM ProductImage pi2 WHERE pi2.product = p)) " +
+            "WHERE p.primaryImage IS NULL AND p.productIdx BETWEEN :fromIdx AND :toIdx")
+    public Integer backfillPrimaryImage(@Param("fromIdx") Integer fromIdx, @Param("toIdx") Integer toIdx);
+
+    // 대표 이미지의 썸네일이 생성되면 기록 (그 사이 대표 이미지가 바뀌었으면 갱신하지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.thumbnailImage = :thumbnailImage WHERE p.productIdx = :productIdx AND p.primaryImage = :primaryImage")
+    public Integer updateThumbnailImage(@Param("productIdx") Integer productIdx, @Param("primaryImage") String primaryImage, @Param("thumbnailImage") String thumbnailImage);
+
+    @Query("SELECT MAX(p.productIdx) FROM Product p")
+    public Integer findMaxProductIdx();
+
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.brand.brandIdx = :brandIdx")
+    public Integer deleteAllByBrandIdx(@Param("brandIdx") Integer brandIdx);
 }
@@ -0,0 +1,20 @@
+package com.example.lonua.product.repository.querydsl;
+
+import com.example.lonua.product.model.ProductCountDelta;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductCountRepositoryCustom {
+    // 카운트는 엔티티를 읽어 자바에서 증가시키지 않고 UPDATE 한 번으로 DB 에서 증감한다. (동시 요청 시 갱신 손실 방지)
+    long increaseLikeCount(Integer productIdx);
+
+    long decreaseLikeCount(Integer productIdx);
+
+    // 주문한 상품들의 체형별 구매 수를 한 번에 증가 (같은 상품이 여러 번 포함되면 그 수만큼 증가)
+    long increaseTypeCount(List<Integer> productIdxList, Integer upperType, Integer lowerType);
+
+    // 버퍼에 모인 상품별 증감분을 JDBC 배치 UPDATE 로 한 번에 반영
+    void applyCountDeltas(List<ProductCountDelta> deltas);
+}
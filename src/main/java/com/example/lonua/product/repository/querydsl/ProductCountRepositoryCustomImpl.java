@@ -0,0 +1,121 @@
+package com.example.lonua.product.repository.querydsl;
+
+import com.example.lonua.product.model.ProductCountDelta;
+import com.example.lonua.product.model.entity.ProductCount;
+import com.example.lonua.product.model.entity.QProductCount;
+import com.querydsl.core.types.dsl.NumberPath;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ProductCountRepositoryCustomImpl extends QuerydslRepositorySupport implements ProductCountRepositoryCustom {
+
+    private static final String APPLY_DELTA_SQL = "UPDATE ProductCount SET " +
+            "likeCount = GREATEST(likeCount + ?, 0), " +
+            "upperType1Count = upperType1Count + ?, upperType2Count = upperType2Count + ?, upperType3Count = upperType3Count + ?, " +
+            "lowerType1Count = lowerType1Count + ?, lowerType2Count = lowerType2Count + ?, lowerType3Count = lowerType3Count + ? " +
+            "WHERE Product_idx = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductCountRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        super(ProductCount.class);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public long increaseLikeCount(Integer productIdx) {
+        QProductCount productCount = new QProductCount("productCount");
+
+        return update(productCount)
+                .set(productCount.likeCount, productCount.likeCount.add(1))
+                .where(productCount.product.productIdx.eq(productIdx))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public long decreaseLikeCount(Integer productIdx) {
+        QProductCount productCount = new QProductCount("productCount");
+
+        // 좋아요 수가 음수가 되지 않도록 0 보다 클 때만 감소
+        return update(productCount)
+                .set(productCount.likeCount, productCount.likeCount.subtract(1))
+                .where(productCount.product.productIdx.eq(productIdx), productCount.likeCount.gt(0))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public long increaseTypeCount(List<Integer> productIdxList, Integer upperType, Integer lowerType) {
+        QProductCount productCount = new QProductCount("productCount");
+        NumberPath<Integer> upperTypeCount = getUpperTypeCount(productCount, upperType);
+        NumberPath<Integer> lowerTypeCount = getLowerTypeCount(productCount, lowerType);
+
+        // 상품별 주문 수량 -> 같은 수량끼리 묶어서 수량 종류마다 UPDATE 한 번 (대부분 1 번)
+        Map<Long, List<Integer>> productIdxByQuantity = productIdxList.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toCollection(ArrayList::new))));
+
+        long updated = 0;
+        for (Map.Entry<Long, List<Integer>> entry : productIdxByQuantity.entrySet()) {
+            int quantity = entry.getKey().intValue();
+
+            updated += update(productCount)
+                    .set(upperTypeCount, upperTypeCount.add(quantity))
+                    .set(lowerTypeCount, lowerTypeCount.add(quantity))
+                    .where(productCount.product.productIdx.in(entry.getValue()))
+                    .execute();
+        }
+
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public void applyCountDeltas(List<ProductCountDelta> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getLikeCount());
+            for (int i = 0; i < 3; i++) {
+                ps.setLong(2 + i, delta.getUpperTypeCount()[i]);
+                ps.setLong(5 + i, delta.getLowerTypeCount()[i]);
+            }
+            ps.setInt(8, delta.getProductIdx());
+        });
+    }
+
+    private NumberPath<Integer> getUpperTypeCount(QProductCount productCount, Integer upperType) {
+        switch (upperType) {
+            case 1:
+                return productCount.upperType1Count;
+            case 2:
+                return productCount.upperType2Count;
+            case 3:
+                return productCount.upperType3Count;
+            default:
+                throw new IllegalArgumentException("Invalid upperType : " + upperType);
+        }
+    }
+
+    private NumberPath<Integer> getLowerTypeCount(QProductCount productCount, Integer lowerType) {
+        switch (lowerType) {
+            case 1:
+                return productCount.lowerType1Count;
+            case 2:
+                return productCount.lowerType2Count;
+            case 3:
+                return productCount.lowerType3Count;
+            default:
+                throw new IllegalArgumentException("Invalid lowerType : " + lowerType);
+        }
+    }
+}
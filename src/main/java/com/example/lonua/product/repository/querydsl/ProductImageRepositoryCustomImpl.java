@@ -0,0 +1,28 @@
+package com.example.lonua.product.repository.querydsl;
+
+import com.example.lonua.product.model.entity.ProductImage;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class ProductImageRepositoryCustomImpl extends QuerydslRepositorySupport implements ProductImageRepositoryCustom {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductImageRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        super(ProductImage.class);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // IDENTITY 전략은 JPA 배치 INSERT 가 되지 않으므로 JDBC 배치로 한 번에 저장
+    @Override
+    @Transactional
+    public void saveAllInBatch(Integer productIdx, List<String> productImageList) {
+        jdbcTemplate.batchUpdate("INSERT INTO ProductImage (productImage, Product_idx) VALUES (?, ?)",
+                productImageList, productImageList.size(), (ps, productImage) -> {
+                    ps.setString(1, productImage);
+                    ps.setInt(2, productIdx);
+                });
+    }
+}
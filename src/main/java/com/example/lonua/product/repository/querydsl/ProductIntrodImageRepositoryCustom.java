@@ -0,0 +1,7 @@
+package com.example.lonua.product.repository.querydsl;
+
+import java.util.List;
+
+public interface ProductIntrodImageRepositoryCustom {
+    public void saveAllInBatch(Integer productIdx, List<String> productIntrodImageList);
+}
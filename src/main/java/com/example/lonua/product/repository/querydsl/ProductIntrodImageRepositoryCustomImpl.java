@@ -0,0 +1,28 @@
+package com.example.lonua.product.repository.querydsl;
+
+import com.example.lonua.product.model.entity.ProductIntrodImage;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class ProductIntrodImageRepositoryCustomImpl extends QuerydslRepositorySupport implements ProductIntrodImageRepositoryCustom {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductIntrodImageRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        super(ProductIntrodImage.class);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // IDENTITY 전략은 JPA 배치 INSERT 가 되지 않으므로 JDBC 배치로 한 번에 저장
+    @Override
+    @Transactional
+    public void saveAllInBatch(Integer productIdx, List<String> productIntrodImageList) {
+        jdbcTemplate.batchUpdate("INSERT INTO ProductIntrodImage (productIntrodImage, Product_idx) VALUES (?, ?)",
+                productIntrodImageList, productIntrodImageList.size(), (ps, productIntrodImage) -> {
+                    ps.setString(1, productIntrodImage);
+                    ps.setInt(2, productIdx);
+                });
+    }
+}
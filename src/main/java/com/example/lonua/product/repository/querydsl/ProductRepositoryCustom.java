@@ -1,25 +1,51 @@
 package com.example.lonua.product.repository.querydsl;
 
+import com.example.lonua.brand.model.response.GetBrandProductRes;
 import com.example.lonua.product.model.entity.Product;
-import com.example.lonua.user.model.entity.User;
+import com.example.lonua.product.model.request.ProductCursor;
+import com.example.lonua.product.model.request.ProductSortType;
+import com.example.lonua.product.model.response.GetListProductRes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductRepositoryCustom {
-    Page<Product> findList(Pageable pageable);
+    Page<GetListProductRes> findList(Pageable pageable);
 
-    Page<Product> findCategoryList(Pageable pageable, Integer idx);
+    Page<GetListProductRes> findCategoryList(Pageable pageable, Integer idx);
 
-    Page<Product> findStyleList(Pageable pageable, Integer idx);
+    Page<GetListProductRes> findStyleList(Pageable pageable, Integer idx);
 
-    Page<Product> findSameTypeList(Pageable pageable, Integer upperType, Integer lowerType);
+    Page<GetListProductRes> findSameTypeList(Pageable pageable, Integer upperType, Integer lowerType);
 
-    Page<Product> findBrandList(Pageable pageable, Integer brandIdx);
+    Page<GetListProductRes> findBrandList(Pageable pageable, Integer brandIdx);
 
     Optional<Product> findProduct(Integer idx);
+
+    // 주문 시 여러 상품을 브랜드, 카운트와 함께 한 번에 조회
+    List<Product> findAllWithBrandAndCount(Collection<Integer> productIdxList);
+
+    // 커서 기반 조회 (cursor 가 null 이면 첫 페이지)
+    Slice<GetListProductRes> findCursorList(ProductSortType sortType, ProductCursor cursor, Integer size);
+
+    Slice<GetListProductRes> findCategoryCursorList(Integer idx, ProductSortType sortType, ProductCursor cursor, Integer size);
+
+    Slice<GetListProductRes> findStyleCursorList(Integer idx, ProductSortType sortType, ProductCursor cursor, Integer size);
+
+    Slice<GetListProductRes> findBrandCursorList(Integer brandIdx, ProductSortType sortType, ProductCursor cursor, Integer size);
+
+    // 재고 차감 (재고가 count 이상일 때만 차감, 차감된 행 수 반환)
+    long decreaseQuantity(Integer productIdx, Integer count);
+
+    // 재고 복구
+    long increaseQuantity(Integer productIdx, Integer count);
+
+    // 브랜드 전체 상품 목록 (브랜드 번호, 상품 번호 순) - 브랜드별 묶음은 서비스에서 처리
+    List<GetBrandProductRes> findBrandProductList();
 }
@@ -1,20 +1,29 @@
 package com.example.lonua.product.repository.querydsl;
 
 import com.example.lonua.brand.model.entity.QBrand;
-import com.example.lonua.category.model.entity.QCategory;
+import com.example.lonua.brand.model.response.GetBrandProductRes;
 import com.example.lonua.product.model.entity.*;
-import com.example.lonua.style.model.entity.QStyle;
-import com.example.lonua.user.model.entity.QUser;
-import com.example.lonua.user.model.entity.User;
+import com.example.lonua.product.model.request.ProductCursor;
+import com.example.lonua.product.model.request.ProductSortType;
+import com.example.lonua.product.model.response.GetListProductRes;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.NumberExpression;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class ProductRepositoryCustomImpl extends QuerydslRepositorySupport implements ProductRepositoryCustom {
 
@@ -25,108 +34,167 @@ public class ProductRepositoryCustomImpl extends QuerydslRepositorySupport imple
 
     // 페이징 기능 사용을 위한 쿼리
     @Override
-    public Page<Product> findList(Pageable pageable) {
+    public Page<GetListProductRes> findList(Pageable pageable) {
         QProduct product = new QProduct("product");
-        QProductImage productImage = new QProductImage("productImage");
-        QProductCount productCount = new QProductCount("productCount");
-        QBrand brand = new QBrand("brand");
 
-        List<Product> result = from(product)
-                .leftJoin(product.productImageList, productImage).fetchJoin()
-                .leftJoin(product.productCount, productCount).fetchJoin()
-                .leftJoin(product.brand, brand).fetchJoin()
-                .distinct()
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch().stream().distinct().collect(Collectors.toList());
+        return findPage(pageable, null, product.productIdx.asc());
+    }
+
+    @Override
+    public Page<GetListProductRes> findCategoryList(Pageable pageable, Integer idx) {
+        QProduct product = new QProduct("product");
 
-        return new PageImpl<>(result, pageable, result.size());
+        return findPage(pageable, product.category.categoryIdx.eq(idx), product.createdAt.desc(), product.productIdx.desc());
     }
 
     @Override
-    public Page<Product> findCategoryList(Pageable pageable, Integer idx) {
+    public Page<GetListProductRes> findStyleList(Pageable pageable, Integer idx) {
         QProduct product = new QProduct("product");
-        QProductImage productImage = new QProductImage("productImage");
-        QProductCount productCount = new QProductCount("productCount");
-        QBrand brand = new QBrand("brand");
-        QCategory category = new QCategory("category");
 
-        List<Product> result = from(product)
-                .leftJoin(product.productImageList, productImage).fetchJoin()
-                .leftJoin(product.productCount, productCount).fetchJoin()
-                .leftJoin(product.brand, brand).fetchJoin()
-                .leftJoin(product.category, category).fetchJoin()
-                .where(category.categoryIdx.eq(idx))
-                .orderBy(product.createdAt.desc())
-                .distinct()
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch().stream().distinct().collect(Collectors.toList());
+        return findPage(pageable, product.style.styleIdx.eq(idx), product.createdAt.desc(), product.productIdx.desc());
+    }
 
-        return new PageImpl<>(result, pageable, result.size());
+    @Override
+    public Page<GetListProductRes> findSameTypeList(Pageable pageable, Integer upperType, Integer lowerType) {
+        QProduct product = new QProduct("product");
+
+        return findPage(pageable, null, getUpperTypeCount(upperType).desc(), getLowerTypeCount(lowerType).desc(), product.productIdx.asc());
     }
 
-        @Override
-    public Page<Product> findStyleList(Pageable pageable, Integer idx) {
+    @Override
+    public Page<GetListProductRes> findBrandList(Pageable pageable, Integer brandIdx) {
+        QProduct product = new QProduct("product");
+
+        return findPage(pageable, product.brand.brandIdx.eq(brandIdx), product.productIdx.asc());
+    }
+
+    // 상품 카드에 필요한 컬럼만 DTO 로 바로 조회하므로 엔티티가 영속성 컨텍스트에 올라가지 않고,
+    // 컬렉션 fetch join 이 없으니 offset/limit 도 DB 에서 그대로 처리된다.
+    // 전체 개수는 별도의 count 쿼리로 조회한다.
+    private Page<GetListProductRes> findPage(Pageable pageable, Predicate predicate, OrderSpecifier<?>... orders) {
         QProduct product = new QProduct("product");
-        QProductImage productImage = new QProductImage("productImage");
         QProductCount productCount = new QProductCount("productCount");
         QBrand brand = new QBrand("brand");
-        QStyle style = new QStyle("style");
 
-        List<Product> result = from(product)
-                .leftJoin(product.productImageList, productImage).fetchJoin()
-                .leftJoin(product.productCount, productCount).fetchJoin()
-                .leftJoin(product.brand, brand).fetchJoin()
-                .leftJoin(product.style, style).fetchJoin()
-                .where(style.styleIdx.eq(idx))
-                .orderBy(product.createdAt.desc())
-                .distinct()
+        List<GetListProductRes> result = from(product)
+                .leftJoin(product.brand, brand)
+                .leftJoin(product.productCount, productCount)
+                .where(predicate)
+                .orderBy(orders)
+                .select(productCard(product, brand, productCount))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch().stream().distinct().collect(Collectors.toList());
+                .fetch();
+
+        return PageableExecutionUtils.getPage(result, pageable, () -> from(product)
+                .where(predicate)
+                .select(product.count())
+                .fetchOne());
+    }
 
-        return new PageImpl<>(result, pageable, result.size());
+    @Override
+    public Slice<GetListProductRes> findCursorList(ProductSortType sortType, ProductCursor cursor, Integer size) {
+        return findSlice(null, sortType, cursor, size);
     }
 
     @Override
-    public Page<Product> findSameTypeList(Pageable pageable, Integer upperType, Integer lowerType) {
+    public Slice<GetListProductRes> findCategoryCursorList(Integer idx, ProductSortType sortType, ProductCursor cursor, Integer size) {
+        QProduct product = new QProduct("product");
+
+        return findSlice(product.category.categoryIdx.eq(idx), sortType, cursor, size);
+    }
+
+    @Override
+    public Slice<GetListProductRes> findStyleCursorList(Integer idx, ProductSortType sortType, ProductCursor cursor, Integer size) {
+        QProduct product = new QProduct("product");
+
+        return findSlice(product.style.styleIdx.eq(idx), sortType, cursor, size);
+    }
+
+    @Override
+    public Slice<GetListProductRes> findBrandCursorList(Integer brandIdx, ProductSortType sortType, ProductCursor cursor, Integer size) {
+        QProduct product = new QProduct("product");
+
+        return findSlice(product.brand.brandIdx.eq(brandIdx), sortType, cursor, size);
+    }
+
+    // offset 없이 마지막으로 조회한 (정렬 키, productIdx) 다음부터 seek 하므로 페이지 깊이와 관계없이 조회 비용이 일정하다.
+    // 다음 페이지 존재 여부는 size + 1 개를 조회하여 판단한다.
+    private Slice<GetListProductRes> findSlice(Predicate predicate, ProductSortType sortType, ProductCursor cursor, Integer size) {
         QProduct product = new QProduct("product");
-        QProductImage productImage = new QProductImage("productImage");
         QProductCount productCount = new QProductCount("productCount");
         QBrand brand = new QBrand("brand");
 
-        List<Product> result = from(product)
-                .leftJoin(product.productImageList, productImage).fetchJoin()
-                .leftJoin(product.productCount, productCount).fetchJoin()
-                .leftJoin(product.brand, brand).fetchJoin()
-                .orderBy(getUpperTypeCount(upperType).desc(), getLowerTypeCount(lowerType).desc())
-                .distinct()
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch().stream().distinct().collect(Collectors.toList());
+        BooleanBuilder where = new BooleanBuilder(predicate);
+        OrderSpecifier<?>[] orders;
 
-        return new PageImpl<>(result, pageable, result.size());
+        if (sortType == ProductSortType.LIKE) {
+            if (cursor != null) {
+                Integer likeCount = Integer.valueOf(cursor.getValue());
+                where.and(productCount.likeCount.lt(likeCount)
+                        .or(productCount.likeCount.eq(likeCount).and(product.productIdx.lt(cursor.getProductIdx()))));
+            }
+            orders = new OrderSpecifier<?>[]{productCount.likeCount.desc(), product.productIdx.desc()};
+        } else {
+            // createdAt 은 "yyyy/MM/dd HH:mm:ss" 형식의 문자열이므로 문자열 비교 순서가 시간 순서와 같다.
+            if (cursor != null) {
+                String createdAt = cursor.getValue();
+                where.and(product.createdAt.lt(createdAt)
+                        .or(product.createdAt.eq(createdAt).and(product.productIdx.lt(cursor.getProductIdx()))));
+            }
+            orders = new OrderSpecifier<?>[]{product.createdAt.desc(), product.productIdx.desc()};
+        }
+
+        List<GetListProductRes> result = from(product)
+                .leftJoin(product.brand, brand)
+                .leftJoin(product.productCount, productCount)
+                .where(where)
+                .orderBy(orders)
+                .select(productCard(product, brand, productCount))
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        if (hasNext) {
+            result = result.subList(0, size);
+        }
+
+        return new SliceImpl<>(result, PageRequest.of(0, size), hasNext);
     }
 
     @Override
-    public Page<Product> findBrandList(Pageable pageable, Integer brandIdx) {
+    public List<GetBrandProductRes> findBrandProductList() {
         QProduct product = new QProduct("product");
-        QProductImage productImage = new QProductImage("productImage");
-        QProductCount productCount = new QProductCount("productCount");
         QBrand brand = new QBrand("brand");
+        QProductCount productCount = new QProductCount("productCount");
 
-        List<Product> result = from(product)
-                .leftJoin(product.productImageList, productImage).fetchJoin()
-                .leftJoin(product.productCount, productCount).fetchJoin()
-                .leftJoin(product.brand, brand).fetchJoin()
-                .where(brand.brandIdx.eq(brandIdx))
-                .distinct()
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch().stream().distinct().collect(Collectors.toList());
+        return from(product)
+                .innerJoin(product.brand, brand)
+                .leftJoin(product.productCount, productCount)
+                .select(Projections.constructor(GetBrandProductRes.class,
+                        product.productIdx,
+                        brand.brandIdx,
+                        product.productName,
+                        product.thumbnailImage.coalesce(product.primaryImage),
+                        product.price,
+                        product.salePrice,
+                        productCount.likeCount))
+                .orderBy(brand.brandIdx.asc(), product.productIdx.asc())
+                .fetch();
+    }
 
-        return new PageImpl<>(result, pageable, result.size());
+    // 상품 카드(GetListProductRes) 프로젝션
+    // 대표 이미지는 Product 에 비정규화된 컬럼을 사용하므로 이미지 테이블을 조인하지 않는다. (썸네일이 있으면 썸네일 우선)
+    private ConstructorExpression<GetListProductRes> productCard(QProduct product, QBrand brand, QProductCount productCount) {
+        return Projections.constructor(GetListProductRes.class,
+                product.productIdx,
+                brand.brandName,
+                product.productName,
+                product.thumbnailImage.coalesce(product.primaryImage),
+                product.price,
+                product.salePrice,
+                productCount.likeCount,
+                product.createdAt);
     }
 
     private NumberExpression<Integer> getUpperTypeCount(Integer upperType) {
@@ -154,6 +222,19 @@ public class ProductRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 throw new IllegalArgumentException("Invalid lowerType: " + lowerType);
         }
     }
+    @Override
+    public List<Product> findAllWithBrandAndCount(Collection<Integer> productIdxList) {
+        QProduct product = new QProduct("product");
+        QProductCount productCount = new QProductCount("productCount");
+        QBrand brand = new QBrand("brand");
+
+        return from(product)
+                .leftJoin(product.brand, brand).fetchJoin()
+                .leftJoin(product.productCount, productCount).fetchJoin()
+                .where(product.productIdx.in(productIdxList))
+                .fetch();
+    }
+
     @Override
     public Optional<Product> findProduct(Integer idx) {
         QProduct product = new QProduct("product");
@@ -172,4 +253,27 @@ public class ProductRepositoryCustomImpl extends QuerydslRepositorySupport imple
 
         return result;
     }
+
+    @Override
+    @Transactional
+    public long decreaseQuantity(Integer productIdx, Integer count) {
+        QProduct product = new QProduct("product");
+
+        // UPDATE ... WHERE quantity >= ? 로 조건부 차감하여 동시 주문에도 재고가 음수가 되지 않는다.
+        return update(product)
+                .set(product.quantity, product.quantity.subtract(count))
+                .where(product.productIdx.eq(productIdx), product.quantity.goe(count))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public long increaseQuantity(Integer productIdx, Integer count) {
+        QProduct product = new QProduct("product");
+
+        return update(product)
+                .set(product.quantity, product.quantity.add(count))
+                .where(product.productIdx.eq(productIdx))
+                .execute();
+    }
 }
@@ -0,0 +1,179 @@
+package com.example.lonua.product.service;
+
+import com.example.lonua.product.model.ProductCountDelta;
+import com.example.lonua.product.model.response.GetListProductRes;
+import com.example.lonua.product.repository.ProductCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 좋아요/주문 시 ProductCount 행을 매번 UPDATE 하지 않고 메모리에 증감분을 모아두었다가
+// 주기적으로(그리고 종료 시) 배치 UPDATE 로 반영하는 write-behind 버퍼
+// 인기 상품 한 행에 쓰기가 몰리는 것을 막는 대신, DB 의 카운트는 flush 주기만큼 늦게 반영된다.
+// product.count-buffer.enabled=false 이면 버퍼 없이 바로 원자적 UPDATE 를 실행한다.
+@Slf4j
+@Component
+public class ProductCountBuffer {
+
+    private final ProductCountRepository productCountRepository;
+    private final boolean enabled;
+
+    // 상품별 증감분 (한 번 등록된 상품은 제거하지 않음 - 제거와 증가가 겹치면 증가분이 유실될 수 있으므로)
+    private final Map<Integer, PendingCount> pendingCounts = new ConcurrentHashMap<>();
+
+    public ProductCountBuffer(ProductCountRepository productCountRepository,
+                              @Value("${product.count-buffer.enabled:true}") boolean enabled) {
+        this.productCountRepository = productCountRepository;
+        this.enabled = enabled;
+    }
+
+    public void increaseLikeCount(Integer productIdx) {
+        if (!enabled) {
+            productCountRepository.increaseLikeCount(productIdx);
+            return;
+        }
+        afterCommit(() -> pending(productIdx).likeCount.increment());
+    }
+
+    public void decreaseLikeCount(Integer productIdx) {
+        if (!enabled) {
+            productCountRepository.decreaseLikeCount(productIdx);
+            return;
+        }
+        afterCommit(() -> pending(productIdx).likeCount.decrement());
+    }
+
+    public void increaseTypeCount(List<Integer> productIdxList, Integer upperType, Integer lowerType) {
+        if (upperType < 1 || upperType > 3) {
+            throw new IllegalArgumentException("Invalid upperType : " + upperType);
+        }
+        if (lowerType < 1 || lowerType > 3) {
+            throw new IllegalArgumentException("Invalid lowerType : " + lowerType);
+        }
+        if (!enabled) {
+            productCountRepository.increaseTypeCount(productIdxList, upperType, lowerType);
+            return;
+        }
+
+        afterCommit(() -> {
+            for (Integer productIdx : productIdxList) {
+                PendingCount pendingCount = pending(productIdx);
+                pendingCount.upperTypeCount[upperType - 1].increment();
+                pendingCount.lowerTypeCount[lowerType - 1].increment();
+            }
+        });
+    }
+
+    // 조회 시 DB 에 저장된 좋아요 수에 아직 반영되지 않은 증감분을 더해서 보여준다.
+    public Integer getLikeCount(Integer productIdx, Integer persistedLikeCount) {
+        PendingCount pendingCount = pendingCounts.get(productIdx);
+        if (pendingCount == null || persistedLikeCount == null) {
+            return persistedLikeCount;
+        }
+
+        return (int) Math.max(persistedLikeCount + pendingCount.likeCount.sum(), 0);
+    }
+
+    public List<GetListProductRes> mergeLikeCount(List<GetListProductRes> productList) {
+        if (!pendingCounts.isEmpty()) {
+            for (GetListProductRes product : productList) {
+                product.setLikeCount(getLikeCount(product.getProductIdx(), product.getLikeCount()));
+            }
+        }
+
+        return productList;
+    }
+
+    @Scheduled(fixedDelayString = "${product.count-buffer.flush-interval-ms:1000}")
+    public void flush() {
+        List<ProductCountDelta> deltas = new ArrayList<>();
+        for (Map.Entry<Integer, PendingCount> entry : pendingCounts.entrySet()) {
+            ProductCountDelta delta = entry.getValue().drain(entry.getKey());
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            productCountRepository.applyCountDeltas(deltas);
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증감분은 버퍼에 되돌려 다음 주기에 다시 반영
+            deltas.forEach(delta -> pending(delta.getProductIdx()).restore(delta));
+            log.warn("ProductCount flush failed. pending products={}", deltas.size(), e);
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 증감분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 좋아요/주문 트랜잭션이 롤백되면 카운트도 반영되지 않도록 커밋 이후에 버퍼에 더한다.
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private PendingCount pending(Integer productIdx) {
+        return pendingCounts.computeIfAbsent(productIdx, idx -> new PendingCount());
+    }
+
+    private static class PendingCount {
+        private final LongAdder likeCount = new LongAdder();
+        private final LongAdder[] upperTypeCount = {new LongAdder(), new LongAdder(), new LongAdder()};
+        private final LongAdder[] lowerTypeCount = {new LongAdder(), new LongAdder(), new LongAdder()};
+
+        // 현재까지 모인 값을 꺼내고 그만큼 차감 (sumThenReset 은 동시 증가분을 잃을 수 있어 사용하지 않음)
+        ProductCountDelta drain(Integer productIdx) {
+            long like = take(likeCount);
+            long[] upper = new long[3];
+            long[] lower = new long[3];
+            boolean changed = like != 0;
+            for (int i = 0; i < 3; i++) {
+                upper[i] = take(upperTypeCount[i]);
+                lower[i] = take(lowerTypeCount[i]);
+                changed = changed || upper[i] != 0 || lower[i] != 0;
+            }
+
+            return changed ? new ProductCountDelta(productIdx, like, upper, lower) : null;
+        }
+
+        void restore(ProductCountDelta delta) {
+            likeCount.add(delta.getLikeCount());
+            for (int i = 0; i < 3; i++) {
+                upperTypeCount[i].add(delta.getUpperTypeCount()[i]);
+                lowerTypeCount[i].add(delta.getLowerTypeCount()[i]);
+            }
+        }
+
+        private static long take(LongAdder adder) {
+            long value = adder.sum();
+            if (value != 0) {
+                adder.add(-value);
+            }
+            return value;
+        }
+    }
+}
@@ -1,23 +1,19 @@
 package com.example.lonua.product.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.example.lonua.common.image.ImageVariantService;
+import com.example.lonua.common.storage.S3ObjectCleaner;
+import com.example.lonua.common.storage.S3Uploader;
 import com.example.lonua.product.model.entity.Product;
-import com.example.lonua.product.model.entity.ProductImage;
 import com.example.lonua.product.repository.ProductImageRepository;
+import com.example.lonua.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -26,57 +22,56 @@ public class ProductImageService {
     @Value("${cloud.aws.s3.product-bucket}")
     private String productBucket;
 
-    private final AmazonS3 s3;
+    private final S3Uploader s3Uploader;
+    private final S3ObjectCleaner s3ObjectCleaner;
+    private final ImageVariantService imageVariantService;
     private final ProductImageRepository productImageRepository;
+    private final ProductRepository productRepository;
 
-    public String makeFolder(){
-        String str = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        String folderPath = str.replace("/", File.separator);
-        return folderPath;
+    // 트랜잭션 밖에서 호출 (업로드가 끝날 때까지 기다리지 않고 바로 반환)
+    public CompletableFuture<List<String>> uploadProductImage(MultipartFile[] uploadFiles) {
+        return s3Uploader.uploadAsync(productBucket, uploadFiles);
     }
 
-    public String saveFile(MultipartFile productFile) {
-        String originalName = productFile.getOriginalFilename();
-
-        String folderPath = makeFolder();
-        String uuid = UUID.randomUUID().toString();
-        String saveFileName = folderPath + File.separator + uuid + "_" + originalName;
-
-        try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(productFile.getSize());
-            metadata.setContentType(productFile.getContentType());
-
-            s3.putObject(productBucket, saveFileName.replace(File.separator, "/"), productFile.getInputStream(), metadata);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        } finally {
-            // 로컬 파일 시스템에서 파일 삭제
-            File localFile = new File(saveFileName);
-            if (localFile.exists()) {
-                localFile.delete();
-            }
-            return s3.getUrl(productBucket, saveFileName.replace(File.separator, "/")).toString();
+    public List<String> awaitUpload(CompletableFuture<List<String>> upload) {
+        return s3Uploader.await(productBucket, upload);
+    }
 
-        }
+    public void discardUpload(CompletableFuture<List<String>> upload) {
+        s3Uploader.discard(productBucket, upload);
     }
 
+    // 업로드된 이미지 URL 을 한 번의 배치 INSERT 로 저장
     @Transactional(readOnly = false)
-    public List<String> registerProductImage(Product product, MultipartFile[] uploadFiles) {
+    public List<String> registerProductImage(Product product, List<String> productImageList) {
+        if (!productImageList.isEmpty()) {
+            productImageRepository.saveAllInBatch(product.getProductIdx(), productImageList);
+        }
 
-        List<String> productImageList = new ArrayList<>();
-        for (MultipartFile multipartFile : uploadFiles) {
+        // 대표 이미지가 없는 상품이면 첫 번째 이미지를 대표 이미지로 저장 (목록 조회 시 이미지 테이블 조인 없이 사용)
+        if (product.getPrimaryImage() == null && !productImageList.isEmpty()) {
+            product.setPrimaryImage(productImageList.get(0));
+        }
 
-            String saveFileName = saveFile(multipartFile);
+        // 커밋 후 썸네일/압축본 생성, 대표 이미지의 썸네일은 목록 카드용으로 상품에 기록
+        Integer productIdx = product.getProductIdx();
+        imageVariantService.requestVariants(productBucket, productImageList, variant ->
+                productRepository.updateThumbnailImage(productIdx, variant.getOriginalImage(), variant.getThumbnailImage()));
 
-            productImageRepository.save(ProductImage.builder()
-                    .product(product)
-                    .productImage(saveFileName.replace(File.separator, "/"))
-                    .build());
+        return productImageList;
+    }
 
-            productImageList.add(saveFileName.replace(File.separator, "/"));
-        }
+    // 상품 이미지 삭제 후 대표 이미지를 남아있는 이미지 기준으로 다시 맞춘다.
+    // 원본과 파생본(썸네일/압축본) 객체는 커밋 후 삭제한다.
+    @Transactional(readOnly = false)
+    public Integer deleteAllProductImage(Integer productIdx) {
+        List<String> productImageList = productImageRepository.findAllProductImageByProductIdx(productIdx);
+        Integer result = productImageRepository.deleteAllByProduct_ProductIdx(productIdx);
+        productRepository.refreshPrimaryImage(productIdx);
 
-        return productImageList;
+        imageVariantService.deleteVariants(productBucket, productImageList);
+        s3ObjectCleaner.deleteAfterCommit(productBucket, productImageList);
+
+        return result;
     }
 }
@@ -1,9 +1,9 @@
 package com.example.lonua.product.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.example.lonua.common.image.ImageVariantService;
+import com.example.lonua.common.storage.S3ObjectCleaner;
+import com.example.lonua.common.storage.S3Uploader;
 import com.example.lonua.product.model.entity.Product;
-import com.example.lonua.product.model.entity.ProductIntrodImage;
 import com.example.lonua.product.repository.ProductIntrodImageRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,13 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -26,58 +21,44 @@ public class ProductIntrodImageService {
     @Value("${cloud.aws.s3.productIntrod-bucket}")
     private String productIntrodBucket;
 
-    private final AmazonS3 s3;
+    private final S3Uploader s3Uploader;
+    private final S3ObjectCleaner s3ObjectCleaner;
+    private final ImageVariantService imageVariantService;
     private final ProductIntrodImageRepository productIntrodImageRepository;
 
-
-    public String makeFolder(){
-        String str = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        String folderPath = str.replace("/", File.separator);
-        return folderPath;
+    // 트랜잭션 밖에서 호출 (업로드가 끝날 때까지 기다리지 않고 바로 반환)
+    public CompletableFuture<List<String>> uploadProductIntrodImage(MultipartFile[] uploadFiles) {
+        return s3Uploader.uploadAsync(productIntrodBucket, uploadFiles);
     }
 
-    public String saveFile(MultipartFile productIntrodFile) {
-
-        String originalName = productIntrodFile.getOriginalFilename();
-
-        String folderPath = makeFolder();
-        String uuid = UUID.randomUUID().toString();
-        String saveFileName = folderPath+ File.separator + uuid + "_" + originalName;
-
-        try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(productIntrodFile.getSize());
-            metadata.setContentType(productIntrodFile.getContentType());
+    public List<String> awaitUpload(CompletableFuture<List<String>> upload) {
+        return s3Uploader.await(productIntrodBucket, upload);
+    }
 
-            s3.putObject(productIntrodBucket, saveFileName.replace(File.separator, "/"), productIntrodFile.getInputStream(), metadata);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        } finally {
-            // 로컬 파일 시스템에서 파일 삭제
-            File localFile = new File(saveFileName);
-            if (localFile.exists()) {
-                localFile.delete();
-            }
-        }
-        return s3.getUrl(productIntrodBucket, saveFileName.replace(File.separator, "/")).toString();
+    public void discardUpload(CompletableFuture<List<String>> upload) {
+        s3Uploader.discard(productIntrodBucket, upload);
     }
 
+    // 업로드된 이미지 URL 을 한 번의 배치 INSERT 로 저장
     @Transactional(readOnly = false)
-    public List<String> registerProductIntrodImage(Product product, MultipartFile[] uploadFiles) {
-
-        List<String> productIntrodImageList = new ArrayList<>();
-        for (MultipartFile multipartFile : uploadFiles) {
+    public List<String> registerProductIntrodImage(Product product, List<String> productIntrodImageList) {
+        if (!productIntrodImageList.isEmpty()) {
+            productIntrodImageRepository.saveAllInBatch(product.getProductIdx(), productIntrodImageList);
+        }
+        imageVariantService.requestVariants(productIntrodBucket, productIntrodImageList);
 
-            String saveFileName = saveFile(multipartFile);
+        return productIntrodImageList;
+    }
 
-            productIntrodImageRepository.save(ProductIntrodImage.builder()
-                    .product(product)
-                    .productIntrodImage(saveFileName.replace(File.separator, "/"))
-                    .build());
+    // 상세 이미지 삭제, 원본과 파생본(썸네일/압축본) 객체는 커밋 후 삭제한다.
+    @Transactional(readOnly = false)
+    public Integer deleteAllProductIntrodImage(Integer productIdx) {
+        List<String> productIntrodImageList = productIntrodImageRepository.findAllProductIntrodImageByProductIdx(productIdx);
+        Integer result = productIntrodImageRepository.deleteAllByProduct_ProductIdx(productIdx);
 
-            productIntrodImageList.add(saveFileName.replace(File.separator, "/"));
-        }
+        imageVariantService.deleteVariants(productIntrodBucket, productIntrodImageList);
+        s3ObjectCleaner.deleteAfterCommit(productIntrodBucket, productIntrodImageList);
 
-        return productIntrodImageList;
+        return result;
     }
 }
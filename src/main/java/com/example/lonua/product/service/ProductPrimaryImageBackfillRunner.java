@@ -0,0 +1,40 @@
+package com.example.lonua.product.service;
+
+import com.example.lonua.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 대표 이미지(primaryImage) 컬럼 추가 전에 등록된 상품들의 대표 이미지를 채우는 일회성 작업
+// product.primary-image.backfill.enabled=true 로 한 번 기동하면 실행되고, 이미 채워진 상품은 건너뛴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.primary-image.backfill.enabled", havingValue = "true")
+public class ProductPrimaryImageBackfillRunner implements ApplicationRunner {
+
+    private final ProductRepository productRepository;
+
+    @Value("${product.primary-image.backfill.chunk-size:1000}")
+    private Integer chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer maxIdx = productRepository.findMaxProductIdx();
+        if (maxIdx == null) {
+            return;
+        }
+
+        // 한 번에 전체를 갱신하면 락이 오래 잡히므로 productIdx 구간 단위로 나누어 갱신
+        int updated = 0;
+        for (int fromIdx = 1; fromIdx <= maxIdx; fromIdx += chunkSize) {
+            updated += productRepository.backfillPrimaryImage(fromIdx, fromIdx + chunkSize - 1);
+        }
+
+        log.info("Product primaryImage backfill finished. updated={}", updated);
+    }
+}
@@ -1,37 +1,45 @@
 package com.example.lonua.product.service;
 
 import com.example.lonua.brand.model.entity.Brand;
+import com.example.lonua.brand.service.BrandCatalogCache;
 import com.example.lonua.category.model.entity.Category;
 import com.example.lonua.common.BaseRes;
+import com.example.lonua.likes.service.LikedProductCache;
 import com.example.lonua.product.model.entity.ProductCount;
 import com.example.lonua.product.model.entity.ProductImage;
 import com.example.lonua.product.model.entity.ProductIntrodImage;
 import com.example.lonua.product.model.request.PatchUpdateProductReq;
+import com.example.lonua.product.model.request.ProductCursor;
+import com.example.lonua.product.model.request.ProductSortType;
 import com.example.lonua.product.model.request.PostRegisterProductReq;
 import com.example.lonua.product.model.entity.Product;
+import com.example.lonua.product.model.response.GetCursorListProductRes;
 import com.example.lonua.product.model.response.GetListProductRes;
 import com.example.lonua.product.model.response.GetReadProductRes;
 import com.example.lonua.product.model.response.PatchUpdateProductRes;
 import com.example.lonua.product.model.response.PostRegisterProductRes;
 import com.example.lonua.product.repository.ProductCountRepository;
-import com.example.lonua.product.repository.ProductImageRepository;
-import com.example.lonua.product.repository.ProductIntrodImageRepository;
 import com.example.lonua.product.repository.ProductRepository;
 import com.example.lonua.style.model.entity.Style;
 import com.example.lonua.user.model.entity.User;
+import com.example.lonua.upload.model.UploadTarget;
+import com.example.lonua.upload.service.UploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 
 @Service
@@ -42,15 +50,44 @@ public class ProductService {
     private final ProductImageService productImageService;
     private final ProductIntrodImageService productIntrodImageService;
     private final ProductCountRepository productCountRepository;
-    private final ProductIntrodImageRepository productIntrodImageRepository;
-    private final ProductImageRepository productImageRepository;
+    private final ProductCountBuffer productCountBuffer;
+    private final LikedProductCache likedProductCache;
+    private final TransactionTemplate transactionTemplate;
+    private final UploadService uploadService;
+    private final BrandCatalogCache brandCatalogCache;
 
 
-    @Transactional(readOnly = false)
+    // 이미지 업로드는 트랜잭션 밖에서 상품 이미지/상세 이미지를 모두 동시에 올리고,
+    // 업로드가 끝난 뒤에 짧은 트랜잭션으로 상품과 이미지 행을 저장한다.
+    // 업로드나 DB 저장이 실패하면 이 요청에서 올린 이미지만 S3 에서 지운다. (클라이언트가 전달한 URL 은 지우지 않는다.)
     public BaseRes register(PostRegisterProductReq postRegisterProductReq, MultipartFile[] productFiles, MultipartFile[] productIntrodFiles) {
+        CompletableFuture<List<String>> productImageUpload = null;
+        CompletableFuture<List<String>> productIntrodImageUpload = null;
+        try {
+            productImageUpload = isEmpty(productFiles) ? null : productImageService.uploadProductImage(productFiles);
+            productIntrodImageUpload = isEmpty(productIntrodFiles) ? null : productIntrodImageService.uploadProductIntrodImage(productIntrodFiles);
+
+            // 파일 대신 직접 업로드한 URL 목록을 받으면 현재 판매자가 올린 파일인지 확인만 하고 그대로 사용
+            List<String> productImageList = productImageUpload == null
+                    ? uploadService.verifyUploaded(UploadTarget.PRODUCT, postRegisterProductReq.getProductImageList())
+                    : productImageService.awaitUpload(productImageUpload);
+            List<String> productIntrodImageList = productIntrodImageUpload == null
+                    ? uploadService.verifyUploaded(UploadTarget.PRODUCT_INTROD, postRegisterProductReq.getProductIntrodImageList())
+                    : productIntrodImageService.awaitUpload(productIntrodImageUpload);
+
+            return transactionTemplate.execute(status -> saveProduct(postRegisterProductReq, productImageList, productIntrodImageList));
+        } catch (RuntimeException e) {
+            productImageService.discardUpload(productImageUpload);
+            productIntrodImageService.discardUpload(productIntrodImageUpload);
+            throw e;
+        }
+    }
 
-        Optional<Product> result = productRepository.findByProductName(postRegisterProductReq.getProductName());
+    private static boolean isEmpty(MultipartFile[] files) {
+        return files == null || files.length == 0;
+    }
 
+    private BaseRes saveProduct(PostRegisterProductReq postRegisterProductReq, List<String> productImageList, List<String> productIntrodImageList) {
         Product product = Product.builder()
                 .brand(Brand.builder()
                         .brandIdx(postRegisterProductReq.getBrand_idx())
@@ -81,6 +118,7 @@ public class ProductService {
                 .build();
 
         product = productRepository.save(product);
+        brandCatalogCache.evict();
 
         productCountRepository.save(ProductCount.builder()
                 .product(product)
@@ -93,8 +131,8 @@ public class ProductService {
                 .lowerType3Count(0)
                 .build());
 
-        List<String> productImageList = productImageService.registerProductImage(product, productFiles);
-        List<String> productIntrodImageList = productIntrodImageService.registerProductIntrodImage(product, productIntrodFiles);
+        productImageService.registerProductImage(product, productImageList);
+        productIntrodImageService.registerProductIntrodImage(product, productIntrodImageList);
 
         PostRegisterProductRes postRegisterProductRes = PostRegisterProductRes.builder()
                 .productIdx(product.getProductIdx())
@@ -133,29 +171,9 @@ public class ProductService {
 
         // 페이징 기능 사용(QueryDSL)
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<Product> productList = productRepository.findList(pageable);
-
-        List<GetListProductRes> getListProductResList = new ArrayList<>();
+        Page<GetListProductRes> productList = productRepository.findList(pageable);
 
-        for(Product product : productList) {
-
-            List<ProductImage> productImageList = product.getProductImageList();
-            ProductImage productImage = productImageList.get(0);
-            String image = productImage.getProductImage();
-            // 상품의 이미지중 첫번 째 이미지만 뽑아옴
-
-            GetListProductRes getListProductRes = GetListProductRes.builder()
-                        .brandName(product.getBrand().getBrandName())
-                        .productIdx(product.getProductIdx())
-                        .productName(product.getProductName())
-                        .productImage(image)
-                        .price(product.getPrice())
-                        .salePrice(product.getSalePrice())
-                        .likeCount(product.getProductCount().getLikeCount())
-                        .build();
-
-            getListProductResList.add(getListProductRes);
-        }
+        List<GetListProductRes> getListProductResList = likedProductCache.markLiked(productCountBuffer.mergeLikeCount(productList.getContent()));
         BaseRes baseRes = BaseRes.builder()
                 .code(200)
                 .isSuccess(true)
@@ -212,7 +230,7 @@ public class ProductService {
                     .returnAddress(product.getBrand().getReturnAddress())
                     .returnCost(product.getBrand().getReturnCost())
                     .returnCourier(product.getBrand().getReturnCourier())
-                    .likeCount(product.getProductCount().getLikeCount())
+                    .likeCount(productCountBuffer.getLikeCount(product.getProductIdx(), product.getProductCount().getLikeCount()))
                     .build();
 
             BaseRes baseRes = BaseRes.builder()
@@ -237,6 +255,7 @@ public class ProductService {
 
     @Transactional(readOnly = false)
     public BaseRes update(PatchUpdateProductReq patchUpdateProductReq) {
+        brandCatalogCache.evict();  // 커밋 후 무효화
         Optional<Product> result = productRepository.findByProductIdx(patchUpdateProductReq.getProductIdx());
 
         if(result.isPresent()) {
@@ -275,8 +294,9 @@ public class ProductService {
 
     @Transactional(readOnly = false)
     public BaseRes delete(Integer idx) {
-        Integer result1 = productImageRepository.deleteAllByProduct_ProductIdx(idx);
-        Integer result2 = productIntrodImageRepository.deleteAllByProduct_ProductIdx(idx);
+        brandCatalogCache.evict();  // 커밋 후 무효화
+        Integer result1 = productImageService.deleteAllProductImage(idx);
+        Integer result2 = productIntrodImageService.deleteAllProductIntrodImage(idx);
         Integer result3 = productCountRepository.deleteByProduct_ProductIdx(idx);
         Integer result4 = productRepository.deleteByProductIdx(idx);
 
@@ -301,28 +321,9 @@ public class ProductService {
 
         // 페이징 기능 사용(QueryDSL)
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<Product> productList = productRepository.findCategoryList(pageable, categoryIdx);
+        Page<GetListProductRes> productList = productRepository.findCategoryList(pageable, categoryIdx);
 
-        List<GetListProductRes> getListProductResList = new ArrayList<>();
-        for(Product product : productList) {
-
-            List<ProductImage> productImageList = product.getProductImageList();
-            ProductImage productImage = productImageList.get(0);
-            String image = productImage.getProductImage();
-            // 상품의 이미지중 첫번 째 이미지만 뽑아옴
-
-            GetListProductRes getListProductRes = GetListProductRes.builder()
-                    .brandName(product.getBrand().getBrandName())
-                    .productIdx(product.getProductIdx())
-                    .productName(product.getProductName())
-                    .productImage(image)
-                    .price(product.getPrice())
-                    .salePrice(product.getSalePrice())
-                    .likeCount(product.getProductCount().getLikeCount())
-                    .build();
-
-            getListProductResList.add(getListProductRes);
-        }
+        List<GetListProductRes> getListProductResList = likedProductCache.markLiked(productCountBuffer.mergeLikeCount(productList.getContent()));
 
         return BaseRes.builder()
                 .code(200)
@@ -337,28 +338,9 @@ public class ProductService {
 
         // 페이징 기능 사용(QueryDSL)
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<Product> productList = productRepository.findStyleList(pageable, styleIdx);
+        Page<GetListProductRes> productList = productRepository.findStyleList(pageable, styleIdx);
 
-        List<GetListProductRes> getListProductResList = new ArrayList<>();
-        for(Product product : productList) {
-
-            List<ProductImage> productImageList = product.getProductImageList();
-            ProductImage productImage = productImageList.get(0);
-            String image = productImage.getProductImage();
-            // 상품의 이미지중 첫번 째 이미지만 뽑아옴
-
-            GetListProductRes getListProductRes = GetListProductRes.builder()
-                    .brandName(product.getBrand().getBrandName())
-                    .productIdx(product.getProductIdx())
-                    .productName(product.getProductName())
-                    .productImage(image)
-                    .price(product.getPrice())
-                    .salePrice(product.getSalePrice())
-                    .likeCount(product.getProductCount().getLikeCount())
-                    .build();
-
-            getListProductResList.add(getListProductRes);
-        }
+        List<GetListProductRes> getListProductResList = likedProductCache.markLiked(productCountBuffer.mergeLikeCount(productList.getContent()));
 
         return BaseRes.builder()
                 .code(200)
@@ -376,28 +358,9 @@ public class ProductService {
 
         // 페이징 기능 사용(QueryDSL)
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<Product> productList = productRepository.findSameTypeList(pageable, upperType, lowerType);
-
-        List<GetListProductRes> getListProductResList = new ArrayList<>();
-        for(Product product : productList) {
+        Page<GetListProductRes> productList = productRepository.findSameTypeList(pageable, upperType, lowerType);
 
-            List<ProductImage> productImageList = product.getProductImageList();
-            ProductImage productImage = productImageList.get(0);
-            String image = productImage.getProductImage();
-            // 상품의 이미지중 첫번 째 이미지만 뽑아옴
-
-            GetListProductRes getListProductRes = GetListProductRes.builder()
-                    .brandName(product.getBrand().getBrandName())
-                    .productIdx(product.getProductIdx())
-                    .productName(product.getProductName())
-                    .productImage(image)
-                    .price(product.getPrice())
-                    .salePrice(product.getSalePrice())
-                    .likeCount(product.getProductCount().getLikeCount())
-                    .build();
-
-            getListProductResList.add(getListProductRes);
-        }
+        List<GetListProductRes> getListProductResList = likedProductCache.markLiked(productCountBuffer.mergeLikeCount(productList.getContent()));
         return BaseRes.builder()
                 .code(200)
                 .isSuccess(true)
@@ -411,34 +374,69 @@ public class ProductService {
 
         // 페이징 기능 사용(QueryDSL)
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<Product> productList = productRepository.findBrandList(pageable, brandIdx);
+        Page<GetListProductRes> productList = productRepository.findBrandList(pageable, brandIdx);
 
-        List<GetListProductRes> getListProductResList = new ArrayList<>();
-        for(Product product : productList) {
+        List<GetListProductRes> getListProductResList = likedProductCache.markLiked(productCountBuffer.mergeLikeCount(productList.getContent()));
+        return BaseRes.builder()
+                .code(200)
+                .isSuccess(true)
+                .message("요청 성공")
+                .result(getListProductResList)
+                .build();
+    }
 
-            List<ProductImage> productImageList = product.getProductImageList();
-            ProductImage productImage = productImageList.get(0);
-            String image = productImage.getProductImage();
-            // 상품의 이미지중 첫번 째 이미지만 뽑아옴
+    //----------------------커서 기반 조회-------------------------
+    // 무한 스크롤용 목록 조회 (마지막으로 받은 nextCursor 를 다음 요청에 전달)
+    @Transactional(readOnly = true)
+    public BaseRes cursorList(ProductSortType sortType, String cursor, Integer size) {
+        Slice<GetListProductRes> productList = productRepository.findCursorList(sortType, ProductCursor.decode(sortType, cursor), size);
 
-            GetListProductRes getListProductRes = GetListProductRes.builder()
-                    .brandName(product.getBrand().getBrandName())
-                    .productIdx(product.getProductIdx())
-                    .productName(product.getProductName())
-                    .productImage(image)
-                    .price(product.getPrice())
-                    .salePrice(product.getSalePrice())
-                    .likeCount(product.getProductCount().getLikeCount())
-                    .build();
+        return cursorListRes(productList, sortType);
+    }
 
-            getListProductResList.add(getListProductRes);
+    @Transactional(readOnly = true)
+    public BaseRes categoryProductCursorList(Integer categoryIdx, ProductSortType sortType, String cursor, Integer size) {
+        Slice<GetListProductRes> productList = productRepository.findCategoryCursorList(categoryIdx, sortType, ProductCursor.decode(sortType, cursor), size);
+
+        return cursorListRes(productList, sortType);
+    }
+
+    @Transactional(readOnly = true)
+    public BaseRes styleProductCursorList(Integer styleIdx, ProductSortType sortType, String cursor, Integer size) {
+        Slice<GetListProductRes> productList = productRepository.findStyleCursorList(styleIdx, sortType, ProductCursor.decode(sortType, cursor), size);
+
+        return cursorListRes(productList, sortType);
+    }
+
+    @Transactional(readOnly = true)
+    public BaseRes brandProductCursorList(Integer brandIdx, ProductSortType sortType, String cursor, Integer size) {
+        Slice<GetListProductRes> productList = productRepository.findBrandCursorList(brandIdx, sortType, ProductCursor.decode(sortType, cursor), size);
+
+        return cursorListRes(productList, sortType);
+    }
+
+    private BaseRes cursorListRes(Slice<GetListProductRes> productList, ProductSortType sortType) {
+        List<GetListProductRes> getListProductResList = productList.getContent();
+
+        // 커서는 DB 에 저장된 정렬 키로 만들어야 하므로 반영 전 증감분을 합치기 전에 생성
+        String nextCursor = null;
+        if (productList.hasNext() && !getListProductResList.isEmpty()) {
+            nextCursor = ProductCursor.of(sortType, getListProductResList.get(getListProductResList.size() - 1)).encode();
         }
+        productCountBuffer.mergeLikeCount(getListProductResList);
+        likedProductCache.markLiked(getListProductResList);
+
+        GetCursorListProductRes getCursorListProductRes = GetCursorListProductRes.builder()
+                .productList(getListProductResList)
+                .nextCursor(nextCursor)
+                .hasNext(productList.hasNext())
+                .build();
+
         return BaseRes.builder()
                 .code(200)
                 .isSuccess(true)
                 .message("요청 성공")
-                .result(getListProductResList)
+                .result(getCursorListProductRes)
                 .build();
     }
 }
-
@@ -0,0 +1,54 @@
+package com.example.lonua.product.service;
+
+import com.example.lonua.product.exception.ProductNotFoundException;
+import com.example.lonua.product.exception.ProductStockException;
+import com.example.lonua.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class ProductStockService {
+
+    private final ProductRepository productRepository;
+
+    // 주문 상품 재고 선점
+    // 상품 번호 오름차순으로 차감하여 동시 주문 간 행 잠금 순서를 고정(데드락 방지)하고,
+    // 하나라도 재고가 부족하면 예외를 던져 호출한 트랜잭션 전체(앞서 차감한 재고 포함)를 롤백한다.
+    // 차감된 행이 없으면 상품이 없는 경우와 재고가 부족한 경우를 구분해서 예외를 던진다.
+    // 차감된 행은 트랜잭션이 끝날 때까지 잠겨 있으므로 결제 검증이 끝날 때까지 재고가 선점된다.
+    @Transactional
+    public void reserve(List<Integer> productIdxList) {
+        for (Map.Entry<Integer, Integer> entry : countByProduct(productIdxList).entrySet()) {
+            if (productRepository.decreaseQuantity(entry.getKey(), entry.getValue()) == 0) {
+                if (!productRepository.existsById(entry.getKey())) {
+                    throw ProductNotFoundException.forIdx(entry.getKey());
+                }
+                throw ProductStockException.forOutOfStock(entry.getKey());
+            }
+        }
+    }
+
+    // 선점한 재고 반환 (결제 취소, 주문 취소)
+    @Transactional
+    public void release(List<Integer> productIdxList) {
+        for (Map.Entry<Integer, Integer> entry : countByProduct(productIdxList).entrySet()) {
+            productRepository.increaseQuantity(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // 같은 상품을 여러 개 주문한 경우 한 번의 UPDATE 로 처리하기 위해 상품별 수량으로 묶는다.
+    private Map<Integer, Integer> countByProduct(List<Integer> productIdxList) {
+        Map<Integer, Integer> countMap = new TreeMap<>();
+        for (Integer productIdx : productIdxList) {
+            countMap.merge(productIdx, 1, Integer::sum);
+        }
+
+        return countMap;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.lonua.question.repository.querydsl;
 
 import com.example.lonua.product.model.entity.Product;
 import com.example.lonua.product.model.entity.QProduct;
-import com.example.lonua.product.model.entity.QProductImage;
 import com.example.lonua.question.model.entity.QQuestion;
 import com.example.lonua.question.model.entity.Question;
 import com.example.lonua.user.model.entity.QUser;
@@ -24,12 +23,10 @@ public class QuestionRepositoryCustomImpl extends QuerydslRepositorySupport impl
     public Page<Question> findQuestionList(Pageable pageable, Integer idx) {
         QQuestion question = new QQuestion("question");
         QProduct product = new QProduct("product");
-        QProductImage productImage = new QProductImage("productImage");
         QUser user = new QUser("user");
 
         List<Question> result = from(question)
                 .leftJoin(question.product, product).fetchJoin()
-                .leftJoin(product.productImageList, productImage).fetchJoin()
                 .leftJoin(question.user, user).fetchJoin()
                 .where(user.userIdx.eq(idx))
                 .distinct()
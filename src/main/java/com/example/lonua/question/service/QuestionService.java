@@ -122,7 +122,7 @@ public class QuestionService {
                         .productIdx(question.getProduct().getProductIdx())
                         .brandName(question.getProduct().getBrand().getBrandName())
                         .productName(question.getProduct().getProductName())
-                        .productImage(question.getProduct().getProductImageList().get(0).getProductImage())
+                        .productImage(question.getProduct().getPrimaryImage())
                         .questionType(question.getQuestionType())
                         .questionTitle(question.getQuestionTitle())
                         .questionContent(question.getQuestionContent())
@@ -35,7 +35,7 @@ public class ReviewController {
     @RequestMapping(method = RequestMethod.POST, value = "/register")
     public ResponseEntity registReview(
             @RequestPart(value = "review") @Valid PostRegisterReviewReq postRegisterReviewReq,
-            @RequestPart(value = "reviewPhoto") MultipartFile file
+            @RequestPart(value = "reviewPhoto", required = false) MultipartFile file
     ) {
         User user = ((User) SecurityContextHolder.getContext().getAuthentication().getPrincipal());
         BaseRes baseRes = reviewService.registerReview(user, postRegisterReviewReq, file);
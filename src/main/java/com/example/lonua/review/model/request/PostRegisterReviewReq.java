@@ -38,4 +38,7 @@ public class PostRegisterReviewReq {
     @ApiModelProperty(value = "평점", example = "1", required = true)
     private Integer evaluation;
 
+    @ApiModelProperty(value = "직접 업로드 후 확인받은 리뷰 사진 URL (reviewPhoto 파일 대신 사용)")
+    private String reviewPhoto;
+
 }
@@ -5,6 +5,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.example.lonua.common.BaseRes;
+import com.example.lonua.common.image.ImageVariantService;
 import com.example.lonua.product.model.entity.Product;
 import com.example.lonua.review.exception.ReviewNotFoundException;
 import com.example.lonua.review.model.entity.Review;
@@ -14,6 +15,8 @@ import com.example.lonua.review.model.response.GetReadReviewRes;
 import com.example.lonua.review.model.response.PatchUpdateReviewRes;
 import com.example.lonua.review.model.response.PostRegisterReviewRes;
 import com.example.lonua.review.repository.ReviewRepository;
+import com.example.lonua.upload.model.UploadTarget;
+import com.example.lonua.upload.service.UploadService;
 import com.example.lonua.user.model.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,6 +44,8 @@ public class ReviewService {
     private String bucket;
 
     private final ReviewRepository reviewRepository;
+    private final ImageVariantService imageVariantService;
+    private final UploadService uploadService;
 
     public String makeFolder() {
         String str = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
@@ -100,7 +105,8 @@ public class ReviewService {
                 .result("이미 등록된 리뷰입니다.")
                 .build();
         } else {
-            String reviewPhoto = saveFile(file);
+            // 사진 파일 대신 직접 업로드한 URL 을 받을 수 있다.
+            String reviewPhoto = file != null ? saveFile(file) : uploadService.verifyUploaded(UploadTarget.REVIEW, postRegisterReviewReq.getReviewPhoto());
 
         reviewRepository.save(Review.builder()
                 .product(Product.builder().productIdx(postRegisterReviewReq.getProductIdx()).build())
@@ -112,6 +118,7 @@ public class ReviewService {
                 .updatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")))
                 .status(true)
                 .build());
+        imageVariantService.requestVariants(bucket, List.of(reviewPhoto.replace(File.separator, "/")));
 
         PostRegisterReviewRes postRegisterReviewRes = PostRegisterReviewRes.builder()
                 .reviewContent(postRegisterReviewReq.getReviewContent())
@@ -172,7 +179,7 @@ public class ReviewService {
                         .name(review.getUser().getName())
                         .brandName(review.getProduct().getBrand().getBrandName())
                         .productName(review.getProduct().getProductName())
-                        .productImage(review.getProduct().getProductImageList().get(0).getProductImage())
+                        .productImage(review.getProduct().getPrimaryImage())
                         .reviewContent(review.getReviewContent())
                         .reviewPhoto(review.getReviewPhoto())
                         .evaluation(review.getEvaluation())
@@ -206,7 +213,7 @@ public class ReviewService {
                 GetListReviewRes getListReviewRes = GetListReviewRes.builder()
                         .name(review.getUser().getName())
                         .productName(review.getProduct().getProductName())
-                        .productImage(review.getProduct().getProductImageList().get(0).getProductImage())
+                        .productImage(review.getProduct().getPrimaryImage())
                         .reviewContent(review.getReviewContent())
                         .reviewPhoto(review.getReviewPhoto())
                         .evaluation(review.getEvaluation())
@@ -244,6 +251,7 @@ public class ReviewService {
                 review.update(request, saveFileName.replace(File.separator, "/"));
                 review.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")));
                 reviewRepository.save(review);
+                imageVariantService.requestVariants(bucket, List.of(review.getReviewPhoto()));
             } else {
                 review.update(request, null);
                 review.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")));
@@ -15,6 +15,7 @@ import com.example.lonua.brand.exception.BrandNotFoundException;
 import com.example.lonua.brand.model.entity.Brand;
 import com.example.lonua.brand.repository.BrandRepository;
 import com.example.lonua.common.BaseRes;
+import com.example.lonua.user.config.PrincipalCache;
 import com.example.lonua.user.config.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,6 +44,7 @@ public class SellerService {
     private final SellerRepository sellerRepository;
     private final BrandRepository brandRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Transactional
     public BaseRes signup(PostSignupSellerReq postSignupSellerReq) {
@@ -139,6 +141,7 @@ public class SellerService {
             Seller seller = result.get();
             seller.update(passwordEncoder.encode(patchUpdateSellerReq.getSellerPassword()));
             seller.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")));
+            principalCache.evictSeller(seller.getSellerIdx());
 
             return BaseRes.builder()
                     .code(200)
@@ -156,6 +159,7 @@ public class SellerService {
         Integer result = sellerRepository.deleteBySellerIdx(idx);
 
         if(!result.equals(0)) {
+            principalCache.evictSeller(idx);
             return BaseRes.builder()
                     .code(200)
                     .isSuccess(true)
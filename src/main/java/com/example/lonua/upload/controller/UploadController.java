@@ -0,0 +1,48 @@
+package com.example.lonua.upload.controller;
+
+import com.example.lonua.common.BaseRes;
+import com.example.lonua.upload.model.request.PostConfirmUploadReq;
+import com.example.lonua.upload.model.request.PostPresignUploadReq;
+import com.example.lonua.upload.service.UploadService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/upload")
+@CrossOrigin("*")
+@Api(value="업로드 컨트롤러 v1", tags="업로드 API")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    @ApiOperation(value = "업로드 URL 발급", response = BaseRes.class, notes = "파일을 저장소에 직접 업로드할 수 있는 URL 과 key 를 발급한다. (발급받은 URL 로 같은 Content-Type 헤더와 함께 PUT)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
+    @RequestMapping(method = RequestMethod.POST, value = "/presign")
+    public ResponseEntity presign(@RequestBody @Valid PostPresignUploadReq postPresignUploadReq) {
+        BaseRes baseRes = uploadService.presign(SecurityContextHolder.getContext().getAuthentication(), postPresignUploadReq);
+
+        return ResponseEntity.ok().body(baseRes);
+    }
+
+    @ApiOperation(value = "업로드 완료 확인", response = BaseRes.class, notes = "직접 업로드한 파일을 확인하고 상품/브랜드/리뷰 등록 시 사용할 URL 을 반환한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK ( 요청 성공 )", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = BaseRes.class)) }) })
+    @RequestMapping(method = RequestMethod.POST, value = "/confirm")
+    public ResponseEntity confirm(@RequestBody @Valid PostConfirmUploadReq postConfirmUploadReq) {
+        BaseRes baseRes = uploadService.confirm(SecurityContextHolder.getContext().getAuthentication(), postConfirmUploadReq);
+
+        return ResponseEntity.ok().body(baseRes);
+    }
+}
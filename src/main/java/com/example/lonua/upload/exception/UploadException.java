@@ -0,0 +1,27 @@
+package com.example.lonua.upload.exception;
+
+import com.example.lonua.common.error.ErrorCode;
+import com.example.lonua.common.error.exception.BusinessException;
+import com.example.lonua.upload.model.UploadTarget;
+
+public class UploadException extends BusinessException {
+    public UploadException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public static UploadException forNotExists(String key) {
+        return new UploadException(ErrorCode.UPLOAD_NOT_EXISTS, String.format("Uploaded file [ %s ] is not exists.", key));
+    }
+
+    public static UploadException forInvalidFile(String value) {
+        return new UploadException(ErrorCode.INVALID_UPLOAD_FILE, String.format("Upload file [ %s ] is not allowed.", value));
+    }
+
+    public static UploadException forForbidden(UploadTarget target) {
+        return new UploadException(ErrorCode.FORBIDDEN_UPLOAD_TARGET, String.format("Upload target [ %s ] is not allowed.", target));
+    }
+
+    public static UploadException forNotOwner(String key) {
+        return new UploadException(ErrorCode.FOREIGN_UPLOAD_KEY, String.format("Upload key [ %s ] was not issued to the current user.", key));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.lonua.upload.model;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Set;
+
+// 직접 업로드 대상 (대상마다 저장 버킷과 업로드할 수 있는 권한이 다르다)
+public enum UploadTarget {
+    PRODUCT(Set.of("ROLE_SELLER", "ROLE_ADMIN")),
+    PRODUCT_INTROD(Set.of("ROLE_SELLER", "ROLE_ADMIN")),
+    BRAND(Set.of("ROLE_SELLER", "ROLE_ADMIN")),
+    REVIEW(Set.of("ROLE_USER"));
+
+    private final Set<String> authorities;
+
+    UploadTarget(Set<String> authorities) {
+        this.authorities = authorities;
+    }
+
+    public boolean isAllowed(Collection<? extends GrantedAuthority> grantedAuthorities) {
+        return grantedAuthorities.stream().anyMatch(authority -> authorities.contains(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.lonua.upload.model.request;
+
+import com.example.lonua.upload.model.UploadTarget;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ApiModel(value = "PostConfirmUploadReq", description = "업로드 완료 확인 요청 데이터")
+public class PostConfirmUploadReq {
+
+    @NotNull
+    @ApiModelProperty(value = "업로드 대상(PRODUCT, PRODUCT_INTROD, BRAND, REVIEW)", example = "REVIEW", required = true)
+    private UploadTarget target;
+
+    @NotBlank
+    @ApiModelProperty(value = "업로드 URL 발급 시 받은 key", example = "2024/01/14/3f1c...-uuid_shirt.jpg", required = true)
+    private String key;
+}
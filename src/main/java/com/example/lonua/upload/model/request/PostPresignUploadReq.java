@@ -0,0 +1,38 @@
+package com.example.lonua.upload.model.request;
+
+import com.example.lonua.upload.model.UploadTarget;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+import org.hibernate.validator.constraints.Length;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ApiModel(value = "PostPresignUploadReq", description = "업로드 URL 발급 요청 데이터")
+public class PostPresignUploadReq {
+
+    @NotNull
+    @ApiModelProperty(value = "업로드 대상(PRODUCT, PRODUCT_INTROD, BRAND, REVIEW)", example = "REVIEW", required = true)
+    private UploadTarget target;
+
+    @NotBlank
+    @Length(max = 200)
+    @ApiModelProperty(value = "원본 파일 이름", example = "shirt.jpg", required = true)
+    private String fileName;
+
+    @NotBlank
+    @ApiModelProperty(value = "파일 형식(업로드 시 같은 Content-Type 헤더로 요청해야 한다)", example = "image/jpeg", required = true)
+    private String contentType;
+
+    @NotNull
+    @Positive
+    @ApiModelProperty(value = "파일 크기(byte)", example = "1048576", required = true)
+    private Long contentLength;
+}
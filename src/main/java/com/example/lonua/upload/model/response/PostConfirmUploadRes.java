@@ -0,0 +1,14 @@
+package com.example.lonua.upload.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostConfirmUploadRes {
+    private String url;
+    private String contentType;
+    private Long contentLength;
+}
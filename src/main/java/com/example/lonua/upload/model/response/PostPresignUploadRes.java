@@ -0,0 +1,15 @@
+package com.example.lonua.upload.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostPresignUploadRes {
+    private String key;
+    private String uploadUrl;
+    private String contentType;
+    private String expiredAt;
+}
@@ -0,0 +1,226 @@
+package com.example.lonua.upload.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.example.lonua.common.BaseRes;
+import com.example.lonua.seller.model.entity.Seller;
+import com.example.lonua.upload.exception.UploadException;
+import com.example.lonua.upload.model.UploadTarget;
+import com.example.lonua.upload.model.request.PostConfirmUploadReq;
+import com.example.lonua.upload.model.request.PostPresignUploadReq;
+import com.example.lonua.upload.model.response.PostConfirmUploadRes;
+import com.example.lonua.upload.model.response.PostPresignUploadRes;
+import com.example.lonua.user.model.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 클라이언트가 파일을 서버를 거치지 않고 S3 에 바로 올리도록 하는 2단계 업로드
+// 1. presign : 대상 버킷에 PUT 할 수 있는 서명된 URL 과 key 를 발급
+// 2. confirm : 업로드된 객체의 존재/형식/크기를 확인하고 DB 에 저장할 URL 을 반환 (허용되지 않는 파일은 삭제)
+// 상품/브랜드/리뷰 등록 시 파일 대신 확인된 URL 을 받으면 verifyUploaded 로 다시 확인한다.
+// key 앞에 발급받은 사용자(회원 u{userIdx}, 판매자 s{sellerIdx})를 붙여서, 다른 사용자의 객체를 확인/삭제하거나 등록에 재사용할 수 없게 한다.
+@Service
+public class UploadService {
+
+    // 발급한 key 형식 ({발급 대상}/yyyy/MM/dd/{uuid}_{파일이름}), 썸네일이나 multipart 로 올린 객체 등 서버가 만든 객체는 확인 대상이 아니다.
+    private static final Pattern KEY_PATTERN = Pattern.compile("^([us]\\d+)/\\d{4}/\\d{2}/\\d{2}/[0-9a-f\\-]{36}_[A-Za-z0-9._\\-]{1,100}$");
+
+    private final AmazonS3 s3;
+    private final Long expireSeconds;
+    private final Long maxSizeBytes;
+    private final Set<String> allowedContentTypes;
+
+    @Value("${cloud.aws.s3.product-bucket}")
+    private String productBucket;
+    @Value("${cloud.aws.s3.productIntrod-bucket}")
+    private String productIntrodBucket;
+    @Value("${cloud.aws.s3.brand-bucket}")
+    private String brandBucket;
+    @Value("${cloud.aws.s3.review-bucket}")
+    private String reviewBucket;
+
+    public UploadService(AmazonS3 s3,
+                         @Value("${upload.presign.expire-seconds:600}") Long expireSeconds,
+                         @Value("${upload.max-size-bytes:20971520}") Long maxSizeBytes,
+                         @Value("${upload.allowed-content-types:image/jpeg,image/png,image/gif,image/webp}") Set<String> allowedContentTypes) {
+        this.s3 = s3;
+        this.expireSeconds = expireSeconds;
+        this.maxSizeBytes = maxSizeBytes;
+        this.allowedContentTypes = allowedContentTypes;
+    }
+
+    public BaseRes presign(Authentication authentication, PostPresignUploadReq postPresignUploadReq) {
+        UploadTarget target = postPresignUploadReq.getTarget();
+        checkAuthority(authentication, target);
+
+        String contentType = postPresignUploadReq.getContentType();
+        if (!allowedContentTypes.contains(contentType)) {
+            throw UploadException.forInvalidFile(contentType);
+        }
+        if (postPresignUploadReq.getContentLength() > maxSizeBytes) {
+            throw UploadException.forInvalidFile(postPresignUploadReq.getFileName());
+        }
+
+        String key = ownerOf(authentication) + "/" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd")) + "/" + UUID.randomUUID() + "_" + sanitize(postPresignUploadReq.getFileName());
+        Date expiration = Date.from(Instant.now().plusSeconds(expireSeconds));
+
+        // Content-Type 도 서명에 포함되므로 클라이언트는 같은 헤더로 PUT 해야 한다.
+        String uploadUrl = s3.generatePresignedUrl(new GeneratePresignedUrlRequest(bucketOf(target), key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType)).toString();
+
+        return BaseRes.builder()
+                .code(200)
+                .isSuccess(true)
+                .message("요청 성공")
+                .result(PostPresignUploadRes.builder()
+                        .key(key)
+                        .uploadUrl(uploadUrl)
+                        .contentType(contentType)
+                        .expiredAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")))
+                        .build())
+                .build();
+    }
+
+    public BaseRes confirm(Authentication authentication, PostConfirmUploadReq postConfirmUploadReq) {
+        UploadTarget target = postConfirmUploadReq.getTarget();
+        checkAuthority(authentication, target);
+
+        String key = postConfirmUploadReq.getKey();
+        checkOwner(authentication, key);
+
+        String bucket = bucketOf(target);
+        ObjectMetadata metadata = verify(bucket, key);
+
+        return BaseRes.builder()
+                .code(200)
+                .isSuccess(true)
+                .message("요청 성공")
+                .result(PostConfirmUploadRes.builder()
+                        .url(s3.getUrl(bucket, key).toString())
+                        .contentType(metadata.getContentType())
+                        .contentLength(metadata.getContentLength())
+                        .build())
+                .build();
+    }
+
+    // 등록 요청에 파일 대신 전달된 URL 이 현재 사용자가 대상 버킷에 직접 업로드한 허용 파일인지 확인
+    public String verifyUploaded(UploadTarget target, String url) {
+        if (url == null || url.isBlank()) {
+            throw UploadException.forInvalidFile(String.valueOf(url));
+        }
+
+        String bucket = bucketOf(target);
+        String bucketUrl = s3.getUrl(bucket, "").toString();
+        String key = url.startsWith(bucketUrl) ? URLDecoder.decode(url.substring(bucketUrl.length()), StandardCharsets.UTF_8) : null;
+        if (key == null) {
+            throw UploadException.forInvalidFile(url);
+        }
+        checkOwner(SecurityContextHolder.getContext().getAuthentication(), key);
+
+        verify(bucket, key);
+        return url;
+    }
+
+    public List<String> verifyUploaded(UploadTarget target, List<String> urls) {
+        if (urls == null || urls.isEmpty()) {
+            throw UploadException.forInvalidFile(target.name());
+        }
+
+        List<String> result = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            result.add(verifyUploaded(target, url));
+        }
+        return result;
+    }
+
+    // presigned PUT 은 크기를 제한할 수 없으므로 업로드 이후에 확인하고, 허용되지 않는 파일은 바로 지운다.
+    // (checkOwner 로 현재 사용자에게 발급된 key 인지 확인한 뒤에만 호출)
+    private ObjectMetadata verify(String bucket, String key) {
+        ObjectMetadata metadata;
+        try {
+            metadata = s3.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw UploadException.forNotExists(key);
+            }
+            throw e;
+        }
+
+        if (!allowedContentTypes.contains(metadata.getContentType()) || metadata.getContentLength() > maxSizeBytes) {
+            s3.deleteObject(bucket, key);
+            throw UploadException.forInvalidFile(key);
+        }
+
+        return metadata;
+    }
+
+    private void checkAuthority(Authentication authentication, UploadTarget target) {
+        if (authentication == null || !target.isAllowed(authentication.getAuthorities())) {
+            throw UploadException.forForbidden(target);
+        }
+    }
+
+    // key 형식과 발급 대상을 확인한다. 다른 사용자에게 발급된 key 는 삭제하지 않고 거절만 한다.
+    private void checkOwner(Authentication authentication, String key) {
+        Matcher matcher = KEY_PATTERN.matcher(key);
+        if (!matcher.matches()) {
+            throw UploadException.forInvalidFile(key);
+        }
+        if (!matcher.group(1).equals(ownerOf(authentication))) {
+            throw UploadException.forNotOwner(key);
+        }
+    }
+
+    private static String ownerOf(Authentication authentication) {
+        Object principal = authentication == null ? null : authentication.getPrincipal();
+        if (principal instanceof User) {
+            return "u" + ((User) principal).getUserIdx();
+        }
+        if (principal instanceof Seller) {
+            return "s" + ((Seller) principal).getSellerIdx();
+        }
+        throw UploadException.forNotOwner(String.valueOf(principal));
+    }
+
+    private String bucketOf(UploadTarget target) {
+        switch (target) {
+            case PRODUCT:
+                return productBucket;
+            case PRODUCT_INTROD:
+                return productIntrodBucket;
+            case BRAND:
+                return brandBucket;
+            case REVIEW:
+                return reviewBucket;
+            default:
+                throw new IllegalArgumentException("Invalid upload target : " + target);
+        }
+    }
+
+    // key 에 들어갈 파일 이름은 영문/숫자/일부 기호만 남긴다. (URL 인코딩 차이로 key 가 달라지는 것 방지)
+    private static String sanitize(String fileName) {
+        String sanitized = fileName.replaceAll("[^A-Za-z0-9._\\-]", "_");
+        return sanitized.length() > 100 ? sanitized.substring(sanitized.length() - 100) : sanitized;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.lonua.user.config;
+
+import com.example.lonua.brand.model.entity.Brand;
+import com.example.lonua.grade.model.entity.Grade;
+import com.example.lonua.seller.model.entity.Seller;
+import com.example.lonua.seller.repository.SellerRepository;
+import com.example.lonua.user.model.entity.User;
+import com.example.lonua.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// JwtFilter 에서 매 요청마다 회원/판매자를 DB 에서 조회하지 않도록 이메일을 키로 인증 주체를 캐싱
+// 크기와 TTL 로 제한하며, 회원/판매자 정보가 변경되면 서비스에서 evict 를 호출해 즉시 무효화한다.
+// 캐시에는 엔티티 대신 변경할 수 없는 스냅샷을 두고, 요청마다 새 (비영속) 엔티티를 만들어 돌려준다.
+// 따라서 인증 주체를 수정해도 캐시나 다른 요청에 영향이 없으며, 값을 변경하는 서비스는 트랜잭션 안에서 다시 조회해야 한다.
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final SellerRepository sellerRepository;
+
+    private final Cache<String, UserSnapshot> userCache;
+    private final Cache<String, SellerSnapshot> sellerCache;
+
+    public PrincipalCache(UserRepository userRepository, SellerRepository sellerRepository,
+                          @Value("${jwt.principal-cache.ttl-seconds:60}") Long ttlSeconds,
+                          @Value("${jwt.principal-cache.max-size:10000}") Long maxSize) {
+        this.userRepository = userRepository;
+        this.sellerRepository = sellerRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.sellerCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 존재하지 않는 계정은 캐싱하지 않는다. (loader 가 null 을 반환하면 저장되지 않음)
+    public Optional<User> getUser(String userEmail) {
+        return Optional.ofNullable(userCache.get(userEmail, email -> userRepository.findByUserEmail(email).map(UserSnapshot::new).orElse(null)))
+                .map(UserSnapshot::toUser);
+    }
+
+    public Optional<Seller> getSeller(String sellerEmail) {
+        return Optional.ofNullable(sellerCache.get(sellerEmail, email -> sellerRepository.findBySellerEmail(email).map(SellerSnapshot::new).orElse(null)))
+                .map(SellerSnapshot::toSeller);
+    }
+
+    public void evictUser(String userEmail) {
+        afterCommit(() -> userCache.invalidate(userEmail));
+    }
+
+    public void evictUser(Integer userIdx) {
+        afterCommit(() -> userCache.asMap().values().removeIf(user -> userIdx.equals(user.userIdx)));
+    }
+
+    public void evictSeller(String sellerEmail) {
+        afterCommit(() -> sellerCache.invalidate(sellerEmail));
+    }
+
+    public void evictSeller(Integer sellerIdx) {
+        afterCommit(() -> sellerCache.asMap().values().removeIf(seller -> sellerIdx.equals(seller.sellerIdx)));
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전에 지우면 다른 요청이 변경 전 데이터를 다시 캐싱할 수 있음)
+    private void afterCommit(Runnable evict) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    // 인증 주체로 쓰이는 컬럼만 복사한 불변 스냅샷 (비밀번호와 연관 엔티티는 담지 않고 등급은 idx 만 둔다)
+    private static final class UserSnapshot {
+        private final Integer userIdx;
+        private final Integer gradeIdx;
+        private final String userEmail;
+        private final String authority;
+        private final String name;
+        private final String userBirth;
+        private final String userGender;
+        private final String userPhoneNumber;
+        private final String userAddr;
+        private final String preferStyle;
+        private final Integer upperType;
+        private final Integer lowerType;
+        private final Integer userMileage;
+        private final String createdAt;
+        private final String updatedAt;
+        private final Boolean status;
+
+        private UserSnapshot(User user) {
+            this.userIdx = user.getUserIdx();
+            this.gradeIdx = user.getGrade() == null ? null : user.getGrade().getGradeIdx();
+            this.userEmail = user.getUserEmail();
+            this.authority = user.getAuthority();
+            this.name = user.getName();
+            this.userBirth = user.getUserBirth();
+            this.userGender = user.getUserGender();
+            this.userPhoneNumber = user.getUserPhoneNumber();
+            this.userAddr = user.getUserAddr();
+            this.preferStyle = user.getPreferStyle();
+            this.upperType = user.getUpperType();
+            this.lowerType = user.getLowerType();
+            this.userMileage = user.getUserMileage();
+            this.createdAt = user.getCreatedAt();
+            this.updatedAt = user.getUpdatedAt();
+            this.status = user.getStatus();
+        }
+
+        private User toUser() {
+            return User.builder()
+                    .userIdx(userIdx)
+                    .grade(gradeIdx == null ? null : Grade.builder().gradeIdx(gradeIdx).build())
+                    .userEmail(userEmail)
+                    .authority(authority)
+                    .name(name)
+                    .userBirth(userBirth)
+                    .userGender(userGender)
+                    .userPhoneNumber(userPhoneNumber)
+                    .userAddr(userAddr)
+                    .preferStyle(preferStyle)
+                    .upperType(upperType)
+                    .lowerType(lowerType)
+                    .userMileage(userMileage)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .status(status)
+                    .build();
+        }
+    }
+
+    private static final class SellerSnapshot {
+        private final Integer sellerIdx;
+        private final Integer brandIdx;
+        private final String sellerEmail;
+        private final String sellerName;
+        private final String authority;
+        private final String createdAt;
+        private final String updatedAt;
+        private final Boolean status;
+
+        private SellerSnapshot(Seller seller) {
+            this.sellerIdx = seller.getSellerIdx();
+            this.brandIdx = seller.getBrand() == null ? null : seller.getBrand().getBrandIdx();
+            this.sellerEmail = seller.getSellerEmail();
+            this.sellerName = seller.getSellerName();
+            this.authority = seller.getAuthority();
+            this.createdAt = seller.getCreatedAt();
+            this.updatedAt = seller.getUpdatedAt();
+            this.status = seller.getStatus();
+        }
+
+        private Seller toSeller() {
+            return Seller.builder()
+                    .sellerIdx(sellerIdx)
+                    .brand(brandIdx == null ? null : Brand.builder().brandIdx(brandIdx).build())
+                    .sellerEmail(sellerEmail)
+                    .sellerName(sellerName)
+                    .authority(authority)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .status(status)
+                    .build();
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.example.lonua.user.config;
 
-import com.example.lonua.seller.repository.SellerRepository;
 import com.example.lonua.user.config.filter.JwtFilter;
 import com.example.lonua.user.config.handler.OAuth2AuthenticationSuccessHandler;
 import com.example.lonua.user.exception.security.CustomAccessDeniedHandler;
 import com.example.lonua.user.exception.security.CustomAuthenticationEntryPoint;
-import com.example.lonua.user.repository.UserRepository;
 import com.example.lonua.user.service.UserOAuth2Service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,8 +24,7 @@ public class SecurityConfig{
     @Value("${jwt.secret-key}")
     private String secretKey;
 
-    private final UserRepository userRepository;
-    private final SellerRepository sellerRepository;
+    private final PrincipalCache principalCache;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final UserOAuth2Service userOAuth2Service;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
@@ -50,6 +47,7 @@ public class SecurityConfig{
                     .antMatchers("/user/signup", "/seller/signup").permitAll()
                     .antMatchers("/user/verify").permitAll()
                     .antMatchers("/user/login", "/seller/login").permitAll()
+                    .antMatchers("/actuator/health", "/actuator/prometheus").permitAll()  // 내부 관리 포트(management.server.port)로만 노출
 
                     .antMatchers("/branch/list", "/branch/read").hasAnyRole("USER", "SELLER")
                     .antMatchers("/branch/**").permitAll()
@@ -85,6 +83,7 @@ public class SecurityConfig{
                     .antMatchers("/grade/**").permitAll()
                     .antMatchers("/style/**").permitAll()
                     .antMatchers("/user/list/**", "/user/delete/**", "/seller/list/**").hasRole("ADMIN")
+                    .antMatchers("/upload/**").hasAnyRole("USER", "SELLER", "ADMIN")
                     .anyRequest().authenticated()
                     .and()
                     .exceptionHandling()
@@ -92,7 +91,7 @@ public class SecurityConfig{
 //                    .authenticationEntryPoint(customAuthenticationEntryPoint) // 인증에 대한 예외 처리
                     .and()
                     .formLogin().disable()
-                    .addFilterBefore(new JwtFilter(secretKey, userRepository, sellerRepository), UsernamePasswordAuthenticationFilter.class)
+                    .addFilterBefore(new JwtFilter(secretKey, principalCache), UsernamePasswordAuthenticationFilter.class)
                     .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                     .and()
                     // OAuth 2.0 로그인 처리
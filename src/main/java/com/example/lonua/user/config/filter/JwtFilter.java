@@ -1,14 +1,14 @@
 package com.example.lonua.user.config.filter;
 
 import com.example.lonua.seller.model.entity.Seller;
-import com.example.lonua.seller.repository.SellerRepository;
 import com.example.lonua.common.error.ErrorCode;
 import com.example.lonua.common.error.ErrorResponse;
+import com.example.lonua.user.config.PrincipalCache;
 import com.example.lonua.user.config.utils.JwtUtils;
 import com.example.lonua.user.exception.UserAccountException;
 import com.example.lonua.user.model.entity.User;
-import com.example.lonua.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,15 +24,13 @@ import java.util.Optional;
 
 public class JwtFilter extends OncePerRequestFilter {
 
-    private UserRepository userRepository;
-    private SellerRepository sellerRepository;
+    private PrincipalCache principalCache;
     @Value("${jwt.secret-key}")
     private String secretKey;
 
-    public JwtFilter(String secretKey, UserRepository userRepository, SellerRepository sellerRepository) {
+    public JwtFilter(String secretKey, PrincipalCache principalCache) {
         this.secretKey = secretKey;
-        this.userRepository = userRepository;
-        this.sellerRepository = sellerRepository;
+        this.principalCache = principalCache;
     }
 
     // 필터에서 예외를 다루기 위한 처리
@@ -66,12 +64,14 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String authority = JwtUtils.getAuthority(token, secretKey);
+            // 토큰은 한 번만 파싱하여 권한과 이메일을 함께 꺼낸다.
+            Claims claims = JwtUtils.extractAllClaims(token, secretKey);
+            String authority = claims.get("ROLE", String.class);
 
             if (authority.equals("ROLE_USER") || authority.equals("ROLE_ADMIN")) {
-                String userEmail = JwtUtils.getUserEmail(token, secretKey);
+                String userEmail = claims.get("email", String.class);
                 if (userEmail != null) {
-                    Optional<User> result = userRepository.findByUserEmail(userEmail);
+                    Optional<User> result = principalCache.getUser(userEmail);
 
                     if (result.isPresent()) {
                         User user = result.get();
@@ -86,9 +86,9 @@ public class JwtFilter extends OncePerRequestFilter {
                     }
                 }
             } else if (authority.equals("ROLE_SELLER")) {
-                String sellerEmail = JwtUtils.getUserEmail(token, secretKey);
+                String sellerEmail = claims.get("email", String.class);
                 if (sellerEmail != null) {
-                    Optional<Seller> result = sellerRepository.findBySellerEmail(sellerEmail);
+                    Optional<Seller> result = principalCache.getSeller(sellerEmail);
 
                     if (result.isPresent()) {
                         Seller seller = result.get();
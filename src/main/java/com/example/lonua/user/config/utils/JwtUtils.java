@@ -5,6 +5,7 @@ import com.example.lonua.user.exception.UserAccountException;
 import com.example.lonua.user.model.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,9 +14,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class JwtUtils {
 
+    // 서명 키와 파서는 스레드 안전하고 시크릿 키마다 항상 같으므로 한 번만 만들어 재사용
+    private static final Map<String, Key> SIGN_KEYS = new ConcurrentHashMap<>();
+    private static final Map<String, JwtParser> PARSERS = new ConcurrentHashMap<>();
+
     // 일반 로그인 사용자 토큰 생성
     public static String generateAccessToken(User user, String secretKey, Long expiredTimeMs) {
 
@@ -27,13 +34,11 @@ public class JwtUtils {
         claims.put("mileage", user.getUserMileage());
         claims.put("ROLE", user.getAuthority());
 
-        byte[] secretBytes = secretKey.getBytes();
-
         String token = Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiredTimeMs))
-                .signWith(Keys.hmacShaKeyFor(secretBytes), SignatureAlgorithm.HS256)
+                .signWith(getSignKey(secretKey), SignatureAlgorithm.HS256)
                 .compact();
 
         return token;
@@ -52,13 +57,11 @@ public class JwtUtils {
         claims.put("ROLE", user.getAuthority());
 
 
-        byte[] secretBytes = secretKey.getBytes();
-
         String token = Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiredTimeMs))
-                .signWith(Keys.hmacShaKeyFor(secretBytes), SignatureAlgorithm.HS256)
+                .signWith(getSignKey(secretKey), SignatureAlgorithm.HS256)
                 .compact();
 
         return token;
@@ -72,13 +75,11 @@ public class JwtUtils {
         claims.put("email", seller.getSellerEmail());
         claims.put("ROLE", seller.getAuthority());
 
-        byte[] secretBytes = secretKey.getBytes();
-
         String token = Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiredTimeMs))
-                .signWith(Keys.hmacShaKeyFor(secretBytes), SignatureAlgorithm.HS256)
+                .signWith(getSignKey(secretKey), SignatureAlgorithm.HS256)
                 .compact();
 
         return token;
@@ -86,7 +87,13 @@ public class JwtUtils {
 
     // 키 변환 메서드
     public static Key getSignKey(String secretKey) {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        return SIGN_KEYS.computeIfAbsent(secretKey, key -> Keys.hmacShaKeyFor(key.getBytes()));
+    }
+
+    private static JwtParser getParser(String secretKey) {
+        return PARSERS.computeIfAbsent(secretKey, key -> Jwts.parserBuilder()
+                .setSigningKey(getSignKey(key))
+                .build());
     }
 
     // 사용자 이름 가져오는 메서드
@@ -101,9 +108,7 @@ public class JwtUtils {
     // 토근에서 정보를 가져오는 코드가 계속 중복되어 사용되기 때문에 별도의 메서드로 만들어서 사용하기 위한 것
     public static Claims extractAllClaims(String token, String key) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSignKey(key))
-                    .build()
+            return getParser(key)
                     .parseClaimsJws(token)
                     .getBody();
         } catch (SignatureException e) {
@@ -26,6 +26,8 @@ import java.util.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+// 연관관계는 모두 LAZY 로 두고, 회원 등급이 필요한 조회(로그인 토큰 발급 등)만 이 그래프로 함께 조회한다.
+@NamedEntityGraph(name = "User.withGrade", attributeNodes = @NamedAttributeNode("grade"))
 public class User implements UserDetails {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -45,7 +47,7 @@ public class User implements UserDetails {
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<Likes> likesList = new ArrayList<>();
 
-    @OneToMany(mappedBy = "user", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<Orders> ordersList = new ArrayList<>();
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
@@ -3,7 +3,10 @@ package com.example.lonua.user.repository;
 import com.example.lonua.brand.model.entity.Brand;
 import com.example.lonua.user.model.entity.User;
 import com.example.lonua.user.repository.querydsl.UserRepositoryCustom;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,5 +17,14 @@ public interface UserRepository extends JpaRepository<User, Integer>, UserReposi
 
     public Integer deleteByUserIdx(Integer idx);
     public Optional<User> findByUserEmail(String email);
+
+    // 로그인/카카오 로그인 토큰 발급용 (토큰에 회원 등급이 들어가므로 등급까지 한 번에 조회)
+    @EntityGraph("User.withGrade")
+    public Optional<User> findWithGradeByUserEmail(String email);
     public Optional<User> findByUserPhoneNumber(String phoneNumber);
+
+    // 마일리지 적립은 읽은 값에 더해 저장하지 않고 DB 에서 원자적으로 증가시킨다. (동시 주문/다른 서버의 갱신 유실 방지)
+    @Modifying
+    @Query("UPDATE User u SET u.userMileage = u.userMileage + :mileage WHERE u.userIdx = :userIdx")
+    public Integer increaseMileage(Integer userIdx, Integer mileage);
 }
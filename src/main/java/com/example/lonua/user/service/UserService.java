@@ -4,6 +4,7 @@ import com.example.lonua.common.BaseRes;
 import com.example.lonua.coupon.model.entity.Coupon;
 import com.example.lonua.coupon.repository.CouponRepository;
 import com.example.lonua.grade.model.entity.Grade;
+import com.example.lonua.user.config.PrincipalCache;
 import com.example.lonua.user.config.utils.JwtUtils;
 import com.example.lonua.user.exception.UserAccountException;
 import com.example.lonua.user.exception.UserDuplicateException;
@@ -48,6 +49,7 @@ public class UserService {
     private final JavaMailSender emailSender;
     private final EmailVerifyService emailVerifyService;
     private final CouponRepository couponRepository;
+    private final PrincipalCache principalCache;
 
 
     // 회원가입
@@ -193,7 +195,7 @@ public class UserService {
     // 회원 로그인
     @Transactional(readOnly = false)
     public BaseRes login(PostUserLoginReq postUserLoginReq) {
-        Optional<User> result = userRepository.findByUserEmail(postUserLoginReq.getEmail());
+        Optional<User> result = userRepository.findWithGradeByUserEmail(postUserLoginReq.getEmail());
 
         if(result.isEmpty()) {
             throw UserNotFoundException.forEmail(postUserLoginReq.getEmail());
@@ -217,8 +219,11 @@ public class UserService {
     }
 
     // 회원정보 수정을 위한 비밀번호 체크
+    // 인증 캐시(PrincipalCache)의 회원에는 비밀번호가 없으므로 DB 에서 다시 읽어서 비교한다.
     @Transactional
-    public Boolean checkPassword(User user, PostCheckPasswordReq postCheckPasswordReq) {
+    public Boolean checkPassword(User principal, PostCheckPasswordReq postCheckPasswordReq) {
+        User user = userRepository.findByUserIdx(principal.getUserIdx())
+                .orElseThrow(() -> UserNotFoundException.forIdx(principal.getUserIdx()));
         if (passwordEncoder.matches(postCheckPasswordReq.getPassword(), user.getPassword())) {
             return true;
         } else {
@@ -250,6 +255,7 @@ public class UserService {
             User user = result.get();
             user.setStatus(true);
             userRepository.save(user);
+            principalCache.evictUser(email);
 
             return BaseRes.builder()
                     .code(200)
@@ -339,6 +345,7 @@ public class UserService {
             }
             user.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")));
             userRepository.save(user);
+            principalCache.evictUser(userEmail);
 
             PatchUserUpdateRes patchUserUpdateRes = PatchUserUpdateRes.builder()
                     .userAddr(user.getUserAddr())
@@ -364,6 +371,7 @@ public class UserService {
         Integer result = userRepository.deleteByUserIdx(idx);
 
         if (!result.equals(0)) {
+            principalCache.evictUser(idx);
             return BaseRes.builder()
                     .code(200)
                     .isSuccess(true)
@@ -383,6 +391,7 @@ public class UserService {
             User loginUser = byUserIdx.get();
             loginUser.setStatus(false);
             userRepository.save(loginUser);
+            principalCache.evictUser(userIdx);
 
             return BaseRes.builder()
                     .code(200)
@@ -1,3 +1,9 @@
+DROP TABLE IF EXISTS `ImageVariant`;
+
+DROP TABLE IF EXISTS `OrdersIdempotency`;
+
+DROP TABLE IF EXISTS `OrdersOutbox`;
+
 DROP TABLE IF EXISTS `Cart`;
 
 DROP TABLE IF EXISTS `Likes`;
@@ -158,10 +164,16 @@ CREATE TABLE `Product` (
   `Category_idx` int DEFAULT NULL,
   `Style_idx` int DEFAULT NULL,
   `salePrice` int NOT NULL,
+  `primaryImage` varchar(500) DEFAULT NULL,
+  `thumbnailImage` varchar(500) DEFAULT NULL,
   PRIMARY KEY (`productIdx`),
   KEY `FKc35kwbw1g59uprwv7apsfr467` (`Brand_idx`),
   KEY `FK6lu1xiirujef0jaxucohbodep` (`Category_idx`),
   KEY `FK2gcseeak976q0bjh12esttjv9` (`Style_idx`),
+  KEY `idx_product_created_at` (`createdAt`,`productIdx`),
+  KEY `idx_product_category_created_at` (`Category_idx`,`createdAt`,`productIdx`),
+  KEY `idx_product_style_created_at` (`Style_idx`,`createdAt`,`productIdx`),
+  KEY `idx_product_brand_created_at` (`Brand_idx`,`createdAt`,`productIdx`),
   CONSTRAINT `FK2gcseeak976q0bjh12esttjv9` FOREIGN KEY (`Style_idx`) REFERENCES `Style` (`styleIdx`),
   CONSTRAINT `FK6lu1xiirujef0jaxucohbodep` FOREIGN KEY (`Category_idx`) REFERENCES `Category` (`categoryIdx`),
   CONSTRAINT `FKc35kwbw1g59uprwv7apsfr467` FOREIGN KEY (`Brand_idx`) REFERENCES `Brand` (`brandIdx`)
@@ -179,6 +191,7 @@ CREATE TABLE `ProductCount` (
   `Product_idx` int DEFAULT NULL,
   PRIMARY KEY (`productCountIdx`),
   KEY `FKiyb17y46gt6xsbji4jd2ypfaf` (`Product_idx`),
+  KEY `idx_product_count_like` (`likeCount`,`Product_idx`),
   CONSTRAINT `FKiyb17y46gt6xsbji4jd2ypfaf` FOREIGN KEY (`Product_idx`) REFERENCES `Product` (`productIdx`)
 ) ENGINE=InnoDB AUTO_INCREMENT=70 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
@@ -226,6 +239,7 @@ CREATE TABLE `Likes` (
   PRIMARY KEY (`likesIdx`),
   KEY `FKd7e1kkddsiowj9l0gdsaj3qhf` (`Product_idx`),
   KEY `FK48ek67bsjmammw269pt81vhp` (`User_idx`),
+  KEY `idx_likes_user_created_at` (`User_idx`,`createdAt`),
   CONSTRAINT `FK48ek67bsjmammw269pt81vhp` FOREIGN KEY (`User_idx`) REFERENCES `User` (`userIdx`),
   CONSTRAINT `FKd7e1kkddsiowj9l0gdsaj3qhf` FOREIGN KEY (`Product_idx`) REFERENCES `Product` (`productIdx`)
 ) ENGINE=InnoDB AUTO_INCREMENT=3 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -243,6 +257,39 @@ CREATE TABLE `Orders` (
   CONSTRAINT `FKswravrrbol9o5svqrknrjgi39` FOREIGN KEY (`User_idx`) REFERENCES `User` (`userIdx`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE `ImageVariant` (
+  `originalImage` varchar(500) NOT NULL,
+  `thumbnailImage` varchar(500) NOT NULL,
+  `compressedImage` varchar(500) NOT NULL,
+  `createdAt` varchar(255) NOT NULL,
+  PRIMARY KEY (`originalImage`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `OrdersIdempotency` (
+  `impUid` varchar(50) NOT NULL,
+  `userIdx` int NOT NULL,
+  `response` text NOT NULL,
+  `createdAt` varchar(255) NOT NULL,
+  PRIMARY KEY (`impUid`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `OrdersOutbox` (
+  `outboxIdx` int NOT NULL AUTO_INCREMENT,
+  `impUid` varchar(50) NOT NULL,
+  `type` varchar(20) NOT NULL,
+  `userIdx` int NOT NULL,
+  `cartIdxList` text DEFAULT NULL,
+  `status` varchar(10) NOT NULL,
+  `retryCount` int NOT NULL,
+  `nextAttemptAt` varchar(255) NOT NULL,
+  `createdAt` varchar(255) NOT NULL,
+  `updatedAt` varchar(255) NOT NULL,
+  PRIMARY KEY (`outboxIdx`),
+  UNIQUE KEY `UK_OrdersOutbox_impUid_type` (`impUid`, `type`),
+  KEY `IDX_OrdersOutbox_status_nextAttemptAt` (`status`, `nextAttemptAt`),
+  KEY `IDX_OrdersOutbox_status_updatedAt` (`status`, `updatedAt`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
 CREATE TABLE `OrdersProduct` (
   `ordersProductIdx` int NOT NULL AUTO_INCREMENT,
   `Orders_idx` int DEFAULT NULL,
@@ -341,6 +388,8 @@ INSERT INTO `Product`(productIdx, armLength, chestSize, createdAt, crotchLength,
 
 INSERT INTO `ProductImage`(productImageIdx, productImage, Product_idx) VALUES (1,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/c225335e-8113-410e-a08e-59185553420e_%EB%B2%A0%EC%9D%B4%EC%A7%81%20%ED%91%B8%ED%8D%BC_SPJPE11C11.jpg',1),(2,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/3a33badb-e3aa-4160-8e20-c0a2cd325631_%EB%B2%A0%EC%9D%B4%EC%A7%81%20%ED%91%B8%ED%8D%BC_SPJPE11C11-1.jpg',1),(3,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/5e398037-a2e6-4d8a-9c0c-f7595980ab07_%5B%EC%86%8C%ED%94%84%ED%8A%B8%EC%96%80%5D%20%EB%9D%BC%EC%9A%B4%EB%93%9C%EB%84%A5%20%ED%92%80%EC%98%A4%EB%B2%84_SPKWE11M98.jpg',2),(4,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/705243f9-830b-4981-98b8-d4de5c7aa8db_%5B%EC%86%8C%ED%94%84%ED%8A%B8%EC%96%80%5D%20%EB%9D%BC%EC%9A%B4%EB%93%9C%EB%84%A5%20%ED%92%80%EC%98%A4%EB%B2%84_SPKWE11M98-1.jpg',2),(5,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/4f1ba168-261d-457d-8387-6b5a8c886f36_NYLON%20SPORTY%20CARGO%20PANTS%20CHARCOAL-1.jpg',3),(6,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/ef533fb4-1333-4a20-b880-c773480fc7a2_NYLON%20SPORTY%20CARGO%20PANTS%20CHARCOAL-2.jpg',3),(7,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/8f8db7af-3879-4b55-a3b6-ce9405ea764a_DRAWSTRING%20BACKPACK%20BLACK.jpg',4),(8,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/6a00a772-151e-49b9-9488-10116e1f17f3_DRAWSTRING%20BACKPACK%20BLACK-1.jpg',4),(9,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/0b247fca-1057-45f4-89aa-cf82166992a0_%EC%9A%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EC%B0%A8%EC%BD%9C.png',5),(10,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/2ea02404-f251-4f33-ac30-f5c60192a3da_%EC%9A%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EC%B0%A8%EC%BD%9C-1.jpg',5),(11,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/47adb3fa-a1ef-4cd9-a108-d76df6178d17_%EC%9A%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EC%B0%A8%EC%BD%9C-2.png',5),(12,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/79f537a1-90e6-4cac-b191-ac52978df475_%EC%8A%A4%EB%AA%B0%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%81%AC%EB%A3%A8%EB%84%A5%20%ED%83%80%EC%9D%B4%EB%8B%A4%EC%9E%89%ED%8D%BC%ED%94%8C.jpg',6),(13,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/577e03a1-7449-4ce0-8637-97fe53d4679a_%EC%8A%A4%EB%AA%B0%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%81%AC%EB%A3%A8%EB%84%A5%20%ED%83%80%EC%9D%B4%EB%8B%A4%EC%9E%89%ED%8D%BC%ED%94%8C-1.jpg',6),(14,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/a592689c-b0c5-4112-96f7-dabe5d2e628c_%EC%8A%A4%EB%AA%B0%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%81%AC%EB%A3%A8%EB%84%A5%20%ED%83%80%EC%9D%B4%EB%8B%A4%EC%9E%89%ED%8D%BC%ED%94%8C-2.jpg',6),(15,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/57707e9f-9a73-42e3-8410-60abc47918c4_%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%A0%88%EB%8D%94%20%EB%B2%A8%ED%8A%B8%20BLACK.jpg',7),(16,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/1af852fa-8bee-4a3c-a2b0-551cfa0391c5_%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%A0%88%EB%8D%94%20%EB%B2%A8%ED%8A%B8%20BLACK-2.jpg',7),(17,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/546a02ae-84df-48c2-a7f8-cb7daf4fc5ac_%ED%81%AC%EB%9E%99%20%EB%A0%88%EB%8D%94%20%ED%81%B4%EB%A1%9C%EA%B7%B8%20BLACK.jpg',8),(18,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/875c4b96-773e-45a7-ac1c-52b4ffb471a2_%ED%81%AC%EB%9E%99%20%EB%A0%88%EB%8D%94%20%ED%81%B4%EB%A1%9C%EA%B7%B8%20BLACK-1.jpg',8),(19,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/aeebe31f-e2c4-4e9e-9cb0-a5e60f0497ce_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%BD%94%EB%93%80%EB%A1%9C%EC%9D%B4%20%ED%8C%AC%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D.jpg',9),(20,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/c46b1c4f-d4c0-42e0-a5bf-7b5d46c69404_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%BD%94%EB%93%80%EB%A1%9C%EC%9D%B4%20%ED%8C%AC%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',9),(21,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/5f6371a3-0be0-4d14-86dc-15b14ac2718b_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%BD%94%EB%93%80%EB%A1%9C%EC%9D%B4%20%ED%8C%AC%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-3.jpg',9),(22,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/a7fe3276-f6e6-4126-9a8d-36670140aa30_%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D.jpg',10),(23,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/8867a2ba-618d-4a70-aa31-779e0e9dfe28_%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',10),(24,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/318adad2-0aa8-4740-b2a5-f52c5441dd1c_%EB%88%84%EC%98%A4%EB%A1%9C%203Way%20%EB%B0%B1%20%EA%B8%80%EB%A1%9C%EC%8B%9C%20%EB%B8%94%EB%9E%99.jpg',11),(25,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/f0895b82-a2e0-4875-be6f-63b139b5063f_%EB%88%84%EC%98%A4%EB%A1%9C%203Way%20%EB%B0%B1%20%EA%B8%80%EB%A1%9C%EC%8B%9C%20%EB%B8%94%EB%9E%99-1.jpg',11),(26,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/5ff46ec8-c857-49e5-9418-58e0fdddfd1c_%ED%85%8C%EC%98%A4%20%EC%BD%94%ED%8A%BC%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%ED%9B%84%EB%93%9C%20%EC%A7%91%EC%97%85%20%EB%A9%9C%EB%9E%80%EC%A7%80%20%EC%95%84%EC%9D%B4%EB%B3%B4%EB%A6%AC.jpg',12),(27,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/8389f845-6062-4337-bc7a-3e68f2e05030_%ED%85%8C%EC%98%A4%20%EC%BD%94%ED%8A%BC%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%ED%9B%84%EB%93%9C%20%EC%A7%91%EC%97%85%20%EB%A9%9C%EB%9E%80%EC%A7%80%20%EC%95%84%EC%9D%B4%EB%B3%B4%EB%A6%AC-1.jpg',12),(28,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/01/14/9036bbba-bff4-4394-a0d2-42e47cf37b7f_%ED%85%8C%EC%98%A4%20%EC%BD%94%ED%8A%BC%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%ED%9B%84%EB%93%9C%20%EC%A7%91%EC%97%85%20%EB%A9%9C%EB%9E%80%EC%A7%80%20%EC%95%84%EC%9D%B4%EB%B3%B4%EB%A6%AC-2.jpg',12),(31,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/5f48f3d4-fc95-4157-8140-d4c837df6c77_%28ATLANTA%29%20%ED%94%BC%EA%B7%B8%EB%A8%BC%ED%8A%B8%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0_SPMWE23C63-1.jpg',14),(32,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/2303ebfb-e329-4666-b4ea-63c44c413cf5_%28ATLANTA%29%20%ED%94%BC%EA%B7%B8%EB%A8%BC%ED%8A%B8%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0_SPMWE23C63-2.jpg',14),(33,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/f790d9c8-96e3-46f4-a8be-0814d00ca4cb_%5B%EB%9D%BC%ED%8B%80%EB%A0%88%ED%8B%B1%5D%20%EB%A9%94%EC%8B%A0%EC%A0%80%EB%B0%B1_SPAKDA9A03-1.jpg',15),(34,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/69fd736f-1209-483e-aefc-5d4f90df30bc_%5B%EB%A0%88%EB%8D%94%EB%9D%BC%EC%9D%B4%ED%81%AC%5D%20%EC%9E%90%EC%BC%93_SPJLD4TM05-1.jpg',16),(35,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/03a81fc6-1a5f-4840-bda6-3fa68f416205_%5B%EB%A0%88%EB%8D%94%EB%9D%BC%EC%9D%B4%ED%81%AC%5D%20%EC%9E%90%EC%BC%93_SPJLD4TM05-2.jpg',16),(36,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/6618ccd3-fde8-4601-be3b-290df6e5ec35_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%EC%98%A4%EB%B2%84%ED%95%8F%20%EC%9E%90%EC%BC%93_SPJKE23M01-1.jpg',17),(37,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/6b2b7e3d-04e3-46cc-8c03-64cb86d9edb7_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%EC%98%A4%EB%B2%84%ED%95%8F%20%EC%9E%90%EC%BC%93_SPJKE23M01-2.jpg',17),(38,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/7df84817-6788-4bfc-9322-4881742e8c88_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%ED%81%AC%EB%A1%AD%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%8A%AC%EB%9E%99%EC%8A%A4%20%28-5CM%29_SPTAE23W04-1.jpg',18),(39,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/ec1426e3-c715-4170-bdf2-315576cccf78_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%ED%81%AC%EB%A1%AD%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%8A%AC%EB%9E%99%EC%8A%A4%20%28-5CM%29_SPTAE23W04-2.jpg',18),(40,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/97a7edf7-f2b0-4b94-a160-e74e6440d91e_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%ED%81%AC%EB%A1%AD%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%8A%AC%EB%9E%99%EC%8A%A4%20%28-5CM%29_SPTAE23W04-3.jpg',18),(41,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/2127edec-db2f-43d1-8558-0680ce0167a3_%5B%EC%9B%9C%ED%85%8C%ED%81%AC%5D%20%EB%82%A8%EC%84%B1%20%ED%83%80%EC%9D%B4%EC%A6%88_SPXVDAVU04-1.jpg',19),(42,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/bfc42bb0-402d-4a8f-89a1-2e6ab980a6d2_%5B%EC%9B%9C%ED%85%8C%ED%81%AC%5D%20%EB%82%A8%EC%84%B1%20%ED%83%80%EC%9D%B4%EC%A6%88_SPXVDAVU04-2.jpg',19),(43,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/90d1f687-3e5d-4e98-868e-52b984ac8071_%5B%ED%94%84%EB%A0%8C%EC%B9%98%ED%85%8C%EB%A6%AC%5D%20%EB%A3%A8%EC%A6%88%ED%95%8F%20%ED%95%98%ED%94%84%EC%A7%91%EC%97%85%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0_SPMWE12C06-1.jpg',20),(44,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/07afdf3c-2850-4819-9a73-38597c17c6da_%5B%ED%94%84%EB%A0%8C%EC%B9%98%ED%85%8C%EB%A6%AC%5D%20%EB%A3%A8%EC%A6%88%ED%95%8F%20%ED%95%98%ED%94%84%EC%A7%91%EC%97%85%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0_SPMWE12C06-2.jpg',20),(45,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/44ac0d98-2063-4a55-a084-77fbf9ee8f65_%EB%A0%88%EC%9D%B4%EC%96%B4%EB%93%9C%20%EB%A1%B1%20%EC%9B%90%ED%94%BC%EC%8A%A4_SPOWD49W35-1.jpg',21),(46,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/f7e0b0b6-fb93-4116-9018-156e7b9a8342_%EB%A0%88%EC%9D%B4%EC%96%B4%EB%93%9C%20%EB%A1%B1%20%EC%9B%90%ED%94%BC%EC%8A%A4_SPOWD49W35-2.jpg',21),(47,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/d0600071-4edd-4a48-ac3e-a0c7e4f8eeb6_%ED%9B%84%EB%93%9C%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%28SPJWD4TG01%20RE%29_SPJWE11G91-1.jpg',22),(48,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/640037be-5d91-47ed-aec4-763f92da1bd2_%ED%9B%84%EB%93%9C%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%28SPJWD4TG01%20RE%29_SPJWE11G91-2.jpg',22),(49,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/59b9ccb1-65ec-4728-84cc-be715e395ad9_BASKETBALL%20COLLAGE%20HOODIE%20BLACK-1.jpg',23),(50,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/10104fd5-d87c-4201-b490-260154fd0683_BASKETBALL%20COLLAGE%20HOODIE%20BLACK-2.jpg',23),(51,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/17fbd081-a0bc-4512-84d0-b20a4c3d100e_BASKETBALL%20COLLAGE%20HOODIE%20BLACK-3.jpg',23),(52,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/cc847e5a-e15c-4cf0-91ef-57cabc3b64ba_BULLDOGS%20UPPER%20PEAK%206P%20BALL%20CAP%20NAVY-1.jpg',24),(53,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/73730c60-9d3d-404b-b053-f2d990003660_BULLDOGS%20UPPER%20PEAK%206P%20BALL%20CAP%20NAVY-2.jpg',24),(54,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/98a836e9-e2e4-4c22-be64-98bcf6544194_BULLDOGS%20UPPER%20PEAK%206P%20BALL%20CAP%20NAVY-3.jpg',24),(55,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/11e3adac-acb6-49de-bdb8-0d1f20ae0318_%5B%EC%8B%9C%EA%B7%B8%EB%8B%88%EC%B2%98%5D%20THINK%20PACK-1.jpg',25),(56,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/4d3a387d-8f6d-40c3-91f7-99eeafdafd37_%5B%EC%8B%9C%EA%B7%B8%EB%8B%88%EC%B2%98%5D%20THINK%20PACK-2.jpg',25),(57,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/c99718c4-5585-46ff-b721-97711dea4fbf_%5B%EC%8B%9C%EA%B7%B8%EB%8B%88%EC%B2%98%5D%20THINK%20PACK-3.jpg',25),(58,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/976d9897-b5e9-4e21-a756-84dfa54591f8_HARRIS%20TWEED%20PURE%20WOOL%201%20TUCK%20SLACKS%20BROWN-1.jpg',26),(59,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/57073013-2532-448c-a9cf-d825bbd575ce_HARRIS%20TWEED%20PURE%20WOOL%201%20TUCK%20SLACKS%20BROWN-2.jpg',26),(60,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/166fdec9-b76a-48d5-b558-2f38a5091361_HERITAGE%20DAN%20COLLAR%20POINT%20SWEATSHIRT%20NAVY-1.jpg',27),(61,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/9e1823df-3cbf-4081-ba36-e17b6162073c_HERITAGE%20DAN%20COLLAR%20POINT%20SWEATSHIRT%20NAVY-2.jpg',27),(62,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/cfbd5e54-83fa-4258-aa35-afd2d22931b6_HERITAGE%20DAN%20COLLAR%20POINT%20SWEATSHIRT%20NAVY-3.jpg',27),(63,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/57556f08-ca57-496a-b63a-464f7f339758_HERITAGE%20DAN%20COLLARLESS%20QUILTING%20FLEECE%20JACKET%20BLACK-1.jpg',28),(64,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/73a59ac2-1e7f-4d24-942f-38197e5654a1_HERITAGE%20DAN%20COLLARLESS%20QUILTING%20FLEECE%20JACKET%20BLACK-2.jpg',28),(65,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/5f300b50-f968-444c-963c-87bbc0ec059b_HERITAGE%20DAN%20COLLARLESS%20QUILTING%20FLEECE%20JACKET%20BLACK-3.jpg',28),(66,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/ed74c7d5-cf86-48e2-b9ec-c70b6a277e91_HERITAGE%20DAN%20LIGHTWEIGHT%20PACKABLE%20WINDBREAKER%20BLACK-1.jpg',29),(67,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/e6a9c625-a9a5-4491-868a-8c5f3d254abb_HERITAGE%20DAN%20LIGHTWEIGHT%20PACKABLE%20WINDBREAKER%20BLACK-2.jpg',29),(68,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/e60f09c2-d497-4fe1-abe9-4c2d3df58093_HERITAGE%20DAN%20LIGHTWEIGHT%20PACKABLE%20WINDBREAKER%20BLACK-3.jpg',29),(69,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/648efbff-cb3e-4b37-9c76-db9b69255651_HUNTING%20BLOUSON%20JACKET%20KHAKI-1.jpg',30),(70,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/4a1f61ba-02bd-4391-9b5f-93abb8303639_HUNTING%20BLOUSON%20JACKET%20KHAKI-2.jpg',30),(71,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/59c32b68-56be-4a49-942d-7a72a7b82c19_HUNTING%20BLOUSON%20JACKET%20KHAKI-3.jpg',30),(72,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/7e7c3568-b2f4-46c1-9a18-89bd266da20b_MARSHMELLOW%20SLIDE%20PURPLE-1.jpg',31),(73,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/68b281e1-e16d-45f4-8cde-feea6e1b6625_MARSHMELLOW%20SLIDE%20PURPLE-2.jpg',31),(74,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/aaed8dd2-6d58-45e1-94d9-0d42ca265643_C%20%EB%A1%9C%EA%B3%A0%20%EB%9D%BC%EB%B2%A8%20%EB%A8%B8%ED%94%8C%EB%9F%AC%20%EC%BD%94%EB%9E%84-1.png',32),(75,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/41659e6f-2f71-4eaa-82f7-27a1bfa29ac9_C%20%EB%A1%9C%EA%B3%A0%20%EB%9D%BC%EB%B2%A8%20%EB%A8%B8%ED%94%8C%EB%9F%AC%20%EC%BD%94%EB%9E%84-2.png',32),(76,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/684374d4-b9b1-4db9-ae54-434e2959e3e3_C%20%EB%A1%9C%EA%B3%A0%20%EC%8A%AC%EB%9D%BC%EC%9D%B4%EB%93%9C%20%EA%B7%B8%EB%A6%B0-1.jpg',33),(77,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/20eae8c9-33d5-4f8f-8094-d876ad7aa967_C%20%EB%A1%9C%EA%B3%A0%20%EC%8A%AC%EB%9D%BC%EC%9D%B4%EB%93%9C%20%EA%B7%B8%EB%A6%B0-2.jpg',33),(78,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/13e6d902-ea9b-412c-b860-775f4ea19167_LEE%20X%20COVERNAT%20LEE%20%EB%B3%B4%EC%9D%B4%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%EB%84%A4%EC%9D%B4%EB%B9%84-1.jpg',34),(79,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/56088b3d-2dad-4705-83d1-19bd7511982f_LEE%20X%20COVERNAT%20LEE%20%EB%B3%B4%EC%9D%B4%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%EB%84%A4%EC%9D%B4%EB%B9%84-2.jpg',34),(80,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/e34a7c5f-c1eb-447b-ab99-9f617652fafb_%EB%89%B4%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%B0%B1%ED%8C%A9%2031L%20%EB%B8%94%EB%9E%99-1.jpg',35),(81,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/b8e84cc9-b902-492e-af2d-a0584f9f54b5_%EB%89%B4%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%B0%B1%ED%8C%A9%2031L%20%EB%B8%94%EB%9E%99-2.jpg',35),(82,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/7632a813-9648-4099-8132-534a7f93668f_%EB%89%B4%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%B0%B1%ED%8C%A9%2031L%20%EB%B8%94%EB%9E%99-3.jpg',35),(83,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/3070aac7-2737-40e0-9bce-9d274f5e902d_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%EC%8A%A4%EC%9B%BB%20%EC%A1%B0%EA%B1%B0%20%ED%8C%AC%EC%B8%A0%20%EA%B7%B8%EB%A6%B0-1.jpg',36),(84,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/ccbc56b0-df13-4621-9e52-64cba6ded0bc_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%EC%8A%A4%EC%9B%BB%20%EC%A1%B0%EA%B1%B0%20%ED%8C%AC%EC%B8%A0%20%EA%B7%B8%EB%A6%B0-2.jpg',36),(85,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/24525646-ee6c-4cbf-a6c1-c6f6b4514ae7_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%EC%8A%A4%EC%9B%BB%20%EC%A1%B0%EA%B1%B0%20%ED%8C%AC%EC%B8%A0%20%EA%B7%B8%EB%A6%B0-3.jpg',36),(86,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/6c7061c4-2104-4eac-9d1f-12117833c001_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20%EB%84%A4%EC%9D%B4%EB%B9%84-1.png',37),(87,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/ed919242-b890-46fe-9ec5-14ed1f81827c_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20%EB%84%A4%EC%9D%B4%EB%B9%84-2.png',37),(88,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/c3d694c7-b5e7-4624-b062-4e7057ed1bf1_%EC%97%90%EC%84%BC%EC%85%9C%20%EC%88%8F%20%ED%91%B8%ED%8D%BC%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-1.jpg',38),(89,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/dc49529e-e45d-4b81-bdda-513abb782ed8_%EC%97%90%EC%84%BC%EC%85%9C%20%EC%88%8F%20%ED%91%B8%ED%8D%BC%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-2.jpg',38),(90,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/64c730f2-6319-4859-8487-ca284b9a13c4_%EC%9A%B0%EB%A8%BC%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EB%84%A4%EC%9D%B4%EB%B9%84-1.png',39),(91,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/757642b0-737b-4ff5-a182-6cb7169c60f1_%EC%9A%B0%EB%A8%BC%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EB%84%A4%EC%9D%B4%EB%B9%84-2.png',39),(92,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/2d2f84e4-2d1d-4ca5-87de-11f21a98d6f5_%EC%9A%B0%EB%A8%BC%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EB%84%A4%EC%9D%B4%EB%B9%84-3.jpg',39),(93,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/1a5941fd-f525-4708-a0c2-f46df5db985f_%EC%9B%8C%EC%8B%B1%20%EB%8D%B0%EB%8B%98%20%EB%A0%88%EA%B7%A4%EB%9F%AC%20%ED%8C%AC%EC%B8%A0%20%EB%B8%94%EB%A3%A8-1.png',40),(94,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/dda9dcd3-37d2-4bb5-a452-a18b9b50db64_%EC%9B%8C%EC%8B%B1%20%EB%8D%B0%EB%8B%98%20%EB%A0%88%EA%B7%A4%EB%9F%AC%20%ED%8C%AC%EC%B8%A0%20%EB%B8%94%EB%A3%A8-2.png',40),(95,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/cd8bc06a-0cba-4017-b683-18cb4361ca66_%EC%9B%8C%EC%8B%B1%20%EB%8D%B0%EB%8B%98%20%EB%A0%88%EA%B7%A4%EB%9F%AC%20%ED%8C%AC%EC%B8%A0%20%EB%B8%94%EB%A3%A8-3.jpg',40),(96,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/67e51908-b7c4-43e4-8927-ba66da541c4e_%ED%81%B4%EB%A1%9C%EB%B2%84%ED%95%98%ED%8A%B8%20%ED%80%BC%ED%8C%85%20%EB%AF%B8%EB%94%94%EC%97%84%20%ED%86%A0%ED%8A%B8%EB%B0%B1%20%EB%B8%94%EB%9E%99-1.jpg',41),(97,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/4211f845-11aa-4ebf-8910-fcd0b8a05012_%ED%81%B4%EB%A1%9C%EB%B2%84%ED%95%98%ED%8A%B8%20%ED%80%BC%ED%8C%85%20%EB%AF%B8%EB%94%94%EC%97%84%20%ED%86%A0%ED%8A%B8%EB%B0%B1%20%EB%B8%94%EB%9E%99-2.jpg',41),(98,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/afd5d557-2dde-4e19-8346-cb88ddf5807c_%5BINSILENCE%20X%20KKST%5D%20%EB%94%94%ED%83%9C%EC%B2%98%EB%B8%94%20%EC%9A%B8%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20BLACK-1.jpg',42),(99,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/71b229df-7cef-43f4-b4a3-070883e222bc_%5B%EC%9D%B8%EC%82%AC%EC%9D%BC%EB%9F%B0%EC%8A%A4%20X%20%EB%AF%B8%EC%A6%88%EB%85%B8%5D-1.jpg',43),(100,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/9f742f12-8a65-4251-981e-adcb49feea20_%EB%82%98%EC%9D%BC%EB%A1%A0%20%EC%9C%A0%ED%8B%B8%EB%A6%AC%ED%8B%B0%20%EC%B9%B4%EA%B3%A0%20%ED%8C%AC%EC%B8%A0%20BLACK-1.jpg',44),(101,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/ffedb43e-281e-48bb-9aaf-2f8f76fb6443_%EB%82%98%EC%9D%BC%EB%A1%A0%20%EC%9C%A0%ED%8B%B8%EB%A6%AC%ED%8B%B0%20%EC%B9%B4%EA%B3%A0%20%ED%8C%AC%EC%B8%A0%20BLACK-2.jpg',44),(102,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/93bba262-6e4a-4153-84ac-b436abfc0fc2_%EB%9D%BC%EC%9A%B4%EB%93%9C%ED%86%A0%20%EC%B2%BC%EC%8B%9C%20%EB%B6%80%EC%B8%A0%20BLACK-1.jpg',45),(103,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/371e6cd2-0a59-4587-9a2a-e39929abfae8_%EB%9D%BC%EC%9A%B4%EB%93%9C%ED%86%A0%20%EC%B2%BC%EC%8B%9C%20%EB%B6%80%EC%B8%A0%20BLACK-2.jpg',45),(104,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/32ebafe5-678e-4efc-9bee-45663ff4587f_%EC%8A%AC%EB%A6%BF%20%ED%95%98%EC%9D%B4%EB%84%A5%20%EB%8B%88%ED%8A%B8%20BLACK-1.jpg',46),(105,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/05cb30be-fece-4f70-b201-62415d20caf7_%EC%8A%AC%EB%A6%BF%20%ED%95%98%EC%9D%B4%EB%84%A5%20%EB%8B%88%ED%8A%B8%20BLACK-2.jpg',46),(106,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/e7149d00-edfe-4b2d-87b6-56565d9f303d_%EC%97%A0%EB%B8%8C%EB%A1%9C%EC%9D%B4%EB%8D%94%EB%A6%AC%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20NAVY-1.jpg',47),(107,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/8bf90902-a13b-4c86-ac5e-15ed5c5a1d3f_%EC%97%A0%EB%B8%8C%EB%A1%9C%EC%9D%B4%EB%8D%94%EB%A6%AC%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20NAVY-2.jpg',47),(108,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/77a09366-60ec-416c-bfc3-366418f74f2a_%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B2%8C%EB%A3%AC%ED%95%8F%20%EC%99%80%ED%94%8C%20%EC%85%94%EC%B8%A0%20GREY-1.jpg',48),(109,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/a7beec4f-9f8c-48c4-aa3a-73b46739abf7_%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B2%8C%EB%A3%AC%ED%95%8F%20%EC%99%80%ED%94%8C%20%EC%85%94%EC%B8%A0%20GREY-2.jpg',48),(110,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/9156ff07-c0f7-4302-97ad-5a06e4d471be_%EC%9B%A8%EC%9D%B4%EB%B8%8C%EB%9D%BC%EC%9D%B8%20%EB%8B%A4%EC%9A%B4%20%EC%9E%90%EC%BC%93%20CHARCOAL-1.jpg',49),(111,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/888343cc-8a94-4e6a-935a-5fcceed92f63_%EC%9B%A8%EC%9D%B4%EB%B8%8C%EB%9D%BC%EC%9D%B8%20%EB%8B%A4%EC%9A%B4%20%EC%9E%90%EC%BC%93%20CHARCOAL-2.jpg',49),(112,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/b2bf10ff-ba17-4af2-bfa4-c69ca7b99d96_%EB%A6%B4%EB%A0%89%EC%8A%A4%20%ED%95%8F%20%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%AA%A8%EB%8B%AC%20%EC%85%94%EC%B8%A0%20%5B%ED%99%94%EC%9D%B4%ED%8A%B8%5D-1.jpg',50),(113,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/893b54b2-c9a9-4097-b89e-332c9f7e98ec_%EB%A6%B4%EB%A0%89%EC%8A%A4%20%ED%95%8F%20%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%AA%A8%EB%8B%AC%20%EC%85%94%EC%B8%A0%20%5B%ED%99%94%EC%9D%B4%ED%8A%B8%5D-2.jpg',50),(114,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/b03a5cc3-7f59-4fde-87ac-2167242343fa_%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%EB%B2%A0%EC%9D%B4%EC%8B%9D%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',51),(115,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/cf22e2a8-c240-49d2-9195-ad1534cfb00d_%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%EB%B2%A0%EC%9D%B4%EC%8B%9D%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20%5B%EB%B8%94%EB%9E%99%5D-2.jpg',51),(116,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/1d137016-a6d1-4993-a963-6aaf54068852_%EB%B0%B1%20%EC%82%AC%ED%8B%B4%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%98%A4%ED%94%BC%EC%84%9C%20%ED%8C%AC%EC%B8%A0%20%5B%EB%9D%BC%EC%9D%B4%ED%8A%B8%20%EB%B2%A0%EC%9D%B4%EC%A7%80%5D-1.jpg',52),(117,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/fea6e28c-2399-486e-b78d-c0c71672d722_%EB%B0%B1%20%EC%82%AC%ED%8B%B4%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%98%A4%ED%94%BC%EC%84%9C%20%ED%8C%AC%EC%B8%A0%20%5B%EB%9D%BC%EC%9D%B4%ED%8A%B8%20%EB%B2%A0%EC%9D%B4%EC%A7%80%5D-2.jpg',52),(118,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/87662849-1ba4-415d-b61f-64f37ee609b2_%EC%86%8D%EA%B8%B0%EB%AA%A8%20%EC%8A%A4%ED%8A%B8%EB%A0%88%EC%9D%B4%ED%8A%B8%20%EB%8D%B0%EB%8B%98%20%ED%8C%AC%EC%B8%A0%20%5B%EB%94%A5%20%EC%9D%B8%EB%94%94%EA%B3%A0%5D-1.jpg',53),(119,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/b4fa38ed-c476-40e7-ba79-4c56b6d6e57e_%EC%86%8D%EA%B8%B0%EB%AA%A8%20%EC%8A%A4%ED%8A%B8%EB%A0%88%EC%9D%B4%ED%8A%B8%20%EB%8D%B0%EB%8B%98%20%ED%8C%AC%EC%B8%A0%20%5B%EB%94%A5%20%EC%9D%B8%EB%94%94%EA%B3%A0%5D-2.jpg',53),(120,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/c88e9db1-d528-413c-835e-958dd5e3ec28_%EC%8B%A4%ED%81%AC%20%EB%82%B4%EB%A1%9C%EC%9A%B0%20%EC%86%94%EB%A6%AC%EB%93%9C%20%ED%83%80%EC%9D%B4%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',54),(121,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/c83da303-8b9e-4346-a386-03434daeb11d_%EC%8B%A4%ED%81%AC%20%EB%82%B4%EB%A1%9C%EC%9A%B0%20%EC%86%94%EB%A6%AC%EB%93%9C%20%ED%83%80%EC%9D%B4%20%5B%EB%B8%94%EB%9E%99%5D-2.jpg',54),(122,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/fccd0ef4-acf5-4ae3-b65e-7629156c46a5_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EB%B9%84%EA%B1%B4%20%EB%A0%88%EB%8D%94%20%EC%8B%9C%EC%96%B4%EB%A7%81%20%EC%9E%AC%ED%82%B7%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',55),(123,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/daf9e605-5e66-4e15-9f0c-cfe7b150215f_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EB%B9%84%EA%B1%B4%20%EB%A0%88%EB%8D%94%20%EC%8B%9C%EC%96%B4%EB%A7%81%20%EC%9E%AC%ED%82%B7%20%5B%EB%B8%94%EB%9E%99%5D-2.jpg',55),(124,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/9bad7d4d-e2fd-44a9-a8ce-7e2edafd3af1_%EC%9A%B8%20%EB%B8%94%EB%A0%8C%EB%93%9C%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B0%9C%EB%A7%88%EC%B9%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%5B%EB%84%A4%EC%9D%B4%EB%B9%84%5D-1.jpg',56),(125,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/ee83e4da-cef2-4300-a476-5504c4a342bd_%EC%9A%B8%20%EB%B8%94%EB%A0%8C%EB%93%9C%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B0%9C%EB%A7%88%EC%B9%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%5B%EB%84%A4%EC%9D%B4%EB%B9%84%5D-2.jpg',56),(126,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/abc49f5f-dfe7-4b01-885c-6f55903bb698_%EC%BD%94%EB%93%80%EB%9D%BC%20%EB%B9%85%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EC%9B%A8%EC%9D%B4%EC%8A%A4%ED%8A%B8%20%EB%B0%B1%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',57),(127,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/8d3910ce-a52a-4191-b179-1f791223cb81_%EC%BD%94%EB%93%80%EB%9D%BC%20%EB%B9%85%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EC%9B%A8%EC%9D%B4%EC%8A%A4%ED%8A%B8%20%EB%B0%B1%20%5B%EB%B8%94%EB%9E%99%5D-2.jpg',57),(128,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/f612c677-0c26-4faa-b34d-d71224195125_%EC%BD%94%ED%8A%BC%20%EC%A0%95%EA%B8%80%20%EB%B2%84%ED%82%B7%20%ED%96%87%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',58),(129,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/dd8b65e4-e3ad-406a-9a54-2e125bc2ae96_%EC%BD%94%ED%8A%BC%20%EC%A0%95%EA%B8%80%20%EB%B2%84%ED%82%B7%20%ED%96%87%20%5B%EB%B8%94%EB%9E%99%5D-2.jpg',58),(130,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/d918fe44-c407-4867-9cbb-3fa4bc1c69ee_%ED%97%A4%EB%B9%84%20%ED%8F%B0%ED%85%8C%20%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%ED%81%AC%EB%A3%A8%20%EB%84%A5%20%EA%B8%B4%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-1.jpg',59),(131,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/499703d4-8591-4fbf-b50e-fc06de5271d5_%ED%97%A4%EB%B9%84%20%ED%8F%B0%ED%85%8C%20%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%ED%81%AC%EB%A3%A8%20%EB%84%A5%20%EA%B8%B4%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-2.jpg',59),(132,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/4770bef7-a48d-4e53-96d5-5b3b4a751e5e_%EB%A0%88%EC%B2%B4%20%ED%88%AC%ED%86%A4%20%EB%8D%95%20%EB%8B%A4%EC%9A%B4%20%ED%8C%A8%EB%94%A9%20%EA%B8%80%EB%A6%AC%ED%84%B0%20%EA%B7%B8%EB%A6%B0%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-1.jpg',60),(133,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/0aad44c0-83c3-42eb-a121-79b2a0b91a0f_%EB%A0%88%EC%B2%B4%20%ED%88%AC%ED%86%A4%20%EB%8D%95%20%EB%8B%A4%EC%9A%B4%20%ED%8C%A8%EB%94%A9%20%EA%B8%80%EB%A6%AC%ED%84%B0%20%EA%B7%B8%EB%A6%B0%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-2.jpg',60),(134,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/962b7bfb-bab1-4a8d-a9e7-3f7ab3aa79e6_%EB%A6%AC%EB%B2%B3%20%EC%95%84%ED%94%8C%EB%A6%AC%EC%BC%80%20%ED%8F%AC%EC%BC%93%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%93%9C%20%EC%98%A4%EA%B0%80%EB%8B%89%EB%B8%94%EB%9E%99-1.jpg',61),(135,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/dede8b0e-4da0-4352-822d-153ed9fb8b83_%EB%A6%AC%EB%B2%B3%20%EC%95%84%ED%94%8C%EB%A6%AC%EC%BC%80%20%ED%8F%AC%EC%BC%93%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%93%9C%20%EC%98%A4%EA%B0%80%EB%8B%89%EB%B8%94%EB%9E%99-2.jpg',61),(136,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/b5931702-618a-4481-b4cc-e731b7ee4969_%EB%B8%8C%EB%A3%A8%ED%81%B4%EB%A6%B0%20%EC%9B%8C%EC%8B%9C%EB%93%9C%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%ED%8C%AC%EC%B8%A0%20%EB%89%B4%ED%8A%B8%EB%A1%9C%20%EB%B8%94%EB%A3%A8-1.jpg',62),(137,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/88f0989e-7701-4fb7-bb27-372bcb73a551_%EB%B8%8C%EB%A3%A8%ED%81%B4%EB%A6%B0%20%EC%9B%8C%EC%8B%9C%EB%93%9C%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%ED%8C%AC%EC%B8%A0%20%EB%89%B4%ED%8A%B8%EB%A1%9C%20%EB%B8%94%EB%A3%A8-2.jpg',62),(138,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/4363fc6c-8a15-4c16-816a-5815e5d595a4_%EB%B8%8C%EB%A3%A8%ED%81%B4%EB%A6%B0%20%EC%9B%8C%EC%8B%9C%EB%93%9C%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%ED%8C%AC%EC%B8%A0%20%EB%89%B4%ED%8A%B8%EB%A1%9C%20%EB%B8%94%EB%A3%A8-3.jpg',62),(139,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/3e587a28-1f17-4f54-8e34-f6af2414aa46_%EB%B9%88%ED%8B%B0%EC%A7%80%20%EC%BA%90%EC%A5%AC%EC%96%BC%20%EB%B3%BC%EC%BA%A1%20%EB%B9%88%ED%8B%B0%EC%A7%80%20%EA%B7%B8%EB%A0%88%EC%9D%B4-1.jpg',63),(140,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/2cfafb8f-41d3-4ed2-b85f-c69c3c5a3d5a_%EC%84%B8%ED%84%B0%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%EB%B0%98%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0-1.jpg',64),(141,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/b67cbf57-369a-445e-b787-274a84bc6742_%EC%84%B8%ED%84%B0%20%EC%A7%80%ED%8D%BC%20%ED%92%80%EB%9F%AC%20%ED%8E%9C%EB%8D%98%ED%8A%B8%20%EB%AA%A9%EA%B1%B8%EC%9D%B4-1.jpg',65),(142,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/ecd90d3e-c956-46a5-a5fb-7eb4c717f45c_%EC%84%B8%ED%84%B0%20%EC%A7%80%ED%8D%BC%20%ED%92%80%EB%9F%AC%20%ED%8E%9C%EB%8D%98%ED%8A%B8%20%EB%AA%A9%EA%B1%B8%EC%9D%B4-2.jpg',65),(143,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/cb502877-c084-4de4-961c-7f4a93bfeb01_%EC%9D%B4%EB%B9%84%EC%9E%90%20%EC%BD%94%EC%8A%A4%ED%8A%B8%20%EC%8B%9C%ED%8A%B8%EB%A1%A0%20%EB%A0%88%ED%8A%B8%EB%A1%9C%20%EB%84%A4%EC%B8%84%EB%9F%B4%20%EB%A9%94%EC%89%AC%20%EB%8B%88%ED%8A%B8%20%EB%84%A4%EC%B8%84%EB%9F%B4%EA%B7%B8%EB%A6%B0-1.jpg',66),(144,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/d0578b39-d00f-41e3-ad3c-d5a1dea7c955_%ED%86%A0%EB%A6%AC%EB%85%B8%20%EC%84%B8%EB%AF%B8%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%ED%8C%AC%EC%B8%A0%20%EB%A6%AC%EC%A1%B0%ED%8A%B8%20%EB%B8%94%EB%9E%99-1.jpg',67),(145,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/976f13a3-fbb9-47d2-bbc4-857bd6fba1e1_%ED%86%A0%EB%A6%AC%EB%85%B8%20%EC%84%B8%EB%AF%B8%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%ED%8C%AC%EC%B8%A0%20%EB%A6%AC%EC%A1%B0%ED%8A%B8%20%EB%B8%94%EB%9E%99-2.jpg',67),(146,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/45cd3f5d-ff96-456d-a13d-c3c7dd056291_%ED%8C%8C%EB%A1%9C%20%EC%98%A4%EB%B2%84%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%EB%84%A4%EC%9D%B4%EB%B9%84%20%ED%94%BC%EC%98%A4%EB%8B%88-1.jpg',68),(147,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/43e764e8-58f6-4f41-a93d-b0e63cc6a07c_%ED%8C%8C%EB%A1%9C%20%EC%98%A4%EB%B2%84%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%EB%84%A4%EC%9D%B4%EB%B9%84%20%ED%94%BC%EC%98%A4%EB%8B%88-2.jpg',68),(148,'https://lonua-product.s3.ap-northeast-2.amazonaws.com/2024/02/04/2d5e9ded-9234-46c3-93af-5db441330c52_%ED%8C%8C%EB%A1%9C%20%ED%8F%AC%EC%BC%93%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%ED%81%B4%EB%9E%98%EC%8B%9D%20%EB%B8%94%EB%9E%99-1.jpg',69);
 
+UPDATE `Product` p SET p.primaryImage = (SELECT pi.productImage FROM `ProductImage` pi WHERE pi.Product_idx = p.productIdx ORDER BY pi.productImageIdx LIMIT 1);
+
 INSERT INTO `ProductIntrodImage`(productIntrodImageIdx, productIntrodImage, Product_idx) VALUES (1,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/e2c65845-15f8-4918-8489-70e660dbf2a0_%EB%B2%A0%EC%9D%B4%EC%A7%81%20%ED%91%B8%ED%8D%BC_SPJPE11C11-2.jpg',1),(2,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/9a9028cc-78fe-4fda-ae3e-42f49fc85bde_%EB%B2%A0%EC%9D%B4%EC%A7%81%20%ED%91%B8%ED%8D%BC_SPJPE11C11-3.jpg',1),(3,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/ef3e146f-10b5-4d88-9464-d42a6b2e06cb_%5B%EC%86%8C%ED%94%84%ED%8A%B8%EC%96%80%5D%20%EB%9D%BC%EC%9A%B4%EB%93%9C%EB%84%A5%20%ED%92%80%EC%98%A4%EB%B2%84_SPKWE11M98-3.jpg',2),(4,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/bb1d1c23-587b-40ef-bae0-3fc5eecf491d_%5B%EC%86%8C%ED%94%84%ED%8A%B8%EC%96%80%5D%20%EB%9D%BC%EC%9A%B4%EB%93%9C%EB%84%A5%20%ED%92%80%EC%98%A4%EB%B2%84_SPKWE11M98-4.jpg',2),(5,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/6ae3a906-d4c1-48c5-bbd6-112093ab2d62_NYLON%20SPORTY%20CARGO%20PANTS%20CHARCOAL-3.jpg',3),(6,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/cb9d2d3b-7d5d-43bd-980c-a05baae14cbc_NYLON%20SPORTY%20CARGO%20PANTS%20CHARCOAL-4.jpg',3),(7,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/e4f7c0fa-9702-49bb-9bfa-010ac7c806c6_DRAWSTRING%20BACKPACK%20BLACK-3.jpg',4),(8,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/315b3191-e2b8-4078-8a06-f472f306926b_DRAWSTRING%20BACKPACK%20BLACK-4.jpg',4),(9,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/c9b4d05c-e09e-43e0-9ece-afa27ad580f9_%EC%9A%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EC%B0%A8%EC%BD%9C-3.jpg',5),(10,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/e2c04702-f4e3-4670-8991-e9c791a00a5c_%EC%9A%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EC%B0%A8%EC%BD%9C-4.jpg',5),(11,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/b4f5ff63-88c6-4cc0-aaba-e2014325d5b8_%EC%9A%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EC%B0%A8%EC%BD%9C-5.jpg',5),(12,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/8db060f2-747d-4e42-aa90-5e7e0a0ed0ea_%EC%8A%A4%EB%AA%B0%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%81%AC%EB%A3%A8%EB%84%A5%20%ED%83%80%EC%9D%B4%EB%8B%A4%EC%9E%89%ED%8D%BC%ED%94%8C-3.jpg',6),(13,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/4be00723-caad-4189-bca5-37e2168bcf1a_%EC%8A%A4%EB%AA%B0%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%81%AC%EB%A3%A8%EB%84%A5%20%ED%83%80%EC%9D%B4%EB%8B%A4%EC%9E%89%ED%8D%BC%ED%94%8C-4.jpg',6),(14,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/f232d5aa-eae8-4909-8083-2a1ad2bc682d_%EC%8A%A4%EB%AA%B0%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%81%AC%EB%A3%A8%EB%84%A5%20%ED%83%80%EC%9D%B4%EB%8B%A4%EC%9E%89%ED%8D%BC%ED%94%8C-5.jpg',6),(15,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/092e9d2c-f9db-455b-b5cc-6b12cb578464_%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%A0%88%EB%8D%94%20%EB%B2%A8%ED%8A%B8%20BLACK-1.jpg',7),(16,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/8fabe40e-53e8-4d90-b18f-23c492849e93_%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%A0%88%EB%8D%94%20%EB%B2%A8%ED%8A%B8%20BLACK-3.jpg',7),(17,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/459abd0a-e67a-4e32-9980-38ec72db17af_%ED%81%AC%EB%9E%99%20%EB%A0%88%EB%8D%94%20%ED%81%B4%EB%A1%9C%EA%B7%B8%20BLACK-2.jpg',8),(18,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/59504387-15c9-45ad-8b59-07cfc11bee14_%ED%81%AC%EB%9E%99%20%EB%A0%88%EB%8D%94%20%ED%81%B4%EB%A1%9C%EA%B7%B8%20BLACK-3.jpg',8),(19,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/0850aa07-3e4e-4ba9-a8d8-51253138c58a_%ED%81%AC%EB%9E%99%20%EB%A0%88%EB%8D%94%20%ED%81%B4%EB%A1%9C%EA%B7%B8%20BLACK-4.jpg',8),(20,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/5529c4f7-e247-422e-b58d-3be24f29ecf7_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%BD%94%EB%93%80%EB%A1%9C%EC%9D%B4%20%ED%8C%AC%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',9),(21,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/fae605ea-9ede-455c-92b0-7ba55059caa7_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%BD%94%EB%93%80%EB%A1%9C%EC%9D%B4%20%ED%8C%AC%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-5.jpg',9),(22,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/678dd5ab-b361-4154-8b4a-fb3fde9de810_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%BD%94%EB%93%80%EB%A1%9C%EC%9D%B4%20%ED%8C%AC%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-6.jpg',9),(23,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/c49d09d1-d860-4f8a-a4d6-d19b63d18fc6_%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-2.jpg',10),(24,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/a791dc1d-a888-4942-8773-0f382196ea62_%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',10),(25,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/452c8a0e-1ba5-45d0-a954-eeb937a54710_%EB%88%84%EC%98%A4%EB%A1%9C%203Way%20%EB%B0%B1%20%EA%B8%80%EB%A1%9C%EC%8B%9C%20%EB%B8%94%EB%9E%99-2.jpg',11),(26,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/3854366a-0ab1-4156-8f72-b80fb675ae3e_%EB%88%84%EC%98%A4%EB%A1%9C%203Way%20%EB%B0%B1%20%EA%B8%80%EB%A1%9C%EC%8B%9C%20%EB%B8%94%EB%9E%99-3.jpg',11),(27,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/fab8637b-35d0-485c-b3c2-0e398a08b543_%EB%88%84%EC%98%A4%EB%A1%9C%203Way%20%EB%B0%B1%20%EA%B8%80%EB%A1%9C%EC%8B%9C%20%EB%B8%94%EB%9E%99-4.jpg',11),(28,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/dbe38179-ee86-4c82-a11d-3e920dae5e3b_%EB%88%84%EC%98%A4%EB%A1%9C%203Way%20%EB%B0%B1%20%EA%B8%80%EB%A1%9C%EC%8B%9C%20%EB%B8%94%EB%9E%99-5.jpg',11),(29,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/7ae7ffe6-b36f-412d-993a-042dc71f03b5_%ED%85%8C%EC%98%A4%20%EC%BD%94%ED%8A%BC%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%ED%9B%84%EB%93%9C%20%EC%A7%91%EC%97%85%20%EB%A9%9C%EB%9E%80%EC%A7%80%20%EC%95%84%EC%9D%B4%EB%B3%B4%EB%A6%AC-3.jpg',12),(30,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/5f3b0e4a-5594-43e7-994f-148ede1cad06_%ED%85%8C%EC%98%A4%20%EC%BD%94%ED%8A%BC%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%ED%9B%84%EB%93%9C%20%EC%A7%91%EC%97%85%20%EB%A9%9C%EB%9E%80%EC%A7%80%20%EC%95%84%EC%9D%B4%EB%B3%B4%EB%A6%AC-4.jpg',12),(31,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/01/14/ae9a7a3a-e64c-4df6-8b05-552594471ddd_%ED%85%8C%EC%98%A4%20%EC%BD%94%ED%8A%BC%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%ED%9B%84%EB%93%9C%20%EC%A7%91%EC%97%85%20%EB%A9%9C%EB%9E%80%EC%A7%80%20%EC%95%84%EC%9D%B4%EB%B3%B4%EB%A6%AC-5.jpg',12),(32,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/626417e1-c7fb-4174-8a36-bc3d440fe7cb_%28ATLANTA%29%20%ED%94%BC%EA%B7%B8%EB%A8%BC%ED%8A%B8%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0_SPMWE23C63-3.jpg',14),(33,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/30ae3fb0-2576-4699-bce3-5d9a6b7e57cc_%5B%EB%9D%BC%ED%8B%80%EB%A0%88%ED%8B%B1%5D%20%EB%A9%94%EC%8B%A0%EC%A0%80%EB%B0%B1_SPAKDA9A03-2.jpg',15),(34,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/b935ea42-70f2-4ac9-8715-369650d56ed7_%5B%EB%A0%88%EB%8D%94%EB%9D%BC%EC%9D%B4%ED%81%AC%5D%20%EC%9E%90%EC%BC%93_SPJLD4TM05-3.jpg',16),(35,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/3b1b9ae3-d2f5-47e5-b1d0-bf6bbb3d1519_%5B%EB%A0%88%EB%8D%94%EB%9D%BC%EC%9D%B4%ED%81%AC%5D%20%EC%9E%90%EC%BC%93_SPJLD4TM05-4.jpg',16),(36,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/b78bc07a-62ff-4745-9028-e7ba4c8e5821_%5B%EB%A0%88%EB%8D%94%EB%9D%BC%EC%9D%B4%ED%81%AC%5D%20%EC%9E%90%EC%BC%93_SPJLD4TM05-5.jpg',16),(37,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/ee280646-1413-44ad-ba3d-aa07bdef9ddf_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%EC%98%A4%EB%B2%84%ED%95%8F%20%EC%9E%90%EC%BC%93_SPJKE23M01-3.jpg',17),(38,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/cc7ccfcd-bb28-4a5f-baac-00b5bfe10079_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%EC%98%A4%EB%B2%84%ED%95%8F%20%EC%9E%90%EC%BC%93_SPJKE23M01-4.jpg',17),(39,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/ffb38ae4-33a8-48e2-b3ba-f6299ddd904f_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%ED%81%AC%EB%A1%AD%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%8A%AC%EB%9E%99%EC%8A%A4%20%28-5CM%29_SPTAE23W04-4.jpg',18),(40,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/b5582cb2-927e-4bd4-8896-76484dafb38f_%5B%EC%97%90%EC%84%BC%EC%85%9C%5D%20%ED%81%AC%EB%A1%AD%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%8A%AC%EB%9E%99%EC%8A%A4%20%28-5CM%29_SPTAE23W04-5.jpg',18),(41,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/f18b648d-9b6f-4b55-b33c-a6e4390fd45b_%5B%EC%9B%9C%ED%85%8C%ED%81%AC%5D%20%EB%82%A8%EC%84%B1%20%ED%83%80%EC%9D%B4%EC%A6%88_SPXVDAVU04-3.jpg',19),(42,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/e5b7f4b4-bd90-408e-89e6-d8757d20a33e_%5B%ED%94%84%EB%A0%8C%EC%B9%98%ED%85%8C%EB%A6%AC%5D%20%EB%A3%A8%EC%A6%88%ED%95%8F%20%ED%95%98%ED%94%84%EC%A7%91%EC%97%85%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0_SPMWE12C06-3.jpg',20),(43,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/37816363-c951-4be3-95af-339cf8d7c20a_%5B%ED%94%84%EB%A0%8C%EC%B9%98%ED%85%8C%EB%A6%AC%5D%20%EB%A3%A8%EC%A6%88%ED%95%8F%20%ED%95%98%ED%94%84%EC%A7%91%EC%97%85%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%EC%85%94%EC%B8%A0_SPMWE12C06-4.jpg',20),(44,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6d521f05-911b-437b-9455-707c2aca00c6_%EB%A0%88%EC%9D%B4%EC%96%B4%EB%93%9C%20%EB%A1%B1%20%EC%9B%90%ED%94%BC%EC%8A%A4_SPOWD49W35-3.jpg',21),(45,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/9adf6bbb-c259-4785-a30e-dfb965501241_%EB%A0%88%EC%9D%B4%EC%96%B4%EB%93%9C%20%EB%A1%B1%20%EC%9B%90%ED%94%BC%EC%8A%A4_SPOWD49W35-4.jpg',21),(46,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/79558f25-cb9b-4751-8122-a4d6c4726f00_%ED%9B%84%EB%93%9C%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%28SPJWD4TG01%20RE%29_SPJWE11G91-3.jpg',22),(47,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/c09177bf-7f1f-4f47-8efa-d9f19b059f13_%ED%9B%84%EB%93%9C%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%28SPJWD4TG01%20RE%29_SPJWE11G91-4.jpg',22),(48,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/63997f31-3c4e-4303-8a09-d77c0a96687a_BASKETBALL%20COLLAGE%20HOODIE%20BLACK-4.jpg',23),(49,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/2c3ea077-2d14-4eb9-ba86-16c758f6d219_BASKETBALL%20COLLAGE%20HOODIE%20BLACK-5.jpg',23),(50,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/eac92143-6fcb-48fb-a686-a277148a8102_BASKETBALL%20COLLAGE%20HOODIE%20BLACK-6.jpg',23),(51,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/4f9cd68c-d2b3-4480-8112-5857c88c3fe6_BULLDOGS%20UPPER%20PEAK%206P%20BALL%20CAP%20NAVY-4.jpg',24),(52,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0e74ffd8-0c0d-452b-a116-ad97144a13a7_BULLDOGS%20UPPER%20PEAK%206P%20BALL%20CAP%20NAVY-5.jpg',24),(53,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/c1ee7ce4-10b9-4263-a4bd-155c9ba8b4a4_BULLDOGS%20UPPER%20PEAK%206P%20BALL%20CAP%20NAVY-6.jpg',24),(54,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/fb84ca9b-c72c-4bed-8c91-ae0ea401d9ae_%5B%EC%8B%9C%EA%B7%B8%EB%8B%88%EC%B2%98%5D%20THINK%20PACK-4.jpg',25),(55,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/c910b5bc-331f-496f-9fb7-9dc91bd212e3_%5B%EC%8B%9C%EA%B7%B8%EB%8B%88%EC%B2%98%5D%20THINK%20PACK-5.jpg',25),(56,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/cf6de303-d376-40c8-bd12-63b3c7a8a8f2_%5B%EC%8B%9C%EA%B7%B8%EB%8B%88%EC%B2%98%5D%20THINK%20PACK-6.jpg',25),(57,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/f9135601-9a58-40ec-8210-a68dec070681_%5B%EC%8B%9C%EA%B7%B8%EB%8B%88%EC%B2%98%5D%20THINK%20PACK-7.jpg',25),(58,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/476e1db8-ab3a-4192-9a59-6ef94321162c_HARRIS%20TWEED%20PURE%20WOOL%201%20TUCK%20SLACKS%20BROWN-3.jpg',26),(59,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/adc9cafd-53e0-4455-8914-32af89ea9561_HARRIS%20TWEED%20PURE%20WOOL%201%20TUCK%20SLACKS%20BROWN-4.jpg',26),(60,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/4172084d-a28b-4512-8089-7501b769ac65_HARRIS%20TWEED%20PURE%20WOOL%201%20TUCK%20SLACKS%20BROWN-5.jpg',26),(61,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/99594100-6fb1-40ec-bdf3-66195f4c4ebe_HARRIS%20TWEED%20PURE%20WOOL%201%20TUCK%20SLACKS%20BROWN-6.jpg',26),(62,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/ff3a4be7-1cfe-4701-ba05-925c6e2ae0ff_HERITAGE%20DAN%20COLLAR%20POINT%20SWEATSHIRT%20NAVY-4.jpg',27),(63,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/426ac907-bcf1-4a82-84b3-899d970ac634_HERITAGE%20DAN%20COLLAR%20POINT%20SWEATSHIRT%20NAVY-5.jpg',27),(64,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/edfe1086-7dfc-47cb-bd62-7a88e9e2795d_HERITAGE%20DAN%20COLLAR%20POINT%20SWEATSHIRT%20NAVY-6.jpg',27),(65,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/3d8d50d0-edf5-4c6e-a057-7fc777587272_HERITAGE%20DAN%20COLLARLESS%20QUILTING%20FLEECE%20JACKET%20BLACK-4.jpg',28),(66,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/7c5c7c3a-713d-4d6b-b2c1-b53cdd3cc61a_HERITAGE%20DAN%20COLLARLESS%20QUILTING%20FLEECE%20JACKET%20BLACK-5.jpg',28),(67,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/104fa2b6-502b-4c5c-9e89-bf320a06df3a_HERITAGE%20DAN%20COLLARLESS%20QUILTING%20FLEECE%20JACKET%20BLACK-6.jpg',28),(68,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/a3354b48-62cb-4f11-b654-bf1f94593226_HERITAGE%20DAN%20LIGHTWEIGHT%20PACKABLE%20WINDBREAKER%20BLACK-4.jpg',29),(69,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/4102a67d-6cb7-4259-b5de-c9d5d8e99999_HERITAGE%20DAN%20LIGHTWEIGHT%20PACKABLE%20WINDBREAKER%20BLACK-5.jpg',29),(70,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/218f00e8-6b67-4bf3-b0c5-385ed35d008d_HERITAGE%20DAN%20LIGHTWEIGHT%20PACKABLE%20WINDBREAKER%20BLACK-6.jpg',29),(71,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/3ceadcb4-3aad-456a-8fd9-71be430ec0ad_HERITAGE%20DAN%20LIGHTWEIGHT%20PACKABLE%20WINDBREAKER%20BLACK-7.jpg',29),(72,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/a3fa7294-2f11-4e74-b830-ff0cd566daba_HUNTING%20BLOUSON%20JACKET%20KHAKI-4.jpg',30),(73,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/c5a803d8-7cc0-4647-8cee-c6d71c0a9abe_HUNTING%20BLOUSON%20JACKET%20KHAKI-5.jpg',30),(74,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/aa043ecf-efa6-4fc6-869b-462c2a5e792c_HUNTING%20BLOUSON%20JACKET%20KHAKI-6.jpg',30),(75,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0ddbdb4c-4717-4fda-9e44-217d897a63ca_HUNTING%20BLOUSON%20JACKET%20KHAKI-7.jpg',30),(76,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/4c1b7077-6608-4dc2-8eee-c2d2e6461d8b_MARSHMELLOW%20SLIDE%20PURPLE-3.jpg',31),(77,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/479a9d9f-4435-4aa6-add8-6b50f45cc5d3_MARSHMELLOW%20SLIDE%20PURPLE-4.jpg',31),(78,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/91194eef-05ff-42ee-af4d-b8c52daeb1fb_MARSHMELLOW%20SLIDE%20PURPLE-5.jpg',31),(79,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/a93a2d25-261b-4f25-89f0-6cd5a91ea1b9_MARSHMELLOW%20SLIDE%20PURPLE-6.jpg',31),(80,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/614387d4-2b75-4c62-ad89-a5dda2572628_C%20%EB%A1%9C%EA%B3%A0%20%EB%9D%BC%EB%B2%A8%20%EB%A8%B8%ED%94%8C%EB%9F%AC%20%EC%BD%94%EB%9E%84-3.jpg',32),(81,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6a5f7ab5-6c8b-47c5-abbd-27a0cfbc3c90_C%20%EB%A1%9C%EA%B3%A0%20%EB%9D%BC%EB%B2%A8%20%EB%A8%B8%ED%94%8C%EB%9F%AC%20%EC%BD%94%EB%9E%84-4.jpg',32),(82,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/771e791a-0d9f-4569-a6f4-54959a0aa22a_C%20%EB%A1%9C%EA%B3%A0%20%EB%9D%BC%EB%B2%A8%20%EB%A8%B8%ED%94%8C%EB%9F%AC%20%EC%BD%94%EB%9E%84-5.jpg',32),(83,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/7bd4aff2-41ab-47b1-96d4-5008e51c1622_C%20%EB%A1%9C%EA%B3%A0%20%EC%8A%AC%EB%9D%BC%EC%9D%B4%EB%93%9C%20%EA%B7%B8%EB%A6%B0-3.jpg',33),(84,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/164b0530-5121-4ab4-8597-55bc036f5a5d_C%20%EB%A1%9C%EA%B3%A0%20%EC%8A%AC%EB%9D%BC%EC%9D%B4%EB%93%9C%20%EA%B7%B8%EB%A6%B0-4.jpg',33),(85,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/600135fb-a382-4b03-8fc9-b8dd047f9f21_C%20%EB%A1%9C%EA%B3%A0%20%EC%8A%AC%EB%9D%BC%EC%9D%B4%EB%93%9C%20%EA%B7%B8%EB%A6%B0-5.jpg',33),(86,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/ba14e013-1f33-49d2-babe-8b9750523d39_LEE%20X%20COVERNAT%20LEE%20%EB%B3%B4%EC%9D%B4%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%EB%84%A4%EC%9D%B4%EB%B9%84-3.jpg',34),(87,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0caba2c8-68a0-4574-8564-d544d172db8f_LEE%20X%20COVERNAT%20LEE%20%EB%B3%B4%EC%9D%B4%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%EB%84%A4%EC%9D%B4%EB%B9%84-4.jpg',34),(88,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/c791bc71-f73f-4c95-9f25-ac56e0007cbc_LEE%20X%20COVERNAT%20LEE%20%EB%B3%B4%EC%9D%B4%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%EB%84%A4%EC%9D%B4%EB%B9%84-5.jpg',34),(89,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/ca66b27e-2381-4acc-8336-03ca176eb8ce_%EB%89%B4%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%B0%B1%ED%8C%A9%2031L%20%EB%B8%94%EB%9E%99-4.jpg',35),(90,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/910841e6-2c7b-455a-bb3b-217bf714be73_%EB%89%B4%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%B0%B1%ED%8C%A9%2031L%20%EB%B8%94%EB%9E%99-5.jpg',35),(91,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/d49c0eb7-53d6-45ae-a0f9-b8dfd6feb4e8_%EB%89%B4%20%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%B0%B1%ED%8C%A9%2031L%20%EB%B8%94%EB%9E%99-6.jpg',35),(92,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/789a3d41-2317-44ba-ae0d-d7f9bcbbe7cb_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%EC%8A%A4%EC%9B%BB%20%EC%A1%B0%EA%B1%B0%20%ED%8C%AC%EC%B8%A0%20%EA%B7%B8%EB%A6%B0-4.jpg',36),(93,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/800aeb67-947d-4801-886d-9c9a04970e0d_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%EC%8A%A4%EC%9B%BB%20%EC%A1%B0%EA%B1%B0%20%ED%8C%AC%EC%B8%A0%20%EA%B7%B8%EB%A6%B0-5.jpg',36),(94,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6428d469-c14a-4b58-abfc-336d08b89ef8_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%EC%8A%A4%EC%9B%BB%20%EC%A1%B0%EA%B1%B0%20%ED%8C%AC%EC%B8%A0%20%EA%B7%B8%EB%A6%B0-6.jpg',36),(95,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/023714dc-0b0f-4539-9e13-08a66488a148_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20%EB%84%A4%EC%9D%B4%EB%B9%84-3.jpg',37),(96,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/17ce053c-499c-4c6f-9d22-c71ebfacbfa2_%EC%96%B4%EC%84%BC%ED%8B%B1%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20%EB%84%A4%EC%9D%B4%EB%B9%84-4.jpg',37),(97,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/8a2c1f3f-ded4-4c32-be51-48ae798d27fe_%EC%97%90%EC%84%BC%EC%85%9C%20%EC%88%8F%20%ED%91%B8%ED%8D%BC%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-3.jpg',38),(98,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/59544e08-ae5d-44e5-8273-0814c43e19d9_%EC%97%90%EC%84%BC%EC%85%9C%20%EC%88%8F%20%ED%91%B8%ED%8D%BC%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-4.jpg',38),(99,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/27f40f92-5af5-4f28-8020-4b01d9adcee4_%EC%97%90%EC%84%BC%EC%85%9C%20%EC%88%8F%20%ED%91%B8%ED%8D%BC%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-5.jpg',38),(100,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/eeed19ec-c1ea-480c-878e-accf7cb01f84_%EC%9A%B0%EB%A8%BC%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EB%84%A4%EC%9D%B4%EB%B9%84-4.jpg',39),(101,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/2796827c-8fbc-4dab-86cb-3ac497a7b9e1_%EC%9A%B0%EB%A8%BC%20%EC%88%8F%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%EB%84%A4%EC%9D%B4%EB%B9%84-5.jpg',39),(102,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0a26413a-3b05-4105-ac79-b71d97f34bd2_%EC%9B%8C%EC%8B%B1%20%EB%8D%B0%EB%8B%98%20%EB%A0%88%EA%B7%A4%EB%9F%AC%20%ED%8C%AC%EC%B8%A0%20%EB%B8%94%EB%A3%A8-4.jpg',40),(103,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/57db91d8-bc6c-48c1-ae8b-305fb30d6381_%EC%9B%8C%EC%8B%B1%20%EB%8D%B0%EB%8B%98%20%EB%A0%88%EA%B7%A4%EB%9F%AC%20%ED%8C%AC%EC%B8%A0%20%EB%B8%94%EB%A3%A8-5.jpg',40),(104,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/a8346178-dea4-4e52-a898-0d52f29fdd8b_%EC%9B%8C%EC%8B%B1%20%EB%8D%B0%EB%8B%98%20%EB%A0%88%EA%B7%A4%EB%9F%AC%20%ED%8C%AC%EC%B8%A0%20%EB%B8%94%EB%A3%A8-6.jpg',40),(105,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/807c8d4e-a6b0-4cb1-b8b1-0021b541af9f_%ED%81%B4%EB%A1%9C%EB%B2%84%ED%95%98%ED%8A%B8%20%ED%80%BC%ED%8C%85%20%EB%AF%B8%EB%94%94%EC%97%84%20%ED%86%A0%ED%8A%B8%EB%B0%B1%20%EB%B8%94%EB%9E%99-3.jpg',41),(106,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/5da837bf-f46b-4c00-8b97-383db3a5f286_%ED%81%B4%EB%A1%9C%EB%B2%84%ED%95%98%ED%8A%B8%20%ED%80%BC%ED%8C%85%20%EB%AF%B8%EB%94%94%EC%97%84%20%ED%86%A0%ED%8A%B8%EB%B0%B1%20%EB%B8%94%EB%9E%99-4.jpg',41),(107,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/245ffd59-9f39-437e-b5fc-aa13df2a6c41_%ED%81%B4%EB%A1%9C%EB%B2%84%ED%95%98%ED%8A%B8%20%ED%80%BC%ED%8C%85%20%EB%AF%B8%EB%94%94%EC%97%84%20%ED%86%A0%ED%8A%B8%EB%B0%B1%20%EB%B8%94%EB%9E%99-5.jpg',41),(108,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/f7912e9e-2cb6-41cb-9d13-2ec16506fe77_%5BINSILENCE%20X%20KKST%5D%20%EB%94%94%ED%83%9C%EC%B2%98%EB%B8%94%20%EC%9A%B8%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20BLACK-2.jpg',42),(109,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6cf3ba1b-177f-441d-a4f9-2300d75b548a_%5BINSILENCE%20X%20KKST%5D%20%EB%94%94%ED%83%9C%EC%B2%98%EB%B8%94%20%EC%9A%B8%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20BLACK-3.jpg',42),(110,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/2056fad5-f9c7-475d-adb5-8e811544e722_%5BINSILENCE%20X%20KKST%5D%20%EB%94%94%ED%83%9C%EC%B2%98%EB%B8%94%20%EC%9A%B8%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20BLACK-4.jpg',42),(111,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/85759b6b-82a2-41bf-aff9-ace1e55e605f_%5BINSILENCE%20X%20KKST%5D%20%EB%94%94%ED%83%9C%EC%B2%98%EB%B8%94%20%EC%9A%B8%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20BLACK-5.jpg',42),(112,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/5a40f4af-8b74-4076-a413-0149fce9febd_%5BINSILENCE%20X%20KKST%5D%20%EB%94%94%ED%83%9C%EC%B2%98%EB%B8%94%20%EC%9A%B8%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20BLACK-6.jpg',42),(113,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/9f88c898-ae2b-4b5e-89c8-2537484238ba_%5B%EC%9D%B8%EC%82%AC%EC%9D%BC%EB%9F%B0%EC%8A%A4%20X%20%EB%AF%B8%EC%A6%88%EB%85%B8%5D-2.jpg',43),(114,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/eb43693a-841a-48fb-a9b1-0555640f7874_%5B%EC%9D%B8%EC%82%AC%EC%9D%BC%EB%9F%B0%EC%8A%A4%20X%20%EB%AF%B8%EC%A6%88%EB%85%B8%5D-3.jpg',43),(115,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/112550ec-6e8f-4a95-b764-8f810d01d686_%5B%EC%9D%B8%EC%82%AC%EC%9D%BC%EB%9F%B0%EC%8A%A4%20X%20%EB%AF%B8%EC%A6%88%EB%85%B8%5D-4.jpg',43),(116,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/98230c8a-7e0f-4df9-9714-726b700912bd_%5B%EC%9D%B8%EC%82%AC%EC%9D%BC%EB%9F%B0%EC%8A%A4%20X%20%EB%AF%B8%EC%A6%88%EB%85%B8%5D-5.jpg',43),(117,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0403c92e-a104-4373-8b74-c28cfe96555d_%5B%EC%9D%B8%EC%82%AC%EC%9D%BC%EB%9F%B0%EC%8A%A4%20X%20%EB%AF%B8%EC%A6%88%EB%85%B8%5D-6.jpg',43),(118,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/e57da6af-4a89-46f7-a441-5fd74c336379_%EB%82%98%EC%9D%BC%EB%A1%A0%20%EC%9C%A0%ED%8B%B8%EB%A6%AC%ED%8B%B0%20%EC%B9%B4%EA%B3%A0%20%ED%8C%AC%EC%B8%A0%20BLACK-3.jpg',44),(119,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/50570ed2-9cf2-44e4-88cf-a9096ffea574_%EB%82%98%EC%9D%BC%EB%A1%A0%20%EC%9C%A0%ED%8B%B8%EB%A6%AC%ED%8B%B0%20%EC%B9%B4%EA%B3%A0%20%ED%8C%AC%EC%B8%A0%20BLACK-4.jpg',44),(120,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/fa55d626-9efb-48d0-87ae-2a31d620c29b_%EB%82%98%EC%9D%BC%EB%A1%A0%20%EC%9C%A0%ED%8B%B8%EB%A6%AC%ED%8B%B0%20%EC%B9%B4%EA%B3%A0%20%ED%8C%AC%EC%B8%A0%20BLACK-5.jpg',44),(121,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/d6a7213e-e42f-436b-be24-5cbd4cb4b00b_%EB%82%98%EC%9D%BC%EB%A1%A0%20%EC%9C%A0%ED%8B%B8%EB%A6%AC%ED%8B%B0%20%EC%B9%B4%EA%B3%A0%20%ED%8C%AC%EC%B8%A0%20BLACK-6.jpg',44),(122,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/cac900d3-7a69-439d-af4d-528eadf14c95_%EB%9D%BC%EC%9A%B4%EB%93%9C%ED%86%A0%20%EC%B2%BC%EC%8B%9C%20%EB%B6%80%EC%B8%A0%20BLACK-3.jpg',45),(123,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/dcb058d0-18dc-417d-99d2-7cf0b6b2c1a0_%EB%9D%BC%EC%9A%B4%EB%93%9C%ED%86%A0%20%EC%B2%BC%EC%8B%9C%20%EB%B6%80%EC%B8%A0%20BLACK-4.jpg',45),(124,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/9cf7d066-d7b1-4213-b39a-c51f1f83cc16_%EB%9D%BC%EC%9A%B4%EB%93%9C%ED%86%A0%20%EC%B2%BC%EC%8B%9C%20%EB%B6%80%EC%B8%A0%20BLACK-5.jpg',45),(125,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/a97b54bc-3e6f-4e4c-b1b0-90dc6c8e111f_%EB%9D%BC%EC%9A%B4%EB%93%9C%ED%86%A0%20%EC%B2%BC%EC%8B%9C%20%EB%B6%80%EC%B8%A0%20BLACK-6.jpg',45),(126,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/d92b84a1-3c81-43fe-ae5c-3fbc7003b249_%EC%8A%AC%EB%A6%BF%20%ED%95%98%EC%9D%B4%EB%84%A5%20%EB%8B%88%ED%8A%B8%20BLACK-3.jpg',46),(127,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/962a141e-454b-4f85-b788-1f69715802f8_%EC%8A%AC%EB%A6%BF%20%ED%95%98%EC%9D%B4%EB%84%A5%20%EB%8B%88%ED%8A%B8%20BLACK-4.jpg',46),(128,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/497dd005-7f5b-46c1-8878-91813f36c120_%EC%8A%AC%EB%A6%BF%20%ED%95%98%EC%9D%B4%EB%84%A5%20%EB%8B%88%ED%8A%B8%20BLACK-5.jpg',46),(129,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/3c11871c-10be-40d2-907f-ddb93c6168e6_%EC%8A%AC%EB%A6%BF%20%ED%95%98%EC%9D%B4%EB%84%A5%20%EB%8B%88%ED%8A%B8%20BLACK-6.jpg',46),(130,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/46b034f9-e2fc-4aaf-9dcf-e236c16ab371_%EC%97%A0%EB%B8%8C%EB%A1%9C%EC%9D%B4%EB%8D%94%EB%A6%AC%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20NAVY-3.jpg',47),(131,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/306e7baf-d12d-4f3f-9306-0007b9565f43_%EC%97%A0%EB%B8%8C%EB%A1%9C%EC%9D%B4%EB%8D%94%EB%A6%AC%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20NAVY-4.jpg',47),(132,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/fc3b9855-6883-4104-a2ea-e05fac72f742_%EC%97%A0%EB%B8%8C%EB%A1%9C%EC%9D%B4%EB%8D%94%EB%A6%AC%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20NAVY-5.jpg',47),(133,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/fef22ae9-d70d-4fa3-9fe4-46ccc8449fa2_%EC%97%A0%EB%B8%8C%EB%A1%9C%EC%9D%B4%EB%8D%94%EB%A6%AC%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%94%94%20NAVY-6.jpg',47),(134,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/109ebbfd-fc96-4e8d-9899-d662de0b0fc6_%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B2%8C%EB%A3%AC%ED%95%8F%20%EC%99%80%ED%94%8C%20%EC%85%94%EC%B8%A0%20GREY-3.jpg',48),(135,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/ecd795f9-8942-4bdb-ba93-4ab9629d8280_%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B2%8C%EB%A3%AC%ED%95%8F%20%EC%99%80%ED%94%8C%20%EC%85%94%EC%B8%A0%20GREY-4.jpg',48),(136,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/09916566-cc74-4169-a530-02f1f1d3a09b_%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B2%8C%EB%A3%AC%ED%95%8F%20%EC%99%80%ED%94%8C%20%EC%85%94%EC%B8%A0%20GREY-5.jpg',48),(137,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/809e19e0-6ff9-4ba5-91d7-6cbf91ac4152_%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B2%8C%EB%A3%AC%ED%95%8F%20%EC%99%80%ED%94%8C%20%EC%85%94%EC%B8%A0%20GREY-6.jpg',48),(138,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6b653587-6c44-49c3-8951-8eae745da5da_%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B2%8C%EB%A3%AC%ED%95%8F%20%EC%99%80%ED%94%8C%20%EC%85%94%EC%B8%A0%20GREY-7.jpg',48),(139,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/8ed238f9-a0ef-4dc1-9ee7-b95996b1aaa0_%EC%9B%A8%EC%9D%B4%EB%B8%8C%EB%9D%BC%EC%9D%B8%20%EB%8B%A4%EC%9A%B4%20%EC%9E%90%EC%BC%93%20CHARCOAL-3.jpg',49),(140,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/056c722a-875c-4f72-883c-d9461eab85eb_%EC%9B%A8%EC%9D%B4%EB%B8%8C%EB%9D%BC%EC%9D%B8%20%EB%8B%A4%EC%9A%B4%20%EC%9E%90%EC%BC%93%20CHARCOAL-4.jpg',49),(141,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/3b03e846-b76f-4751-a031-27e09a0a37eb_%EC%9B%A8%EC%9D%B4%EB%B8%8C%EB%9D%BC%EC%9D%B8%20%EB%8B%A4%EC%9A%B4%20%EC%9E%90%EC%BC%93%20CHARCOAL-5.jpg',49),(142,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0ff22334-9024-4b18-82ef-eca4a8de50e0_%EC%9B%A8%EC%9D%B4%EB%B8%8C%EB%9D%BC%EC%9D%B8%20%EB%8B%A4%EC%9A%B4%20%EC%9E%90%EC%BC%93%20CHARCOAL-6.jpg',49),(143,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0e7ef27e-f889-4b7d-95eb-7ed89ebc6859_%EC%9B%A8%EC%9D%B4%EB%B8%8C%EB%9D%BC%EC%9D%B8%20%EB%8B%A4%EC%9A%B4%20%EC%9E%90%EC%BC%93%20CHARCOAL-7.jpg',49),(144,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/d150bdbc-ae8f-4ab9-94d5-3ba52ca923b7_%EB%A6%B4%EB%A0%89%EC%8A%A4%20%ED%95%8F%20%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%AA%A8%EB%8B%AC%20%EC%85%94%EC%B8%A0%20%5B%ED%99%94%EC%9D%B4%ED%8A%B8%5D-3.jpg',50),(145,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/aac802c8-2976-4977-aa5b-144ced862722_%EB%A6%B4%EB%A0%89%EC%8A%A4%20%ED%95%8F%20%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%AA%A8%EB%8B%AC%20%EC%85%94%EC%B8%A0%20%5B%ED%99%94%EC%9D%B4%ED%8A%B8%5D-4.jpg',50),(146,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0f67b399-1bf3-4a6a-9c2e-43561268df6a_%EB%A6%B4%EB%A0%89%EC%8A%A4%20%ED%95%8F%20%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%AA%A8%EB%8B%AC%20%EC%85%94%EC%B8%A0%20%5B%ED%99%94%EC%9D%B4%ED%8A%B8%5D-5.jpg',50),(147,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/f29d0d0b-71be-48fc-bf62-5f1d8a10f868_%EB%A6%B4%EB%A0%89%EC%8A%A4%20%ED%95%8F%20%EB%AF%B8%EB%8B%88%EB%A9%80%20%EB%AA%A8%EB%8B%AC%20%EC%85%94%EC%B8%A0%20%5B%ED%99%94%EC%9D%B4%ED%8A%B8%5D-6.jpg',50),(148,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/f4969038-253d-4190-88e5-5e156356881c_%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%EB%B2%A0%EC%9D%B4%EC%8B%9D%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20%5B%EB%B8%94%EB%9E%99%5D-3.jpg',51),(149,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0c2876f6-ef8f-42fd-87b6-b8772d405d55_%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%EB%B2%A0%EC%9D%B4%EC%8B%9D%20%EB%B8%94%EB%A0%88%EC%9D%B4%EC%A0%80%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',51),(150,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/9fa26df9-8688-4f29-8c47-31beeb8bfe50_%EB%B0%B1%20%EC%82%AC%ED%8B%B4%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%98%A4%ED%94%BC%EC%84%9C%20%ED%8C%AC%EC%B8%A0%20%5B%EB%9D%BC%EC%9D%B4%ED%8A%B8%20%EB%B2%A0%EC%9D%B4%EC%A7%80%5D-3.jpg',52),(151,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/cd07a5e4-37cd-49ca-bace-6452fc5bd8b3_%EB%B0%B1%20%EC%82%AC%ED%8B%B4%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%98%A4%ED%94%BC%EC%84%9C%20%ED%8C%AC%EC%B8%A0%20%5B%EB%9D%BC%EC%9D%B4%ED%8A%B8%20%EB%B2%A0%EC%9D%B4%EC%A7%80%5D-4.jpg',52),(152,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/b666589e-031c-44c6-b62d-09e3bd20d7bb_%EB%B0%B1%20%EC%82%AC%ED%8B%B4%20%EC%99%80%EC%9D%B4%EB%93%9C%20%EC%98%A4%ED%94%BC%EC%84%9C%20%ED%8C%AC%EC%B8%A0%20%5B%EB%9D%BC%EC%9D%B4%ED%8A%B8%20%EB%B2%A0%EC%9D%B4%EC%A7%80%5D-5.jpg',52),(153,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/78191a27-d40b-48f3-a943-32ac96827f9f_%EC%86%8D%EA%B8%B0%EB%AA%A8%20%EC%8A%A4%ED%8A%B8%EB%A0%88%EC%9D%B4%ED%8A%B8%20%EB%8D%B0%EB%8B%98%20%ED%8C%AC%EC%B8%A0%20%5B%EB%94%A5%20%EC%9D%B8%EB%94%94%EA%B3%A0%5D-3.jpg',53),(154,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/5c6fc436-d124-4d37-a62d-31a044651b69_%EC%86%8D%EA%B8%B0%EB%AA%A8%20%EC%8A%A4%ED%8A%B8%EB%A0%88%EC%9D%B4%ED%8A%B8%20%EB%8D%B0%EB%8B%98%20%ED%8C%AC%EC%B8%A0%20%5B%EB%94%A5%20%EC%9D%B8%EB%94%94%EA%B3%A0%5D-4.jpg',53),(155,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6be990e2-57d7-4f9f-b502-2191091fef07_%EC%86%8D%EA%B8%B0%EB%AA%A8%20%EC%8A%A4%ED%8A%B8%EB%A0%88%EC%9D%B4%ED%8A%B8%20%EB%8D%B0%EB%8B%98%20%ED%8C%AC%EC%B8%A0%20%5B%EB%94%A5%20%EC%9D%B8%EB%94%94%EA%B3%A0%5D-5.jpg',53),(156,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/646883ae-a9c5-4798-a99f-7b47b2c31999_%EC%8B%A4%ED%81%AC%20%EB%82%B4%EB%A1%9C%EC%9A%B0%20%EC%86%94%EB%A6%AC%EB%93%9C%20%ED%83%80%EC%9D%B4%20%5B%EB%B8%94%EB%9E%99%5D-3.jpg',54),(157,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/7986199f-fcc2-4522-bdae-0d13441cb690_%EC%8B%A4%ED%81%AC%20%EB%82%B4%EB%A1%9C%EC%9A%B0%20%EC%86%94%EB%A6%AC%EB%93%9C%20%ED%83%80%EC%9D%B4%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',54),(158,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/72ecd81e-4984-45ed-abaa-7366b86b3dc6_%EC%8B%A4%ED%81%AC%20%EB%82%B4%EB%A1%9C%EC%9A%B0%20%EC%86%94%EB%A6%AC%EB%93%9C%20%ED%83%80%EC%9D%B4%20%5B%EB%B8%94%EB%9E%99%5D-5.jpg',54),(159,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/99758177-5ff2-4182-ba16-bfff18a48f7c_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EB%B9%84%EA%B1%B4%20%EB%A0%88%EB%8D%94%20%EC%8B%9C%EC%96%B4%EB%A7%81%20%EC%9E%AC%ED%82%B7%20%5B%EB%B8%94%EB%9E%99%5D-3.jpg',55),(160,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/38d36ff6-5ef2-4cd5-9458-b294836e7e15_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EB%B9%84%EA%B1%B4%20%EB%A0%88%EB%8D%94%20%EC%8B%9C%EC%96%B4%EB%A7%81%20%EC%9E%AC%ED%82%B7%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',55),(161,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/cb72ab85-2d61-4640-9d06-03accb942269_%EC%9A%B0%EB%A8%BC%EC%A6%88%20%EB%B9%84%EA%B1%B4%20%EB%A0%88%EB%8D%94%20%EC%8B%9C%EC%96%B4%EB%A7%81%20%EC%9E%AC%ED%82%B7%20%5B%EB%B8%94%EB%9E%99%5D-5.jpg',55),(162,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/57ff1a99-08bf-415d-8adb-112782358fd1_%EC%9A%B8%20%EB%B8%94%EB%A0%8C%EB%93%9C%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B0%9C%EB%A7%88%EC%B9%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%5B%EB%84%A4%EC%9D%B4%EB%B9%84%5D-3.jpg',56),(163,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/41257f8a-ddc5-423d-a850-be95f5bd85f1_%EC%9A%B8%20%EB%B8%94%EB%A0%8C%EB%93%9C%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B0%9C%EB%A7%88%EC%B9%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%5B%EB%84%A4%EC%9D%B4%EB%B9%84%5D-4.jpg',56),(164,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/837e955c-3ab3-48c1-bf8a-5871abaec043_%EC%9A%B8%20%EB%B8%94%EB%A0%8C%EB%93%9C%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B0%9C%EB%A7%88%EC%B9%B8%20%EB%8D%94%ED%94%8C%20%EC%BD%94%ED%8A%B8%20%5B%EB%84%A4%EC%9D%B4%EB%B9%84%5D-5.jpg',56),(165,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/56a45207-f358-42dc-9c0b-6464cc38a967_%EC%BD%94%EB%93%80%EB%9D%BC%20%EB%B9%85%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EC%9B%A8%EC%9D%B4%EC%8A%A4%ED%8A%B8%20%EB%B0%B1%20%5B%EB%B8%94%EB%9E%99%5D-3.jpg',57),(166,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/3c7d413d-95aa-4435-b91d-e224de0e53d7_%EC%BD%94%EB%93%80%EB%9D%BC%20%EB%B9%85%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EC%9B%A8%EC%9D%B4%EC%8A%A4%ED%8A%B8%20%EB%B0%B1%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',57),(167,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/8275a2c4-725d-4f1d-9999-34ed3149cf02_%EC%BD%94%EB%93%80%EB%9D%BC%20%EB%B9%85%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EC%9B%A8%EC%9D%B4%EC%8A%A4%ED%8A%B8%20%EB%B0%B1%20%5B%EB%B8%94%EB%9E%99%5D-5.jpg',57),(168,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6f4e6d05-c772-4d09-9ab9-c0f2670146a2_%EC%BD%94%ED%8A%BC%20%EC%A0%95%EA%B8%80%20%EB%B2%84%ED%82%B7%20%ED%96%87%20%5B%EB%B8%94%EB%9E%99%5D-3.jpg',58),(169,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/2b010407-1fa2-4923-ac2e-09f8424c45e5_%EC%BD%94%ED%8A%BC%20%EC%A0%95%EA%B8%80%20%EB%B2%84%ED%82%B7%20%ED%96%87%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',58),(170,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/7bfb656f-4d29-4ac1-8738-e65ea70ffd58_%ED%97%A4%EB%B9%84%20%ED%8F%B0%ED%85%8C%20%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%ED%81%AC%EB%A3%A8%20%EB%84%A5%20%EA%B8%B4%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-3.jpg',59),(171,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/32cd00e1-6fee-403d-8e9d-821e0ca790f9_%ED%97%A4%EB%B9%84%20%ED%8F%B0%ED%85%8C%20%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%ED%81%AC%EB%A3%A8%20%EB%84%A5%20%EA%B8%B4%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-4.jpg',59),(172,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/7d7f6faf-613f-4239-bcf0-a9a7cf040476_%ED%97%A4%EB%B9%84%20%ED%8F%B0%ED%85%8C%20%EB%A6%B4%EB%A0%89%EC%8A%A4%EB%93%9C%20%ED%81%AC%EB%A3%A8%20%EB%84%A5%20%EA%B8%B4%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0%20%5B%EB%B8%94%EB%9E%99%5D-5.jpg',59),(173,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/e18b96f5-4eb0-47a4-80c4-6fdf201d55c2_%EB%A0%88%EC%B2%B4%20%ED%88%AC%ED%86%A4%20%EB%8D%95%20%EB%8B%A4%EC%9A%B4%20%ED%8C%A8%EB%94%A9%20%EA%B8%80%EB%A6%AC%ED%84%B0%20%EA%B7%B8%EB%A6%B0%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-3.jpg',60),(174,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/828f10f4-8dee-434b-b5b1-89574a96ce81_%EB%A0%88%EC%B2%B4%20%ED%88%AC%ED%86%A4%20%EB%8D%95%20%EB%8B%A4%EC%9A%B4%20%ED%8C%A8%EB%94%A9%20%EA%B8%80%EB%A6%AC%ED%84%B0%20%EA%B7%B8%EB%A6%B0%20%EB%B8%8C%EB%9D%BC%EC%9A%B4-4.jpg',60),(175,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/9b088544-9af6-4997-81fd-6457845e00de_%EB%A6%AC%EB%B2%B3%20%EC%95%84%ED%94%8C%EB%A6%AC%EC%BC%80%20%ED%8F%AC%EC%BC%93%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%93%9C%20%EC%98%A4%EA%B0%80%EB%8B%89%EB%B8%94%EB%9E%99-3.jpg',61),(176,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/41a770c6-37fe-4f8f-8f25-b85d9d312ac5_%EB%A6%AC%EB%B2%B3%20%EC%95%84%ED%94%8C%EB%A6%AC%EC%BC%80%20%ED%8F%AC%EC%BC%93%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%93%9C%20%EC%98%A4%EA%B0%80%EB%8B%89%EB%B8%94%EB%9E%99-4.jpg',61),(177,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/1de82d14-f846-4aca-9fd5-e4d4e3eae5a3_%EB%A6%AC%EB%B2%B3%20%EC%95%84%ED%94%8C%EB%A6%AC%EC%BC%80%20%ED%8F%AC%EC%BC%93%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%93%9C%20%EC%98%A4%EA%B0%80%EB%8B%89%EB%B8%94%EB%9E%99-5.jpg',61),(178,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/bde6cf50-18fb-45ab-8a4c-2851eb9cc2f3_%EB%A6%AC%EB%B2%B3%20%EC%95%84%ED%94%8C%EB%A6%AC%EC%BC%80%20%ED%8F%AC%EC%BC%93%20%EB%A1%9C%EA%B3%A0%20%ED%9B%84%EB%93%9C%20%EC%98%A4%EA%B0%80%EB%8B%89%EB%B8%94%EB%9E%99-6.jpg',61),(179,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/6081a539-b269-4463-aaae-6f95982f5442_%EB%B8%8C%EB%A3%A8%ED%81%B4%EB%A6%B0%20%EC%9B%8C%EC%8B%9C%EB%93%9C%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%ED%8C%AC%EC%B8%A0%20%EB%89%B4%ED%8A%B8%EB%A1%9C%20%EB%B8%94%EB%A3%A8-4.jpg',62),(180,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/7f60bc7e-ff68-4d7e-b234-21c49d3fccd2_%EB%B8%8C%EB%A3%A8%ED%81%B4%EB%A6%B0%20%EC%9B%8C%EC%8B%9C%EB%93%9C%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%ED%8C%AC%EC%B8%A0%20%EB%89%B4%ED%8A%B8%EB%A1%9C%20%EB%B8%94%EB%A3%A8-5.jpg',62),(181,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/8bcdb7d4-46c6-4a26-9fec-21f265f3a044_%EB%B8%8C%EB%A3%A8%ED%81%B4%EB%A6%B0%20%EC%9B%8C%EC%8B%9C%EB%93%9C%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%ED%8C%AC%EC%B8%A0%20%EB%89%B4%ED%8A%B8%EB%A1%9C%20%EB%B8%94%EB%A3%A8-6.jpg',62),(182,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/0d1f509a-d620-4bed-96fa-5e1fe46d879e_%EB%B9%88%ED%8B%B0%EC%A7%80%20%EC%BA%90%EC%A5%AC%EC%96%BC%20%EB%B3%BC%EC%BA%A1%20%EB%B9%88%ED%8B%B0%EC%A7%80%20%EA%B7%B8%EB%A0%88%EC%9D%B4-2.jpg',63),(183,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/dc6f693a-92c2-450e-a9ea-b243d2f2ca56_%EB%B9%88%ED%8B%B0%EC%A7%80%20%EC%BA%90%EC%A5%AC%EC%96%BC%20%EB%B3%BC%EC%BA%A1%20%EB%B9%88%ED%8B%B0%EC%A7%80%20%EA%B7%B8%EB%A0%88%EC%9D%B4-3.jpg',63),(184,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/b562b70b-06ee-4979-810d-f5e9c8aca312_%EC%84%B8%ED%84%B0%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%EB%B0%98%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0-2.jpg',64),(185,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/4fc49524-e636-4756-8bd9-e568d129c05d_%EC%84%B8%ED%84%B0%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%EB%B0%98%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0-3.jpg',64),(186,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/957a30be-615b-4335-9289-ceeb17fbc0c5_%EC%84%B8%ED%84%B0%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%EB%B0%98%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0-4.jpg',64),(187,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/2c1c49f1-9cf9-4853-b2bf-4981e7d0bdc3_%EC%84%B8%ED%84%B0%20%EC%98%AC%20%EB%8D%B0%EC%9D%B4%20%EB%B0%98%ED%8C%94%20%ED%8B%B0%EC%85%94%EC%B8%A0-5.jpg',64),(188,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/4e78157d-c477-438b-b356-2465bbeefe78_%EC%84%B8%ED%84%B0%20%EC%A7%80%ED%8D%BC%20%ED%92%80%EB%9F%AC%20%ED%8E%9C%EB%8D%98%ED%8A%B8%20%EB%AA%A9%EA%B1%B8%EC%9D%B4-3.jpg',65),(189,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/9649e8b9-83d8-4983-915b-942a904ef242_%EC%84%B8%ED%84%B0%20%EC%A7%80%ED%8D%BC%20%ED%92%80%EB%9F%AC%20%ED%8E%9C%EB%8D%98%ED%8A%B8%20%EB%AA%A9%EA%B1%B8%EC%9D%B4-4.jpg',65),(190,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/21b3334c-afbb-462b-b5ab-1fd8949943e0_%EC%84%B8%ED%84%B0%20%EC%A7%80%ED%8D%BC%20%ED%92%80%EB%9F%AC%20%ED%8E%9C%EB%8D%98%ED%8A%B8%20%EB%AA%A9%EA%B1%B8%EC%9D%B4-5.jpg',65),(191,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/76869c13-a6b4-4e80-8d5a-c05684adf884_%EC%9D%B4%EB%B9%84%EC%9E%90%20%EC%BD%94%EC%8A%A4%ED%8A%B8%20%EC%8B%9C%ED%8A%B8%EB%A1%A0%20%EB%A0%88%ED%8A%B8%EB%A1%9C%20%EB%84%A4%EC%B8%84%EB%9F%B4%20%EB%A9%94%EC%89%AC%20%EB%8B%88%ED%8A%B8%20%EB%84%A4%EC%B8%84%EB%9F%B4%EA%B7%B8%EB%A6%B0-2.jpg',66),(192,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/1fd5f444-4e49-4370-b6c8-c50ca2965e68_%EC%9D%B4%EB%B9%84%EC%9E%90%20%EC%BD%94%EC%8A%A4%ED%8A%B8%20%EC%8B%9C%ED%8A%B8%EB%A1%A0%20%EB%A0%88%ED%8A%B8%EB%A1%9C%20%EB%84%A4%EC%B8%84%EB%9F%B4%20%EB%A9%94%EC%89%AC%20%EB%8B%88%ED%8A%B8%20%EB%84%A4%EC%B8%84%EB%9F%B4%EA%B7%B8%EB%A6%B0-3.jpg',66),(193,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/89068499-8546-4f32-935e-269282e91d16_%EC%9D%B4%EB%B9%84%EC%9E%90%20%EC%BD%94%EC%8A%A4%ED%8A%B8%20%EC%8B%9C%ED%8A%B8%EB%A1%A0%20%EB%A0%88%ED%8A%B8%EB%A1%9C%20%EB%84%A4%EC%B8%84%EB%9F%B4%20%EB%A9%94%EC%89%AC%20%EB%8B%88%ED%8A%B8%20%EB%84%A4%EC%B8%84%EB%9F%B4%EA%B7%B8%EB%A6%B0-4.jpg',66),(194,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/89453210-c7f6-4dcc-9ab0-47d6aa7a891e_%ED%86%A0%EB%A6%AC%EB%85%B8%20%EC%84%B8%EB%AF%B8%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%ED%8C%AC%EC%B8%A0%20%EB%A6%AC%EC%A1%B0%ED%8A%B8%20%EB%B8%94%EB%9E%99-3.jpg',67),(195,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/8958e84a-5a1b-4233-b2e9-5232719d0c6b_%ED%86%A0%EB%A6%AC%EB%85%B8%20%EC%84%B8%EB%AF%B8%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%ED%8C%AC%EC%B8%A0%20%EB%A6%AC%EC%A1%B0%ED%8A%B8%20%EB%B8%94%EB%9E%99-4.jpg',67),(196,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/7c7e52d9-8add-4490-9f2f-b6bce89ff502_%ED%86%A0%EB%A6%AC%EB%85%B8%20%EC%84%B8%EB%AF%B8%20%EB%B6%80%EC%B8%A0%EC%BB%B7%20%EC%8A%A4%EC%9B%A8%ED%8A%B8%ED%8C%AC%EC%B8%A0%20%EB%A6%AC%EC%A1%B0%ED%8A%B8%20%EB%B8%94%EB%9E%99-5.jpg',67),(197,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/88f4ba2c-bb53-4050-a4a4-be6f11812fdd_%ED%8C%8C%EB%A1%9C%20%EC%98%A4%EB%B2%84%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%EB%84%A4%EC%9D%B4%EB%B9%84%20%ED%94%BC%EC%98%A4%EB%8B%88-3.jpg',68),(198,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/e9955f41-dc06-4b0d-a62e-5bc3687df763_%ED%8C%8C%EB%A1%9C%20%EC%98%A4%EB%B2%84%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%EB%84%A4%EC%9D%B4%EB%B9%84%20%ED%94%BC%EC%98%A4%EB%8B%88-4.jpg',68),(199,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/a1415741-7888-4e68-9e62-59a0ecdb1abf_%ED%8C%8C%EB%A1%9C%20%EC%98%A4%EB%B2%84%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%EB%84%A4%EC%9D%B4%EB%B9%84%20%ED%94%BC%EC%98%A4%EB%8B%88-5.jpg',68),(200,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/3e249765-cd33-4120-9959-fe44f074cb6a_%ED%8C%8C%EB%A1%9C%20%EC%98%A4%EB%B2%84%20%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%EB%84%A4%EC%9D%B4%EB%B9%84%20%ED%94%BC%EC%98%A4%EB%8B%88-6.jpg',68),(201,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/89a98934-bc8e-4ddf-a5a4-fd2f936958df_%ED%8C%8C%EB%A1%9C%20%ED%8F%AC%EC%BC%93%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%ED%81%B4%EB%9E%98%EC%8B%9D%20%EB%B8%94%EB%9E%99-2.jpg',69),(202,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/a0a78abc-8585-439a-b9ba-feab122666dd_%ED%8C%8C%EB%A1%9C%20%ED%8F%AC%EC%BC%93%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%ED%81%B4%EB%9E%98%EC%8B%9D%20%EB%B8%94%EB%9E%99-3.jpg',69),(203,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/bd217e0b-43e2-425a-8876-519ed3b3c1f0_%ED%8C%8C%EB%A1%9C%20%ED%8F%AC%EC%BC%93%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%ED%81%B4%EB%9E%98%EC%8B%9D%20%EB%B8%94%EB%9E%99-4.jpg',69),(204,'https://lonua-productintrod.s3.ap-northeast-2.amazonaws.com/2024/02/04/35c6e194-5561-4eda-9327-c3ba4a2f30bc_%ED%8C%8C%EB%A1%9C%20%ED%8F%AC%EC%BC%93%20%EC%98%A4%EB%B2%84%EC%82%AC%EC%9D%B4%EC%A6%88%20%EB%B6%80%ED%81%B4%20%EA%B0%80%EB%94%94%EA%B1%B4%20%ED%81%B4%EB%9E%98%EC%8B%9D%20%EB%B8%94%EB%9E%99-5.jpg',69);
 
 INSERT INTO `ProductCount`(productCountIdx, likeCount, lowerType1Count, lowerType2Count, lowerType3Count, upperType1Count, upperType2Count, upperType3Count, Product_idx) VALUES (1,0,0,0,0,0,0,0,1),(2,1,0,0,0,0,0,0,2),(3,0,0,0,0,0,0,0,3),(4,0,0,0,0,0,0,0,4),(5,0,0,0,0,0,0,0,5),(6,0,0,0,0,0,0,0,6),(7,0,0,0,0,0,0,0,7),(8,0,0,0,0,0,0,0,8),(9,0,0,0,0,0,0,0,9),(10,0,0,0,0,0,0,0,10),(11,0,0,0,0,0,0,0,11),(12,0,0,0,0,0,0,0,12),(14,0,0,0,0,0,0,0,14),(15,0,0,0,0,0,0,0,15),(16,0,0,0,0,0,0,0,16),(17,0,0,0,0,0,0,0,17),(18,0,0,0,0,0,0,0,18),(19,0,0,0,0,0,0,0,19),(20,0,0,0,0,0,0,0,20),(21,0,0,0,0,0,0,0,21),(22,0,0,0,0,0,0,0,22),(23,0,0,0,0,0,0,0,23),(24,0,0,0,0,0,0,0,24),(25,0,0,0,0,0,0,0,25),(26,0,0,0,0,0,0,0,26),(27,0,0,0,0,0,0,0,27),(28,0,0,0,0,0,0,0,28),(29,0,0,0,0,0,0,0,29),(30,0,0,0,0,0,0,0,30),(31,0,0,0,0,0,0,0,31),(32,0,0,0,0,0,0,0,32),(33,0,0,0,0,0,0,0,33),(34,0,0,0,0,0,0,0,34),(35,0,0,0,0,0,0,0,35),(36,0,0,0,0,0,0,0,36),(37,0,0,0,0,0,0,0,37),(38,0,0,0,0,0,0,0,38),(39,0,0,0,0,0,0,0,39),(40,0,0,0,0,0,0,0,40),(41,0,0,0,0,0,0,0,41),(42,0,0,0,0,0,0,0,42),(43,0,0,0,0,0,0,0,43),(44,0,0,0,0,0,0,0,44),(45,0,0,0,0,0,0,0,45),(46,0,0,0,0,0,0,0,46),(47,0,0,0,0,0,0,0,47),(48,0,0,0,0,0,0,0,48),(49,0,0,0,0,0,0,0,49),(50,0,0,0,0,0,0,0,50),(51,0,0,0,0,0,0,0,51),(52,0,0,0,0,0,0,0,52),(53,0,0,0,0,0,0,0,53),(54,0,0,0,0,0,0,0,54),(55,0,0,0,0,0,0,0,55),(56,0,0,0,0,0,0,0,56),(57,0,0,0,0,0,0,0,57),(58,0,0,0,0,0,0,0,58),(59,0,0,0,0,0,0,0,59),(60,0,0,0,0,0,0,0,60),(61,0,0,0,0,0,0,0,61),(62,0,0,0,0,0,0,0,62),(63,0,0,0,0,0,0,0,63),(64,0,0,0,0,0,0,0,64),(65,0,0,0,0,0,0,0,65),(66,0,0,0,0,0,0,0,66),(67,0,0,0,0,0,0,0,67),(68,0,0,0,0,0,0,0,68),(69,0,0,0,0,0,0,0,69);
\ No newline at end of file
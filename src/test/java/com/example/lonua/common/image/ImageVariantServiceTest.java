@@ -0,0 +1,126 @@
+package com.example.lonua.common.image;
+
+import com.example.lonua.common.image.model.entity.ImageVariant;
+import com.example.lonua.common.image.repository.ImageVariantRepository;
+import com.example.lonua.common.storage.LocalImageStorage;
+import com.example.lonua.common.storage.S3ObjectCleaner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// S3 대신 로컬 파일 시스템 저장소로 파생본 생성 결과를 검증한다.
+class ImageVariantServiceTest {
+
+    private static final String BUCKET = "product";
+
+    @TempDir
+    Path root;
+
+    private LocalImageStorage imageStorage;
+    private ThreadPoolTaskExecutor imageExecutor;
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        imageStorage = new LocalImageStorage(root);
+
+        ImageVariantRepository imageVariantRepository = mock(ImageVariantRepository.class);
+        when(imageVariantRepository.save(any(ImageVariant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        imageExecutor = new ThreadPoolTaskExecutor();
+        imageExecutor.initialize();
+
+        imageVariantService = new ImageVariantService(imageStorage, imageVariantRepository, mock(S3ObjectCleaner.class), imageExecutor,
+                300, 1080, 0.8f, 3_000_000L, 1_000_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageExecutor.shutdown();
+    }
+
+    // 긴 변 기준으로 비율을 유지하며 줄이고, 원본 경로 아래 thumbnail/compressed 에 JPEG 로 저장한다.
+    @Test
+    void createVariants_resizesKeepingAspectRatio() throws IOException {
+        String url = imageStorage.write(BUCKET, "2024/01/14/uuid_shirt.png", png(2400, 1200), "image/png");
+
+        ImageVariant variant = imageVariantService.createVariants(BUCKET, url);
+
+        assertThat(variant.getOriginalImage()).isEqualTo(url);
+        assertThat(imageStorage.keyOf(BUCKET, variant.getThumbnailImage())).isEqualTo("thumbnail/2024/01/14/uuid_shirt.jpg");
+        assertThat(imageStorage.keyOf(BUCKET, variant.getCompressedImage())).isEqualTo("compressed/2024/01/14/uuid_shirt.jpg");
+
+        BufferedImage thumbnail = read(variant.getThumbnailImage());
+        assertThat(thumbnail.getWidth()).isEqualTo(300);
+        assertThat(thumbnail.getHeight()).isEqualTo(150);
+
+        BufferedImage compressed = read(variant.getCompressedImage());
+        assertThat(compressed.getWidth()).isEqualTo(1080);
+        assertThat(compressed.getHeight()).isEqualTo(540);
+    }
+
+    // 기준보다 작은 이미지는 늘리지 않는다.
+    @Test
+    void createVariants_doesNotUpscaleSmallImages() throws IOException {
+        String url = imageStorage.write(BUCKET, "2024/01/14/uuid_icon.png", png(120, 200), "image/png");
+
+        ImageVariant variant = imageVariantService.createVariants(BUCKET, url);
+
+        BufferedImage thumbnail = read(variant.getThumbnailImage());
+        assertThat(thumbnail.getWidth()).isEqualTo(120);
+        assertThat(thumbnail.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    void createVariants_rejectsUnsupportedFormat() throws IOException {
+        String url = imageStorage.write(BUCKET, "2024/01/14/uuid_note.txt", "not an image".getBytes(), "text/plain");
+
+        assertThatThrownBy(() -> imageVariantService.createVariants(BUCKET, url))
+                .isInstanceOf(IOException.class);
+    }
+
+    // 해상도가 제한(maxPixels)을 넘는 원본은 디코딩하지 않고 거절한다.
+    @Test
+    void createVariants_rejectsOversizedImage() throws IOException {
+        String url = imageStorage.write(BUCKET, "2024/01/14/uuid_poster.png", png(2000, 2000), "image/png");
+
+        assertThatThrownBy(() -> imageVariantService.createVariants(BUCKET, url))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("too large");
+    }
+
+    // 크기가 제한(maxBytes)을 넘는 원본은 읽지 않고 거절한다.
+    @Test
+    void createVariants_rejectsOversizedFile() throws IOException {
+        String url = imageStorage.write(BUCKET, "2024/01/14/uuid_huge.png", new byte[1_000_001], "image/png");
+
+        assertThatThrownBy(() -> imageVariantService.createVariants(BUCKET, url))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("too large");
+    }
+
+    private BufferedImage read(String url) throws IOException {
+        return ImageIO.read(Files.newInputStream(root.resolve(BUCKET).resolve(imageStorage.keyOf(BUCKET, url))));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
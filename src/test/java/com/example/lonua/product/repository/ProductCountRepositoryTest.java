@@ -0,0 +1,85 @@
+package com.example.lonua.product.repository;
+
+import com.example.lonua.product.model.entity.ProductCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductCountRepositoryTest {
+
+    private static final Integer PRODUCT_IDX = 1;
+    private static final Integer OTHER_PRODUCT_IDX = 2;
+    private static final int REQUEST_COUNT = 100;
+
+    @Autowired
+    private ProductCountRepository productCountRepository;
+
+    private List<ProductCount> originalCountList;
+
+    // 동시성 검증은 여러 스레드에서 커밋되어야 하므로 롤백 대신 테스트 전 카운트를 저장해 두었다가 되돌린다.
+    @BeforeEach
+    void setUp() {
+        originalCountList = List.of(
+                productCountRepository.findByProduct_ProductIdx(PRODUCT_IDX).get(),
+                productCountRepository.findByProduct_ProductIdx(OTHER_PRODUCT_IDX).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productCountRepository.saveAll(originalCountList);
+    }
+
+    // 동시에 좋아요를 눌러도 증가분이 유실되지 않아야 한다.
+    @Test
+    void increaseLikeCount_concurrently() throws InterruptedException {
+        Integer before = getLikeCount();
+
+        runConcurrently(() -> productCountRepository.increaseLikeCount(PRODUCT_IDX));
+        assertThat(getLikeCount()).isEqualTo(before + REQUEST_COUNT);
+
+        runConcurrently(() -> productCountRepository.decreaseLikeCount(PRODUCT_IDX));
+        assertThat(getLikeCount()).isEqualTo(before);
+    }
+
+    @Test
+    void increaseTypeCount_countsDuplicatedProducts() {
+        Integer before = productCountRepository.findByProduct_ProductIdx(PRODUCT_IDX).get().getUpperType1Count();
+
+        productCountRepository.increaseTypeCount(List.of(PRODUCT_IDX, PRODUCT_IDX, OTHER_PRODUCT_IDX), 1, 1);
+
+        assertThat(productCountRepository.findByProduct_ProductIdx(PRODUCT_IDX).get().getUpperType1Count()).isEqualTo(before + 2);
+    }
+
+    private Integer getLikeCount() {
+        return productCountRepository.findByProduct_ProductIdx(PRODUCT_IDX).get().getLikeCount();
+    }
+
+    private void runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.lonua.product.service;
+
+import com.example.lonua.product.exception.ProductNotFoundException;
+import com.example.lonua.product.exception.ProductStockException;
+import com.example.lonua.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProductStockServiceTest {
+
+    private static final Integer PRODUCT_IDX = 1;
+    private static final int STOCK = 10;
+    private static final int REQUEST_COUNT = 100;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Integer originalQuantity;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 상품의 재고를 STOCK 개로 맞춘다.
+        originalQuantity = getQuantity();
+        productRepository.increaseQuantity(PRODUCT_IDX, STOCK);
+        productRepository.decreaseQuantity(PRODUCT_IDX, originalQuantity);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.decreaseQuantity(PRODUCT_IDX, getQuantity());
+        productRepository.increaseQuantity(PRODUCT_IDX, originalQuantity);
+    }
+
+    // 재고보다 많은 주문이 동시에 들어와도 재고만큼만 성공하고 재고는 음수가 되지 않아야 한다.
+    @Test
+    void reserve_neverOversellsUnderContention() throws InterruptedException {
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    productStockService.reserve(List.of(PRODUCT_IDX));
+                    successCount.incrementAndGet();
+                } catch (ProductStockException e) {
+                    outOfStockCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(STOCK);
+        assertThat(outOfStockCount.get()).isEqualTo(REQUEST_COUNT - STOCK);
+        assertThat(getQuantity()).isZero();
+    }
+
+    // 같은 상품을 재고보다 많이 담은 주문은 한 개도 차감되지 않아야 한다.
+    @Test
+    void reserve_failsWholeQuantityWhenShort() {
+        List<Integer> productIdxList = Collections.nCopies(STOCK + 1, PRODUCT_IDX);
+
+        assertThatThrownBy(() -> productStockService.reserve(productIdxList))
+                .isInstanceOf(ProductStockException.class);
+        assertThat(getQuantity()).isEqualTo(STOCK);
+    }
+
+    // 없는 상품은 재고 부족이 아니라 상품 없음으로 실패해야 한다.
+    @Test
+    void reserve_failsWithNotFoundForUnknownProduct() {
+        assertThatThrownBy(() -> productStockService.reserve(List.of(Integer.MAX_VALUE)))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    private Integer getQuantity() {
+        return productRepository.findById(PRODUCT_IDX).get().getQuantity();
+    }
+}